@@ -20,6 +20,11 @@ public final class Events {
 	 */
 	public final static String JOB_WORKER_ADDRESS = "job.worker";
 
+	/**
+	 * Address for handler which will apply the search outbox entries to the search index.
+	 */
+	public final static String SEARCH_INDEXER_ADDRESS = "search.indexer";
+
 	/**
 	 * Event which is send once a new node is joining the cluster.
 	 */
@@ -45,6 +50,21 @@ public final class Events {
 	 */
 	public static final String EVENT_CLEAR_PERMISSION_STORE = "mesh.clear-permission-store";
 
+	/**
+	 * Event which is send to invalidate the cached permissions of specific users and elements.
+	 */
+	public static final String EVENT_INVALIDATE_PERMISSIONS = "mesh.invalidate-permissions";
+
+	/**
+	 * Event which is send to invalidate the cached paths of a specific node or of all nodes.
+	 */
+	public static final String EVENT_INVALIDATE_PATHS = "mesh.invalidate-paths";
+
+	/**
+	 * Event which is send to invalidate the cached node responses.
+	 */
+	public static final String EVENT_INVALIDATE_RESPONSES = "mesh.invalidate-responses";
+
 	/* User */
 
 	public static final String EVENT_USER_CREATED = "mesh.user.created";
@@ -145,6 +165,9 @@ public final class Events {
 
 		events.add(EVENT_CLUSTER_DATABASE_CHANGE_STATUS);
 		events.add(EVENT_CLEAR_PERMISSION_STORE);
+		events.add(EVENT_INVALIDATE_PERMISSIONS);
+		events.add(EVENT_INVALIDATE_PATHS);
+		events.add(EVENT_INVALIDATE_RESPONSES);
 
 		/* User */
 
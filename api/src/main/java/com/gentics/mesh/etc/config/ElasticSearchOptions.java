@@ -16,6 +16,10 @@ public class ElasticSearchOptions {
 
 	public static final String DEFAULT_DIRECTORY = "data" + File.separator + "searchindex";
 
+	public static final int DEFAULT_BULK_LIMIT = 1000;
+
+	public static final long DEFAULT_BULK_FLUSH_INTERVAL = 50;
+
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("Path to the elasticsearch data directory.")
 	private String directory = DEFAULT_DIRECTORY;
@@ -32,6 +36,18 @@ public class ElasticSearchOptions {
 	@JsonPropertyDescription("Additional set of search parameters.")
 	private Map<String, Object> parameters = new HashMap<>();
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether requests should wait until the search index has been updated. By default the changes are persisted in the search outbox and applied to the search index in the background.")
+	private boolean waitForIndex = false;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of document actions which will be sent to elasticsearch within a single bulk request. The bulk size will be reduced automatically when elasticsearch rejects requests.")
+	private int bulkLimit = DEFAULT_BULK_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Interval in milliseconds after which pending document actions will be sent to elasticsearch even if the bulk limit has not been reached.")
+	private long bulkFlushInterval = DEFAULT_BULK_FLUSH_INTERVAL;
+
 	/**
 	 * Check whether the http server should be enabled.
 	 * 
@@ -104,6 +120,66 @@ public class ElasticSearchOptions {
 		return parameters;
 	}
 
+	/**
+	 * Check whether requests should wait until the search index has been updated.
+	 * 
+	 * @return
+	 */
+	public boolean isWaitForIndex() {
+		return waitForIndex;
+	}
+
+	/**
+	 * Set the flag which indicates whether requests should wait until the search index has been updated.
+	 * 
+	 * @param waitForIndex
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setWaitForIndex(boolean waitForIndex) {
+		this.waitForIndex = waitForIndex;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of document actions per bulk request.
+	 * 
+	 * @return
+	 */
+	public int getBulkLimit() {
+		return bulkLimit;
+	}
+
+	/**
+	 * Set the maximum amount of document actions per bulk request.
+	 * 
+	 * @param bulkLimit
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setBulkLimit(int bulkLimit) {
+		this.bulkLimit = bulkLimit;
+		return this;
+	}
+
+	/**
+	 * Return the interval in milliseconds after which pending document actions will be sent.
+	 * 
+	 * @return
+	 */
+	public long getBulkFlushInterval() {
+		return bulkFlushInterval;
+	}
+
+	/**
+	 * Set the interval in milliseconds after which pending document actions will be sent.
+	 * 
+	 * @param bulkFlushInterval
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setBulkFlushInterval(long bulkFlushInterval) {
+		this.bulkFlushInterval = bulkFlushInterval;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
 		if (meshOptions.getClusterOptions() != null && meshOptions.getClusterOptions().isEnabled() && getTransportPort() == null) {
 			throw new NullPointerException("The searchprovider transport port setting must be configured when clustering is enabled.");
@@ -59,6 +59,14 @@ public class MeshOptions {
 	@JsonPropertyDescription("Image handling options.")
 	private ImageManipulatorOptions imageOptions = new ImageManipulatorOptions();
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Response cache options.")
+	private ResponseCacheOptions responseCacheOptions = new ResponseCacheOptions();
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Migration options.")
+	private MigrationOptions migrationOptions = new MigrationOptions();
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Path to the central tmp directory.")
 	private String tempDirectory = "data" + File.separator + "tmp";
@@ -253,6 +261,48 @@ public class MeshOptions {
 		return this;
 	}
 
+	/**
+	 * Return the response cache options.
+	 * 
+	 * @return
+	 */
+	@JsonProperty("responseCache")
+	public ResponseCacheOptions getResponseCacheOptions() {
+		return responseCacheOptions;
+	}
+
+	/**
+	 * Set the response cache options.
+	 * 
+	 * @param responseCacheOptions
+	 * @return Fluent API
+	 */
+	public MeshOptions setResponseCacheOptions(ResponseCacheOptions responseCacheOptions) {
+		this.responseCacheOptions = responseCacheOptions;
+		return this;
+	}
+
+	/**
+	 * Return the migration options.
+	 * 
+	 * @return
+	 */
+	@JsonProperty("migration")
+	public MigrationOptions getMigrationOptions() {
+		return migrationOptions;
+	}
+
+	/**
+	 * Set the migration options.
+	 * 
+	 * @param migrationOptions
+	 * @return Fluent API
+	 */
+	public MeshOptions setMigrationOptions(MigrationOptions migrationOptions) {
+		this.migrationOptions = migrationOptions;
+		return this;
+	}
+
 	/**
 	 * Return update checker flag.
 	 * 
@@ -0,0 +1,93 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+
+/**
+ * Migration options are used to configure the execution of jobs and of node and release migrations.
+ */
+@GenerateDocumentation
+public class MigrationOptions {
+
+	public static final int DEFAULT_CHUNK_SIZE = 50;
+
+	public static final int DEFAULT_WORKER_COUNT = 2;
+
+	public static final int DEFAULT_CONCURRENT_JOBS = 2;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of containers (node migrations) or nodes (release migrations) which will be migrated within a single transaction. Default: "
+			+ DEFAULT_CHUNK_SIZE)
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of worker threads which will migrate the chunks in parallel. Default: " + DEFAULT_WORKER_COUNT)
+	private int workerCount = DEFAULT_WORKER_COUNT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of jobs which will be executed concurrently by this instance. Jobs which affect the same release will never be executed concurrently. Default: "
+			+ DEFAULT_CONCURRENT_JOBS)
+	private int concurrentJobs = DEFAULT_CONCURRENT_JOBS;
+
+	/**
+	 * Return the amount of containers or nodes which will be migrated within a single transaction.
+	 *
+	 * @return
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Set the amount of containers or nodes which will be migrated within a single transaction.
+	 *
+	 * @param chunkSize
+	 * @return Fluent API
+	 */
+	public MigrationOptions setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	/**
+	 * Return the amount of worker threads which will migrate the chunks in parallel.
+	 *
+	 * @return
+	 */
+	public int getWorkerCount() {
+		return workerCount;
+	}
+
+	/**
+	 * Set the amount of worker threads which will migrate the chunks in parallel.
+	 *
+	 * @param workerCount
+	 * @return Fluent API
+	 */
+	public MigrationOptions setWorkerCount(int workerCount) {
+		this.workerCount = workerCount;
+		return this;
+	}
+
+	/**
+	 * Return the amount of jobs which will be executed concurrently.
+	 *
+	 * @return
+	 */
+	public int getConcurrentJobs() {
+		return concurrentJobs;
+	}
+
+	/**
+	 * Set the amount of jobs which will be executed concurrently.
+	 *
+	 * @param concurrentJobs
+	 * @return Fluent API
+	 */
+	public MigrationOptions setConcurrentJobs(int concurrentJobs) {
+		this.concurrentJobs = concurrentJobs;
+		return this;
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+
+/**
+ * Response cache options are used to configure the cache for rendered node and webroot responses.
+ */
+@GenerateDocumentation
+public class ResponseCacheOptions {
+
+	public static final long DEFAULT_MAX_SIZE_MB = 64;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which can be used to enable the cache for rendered node and webroot responses. Default: false")
+	private boolean enabled = false;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum size of the cached responses in megabytes. The least recently used responses will be evicted once the size is exceeded. Default: "
+			+ DEFAULT_MAX_SIZE_MB)
+	private long maxSizeMB = DEFAULT_MAX_SIZE_MB;
+
+	/**
+	 * Check whether the response cache is enabled.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Set the flag which enables the response cache.
+	 *
+	 * @param enabled
+	 * @return Fluent API
+	 */
+	public ResponseCacheOptions setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		return this;
+	}
+
+	/**
+	 * Return the maximum size of the cached responses in megabytes.
+	 *
+	 * @return
+	 */
+	public long getMaxSizeMB() {
+		return maxSizeMB;
+	}
+
+	/**
+	 * Set the maximum size of the cached responses in megabytes.
+	 *
+	 * @param maxSizeMB
+	 * @return Fluent API
+	 */
+	public ResponseCacheOptions setMaxSizeMB(long maxSizeMB) {
+		this.maxSizeMB = maxSizeMB;
+		return this;
+	}
+
+}
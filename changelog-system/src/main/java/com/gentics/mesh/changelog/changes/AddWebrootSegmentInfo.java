@@ -0,0 +1,95 @@
+package com.gentics.mesh.changelog.changes;
+
+import static com.tinkerpop.blueprints.Direction.IN;
+import static com.tinkerpop.blueprints.Direction.OUT;
+
+import java.util.Iterator;
+
+import com.gentics.mesh.changelog.AbstractChange;
+import com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Vertex;
+
+import io.vertx.core.json.JsonObject;
+
+public class AddWebrootSegmentInfo extends AbstractChange {
+
+	public static final String WEBROOT_SEGMENT = "webrootSegment";
+
+	@Override
+	public String getUuid() {
+		return "B92DA04C7E22492B938618761D154095";
+	}
+
+	@Override
+	public String getName() {
+		return "Add webroot segment info";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Adds the segment and parent node of the field containers to the release specific container edges which are used to resolve webroot paths";
+	}
+
+	@Override
+	public void apply() {
+		// Iterate over all field container
+		Iterable<Vertex> vertices = getGraph().getVertices(PolymorphicTypeResolver.TYPE_RESOLUTION_KEY, "NodeGraphFieldContainerImpl");
+		for (Vertex container : vertices) {
+			migrateContainer(container);
+		}
+	}
+
+	private void migrateContainer(Vertex container) {
+		String segment = getSegment(container);
+		if (segment == null) {
+			return;
+		}
+
+		for (Edge edge : container.getEdges(IN, "HAS_FIELD_CONTAINER")) {
+			String type = edge.getProperty("edgeType");
+			if (!"D".equals(type) && !"P".equals(type)) {
+				continue;
+			}
+			String releaseUuid = edge.getProperty("releaseUuid");
+			Vertex node = edge.getVertex(OUT);
+			for (Edge parentEdge : node.getEdges(OUT, "HAS_PARENT_NODE")) {
+				if (releaseUuid.equals(parentEdge.getProperty("releaseUuid"))) {
+					String parentUuid = parentEdge.getVertex(IN).getProperty("uuid");
+					edge.setProperty(WEBROOT_SEGMENT, segment + "-" + parentUuid);
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Determine the segment of the container using the string or binary field which is referenced by the segment field of the schema.
+	 *
+	 * @param container
+	 * @return Segment or null if the container has no segment
+	 */
+	private String getSegment(Vertex container) {
+		Iterator<Vertex> versionIt = container.getVertices(OUT, "HAS_SCHEMA_CONTAINER_VERSION").iterator();
+		if (!versionIt.hasNext()) {
+			return null;
+		}
+		String json = versionIt.next().getProperty("json");
+		String segmentField = new JsonObject(json).getString("segmentField");
+		if (segmentField == null) {
+			return null;
+		}
+
+		String segment = container.getProperty(segmentField + "-string");
+		if (segment != null) {
+			return segment;
+		}
+		for (Edge fieldEdge : container.getEdges(OUT, "HAS_FIELD")) {
+			if (segmentField.equals(fieldEdge.getProperty("fieldkey"))) {
+				return fieldEdge.getProperty("binaryFilename");
+			}
+		}
+		return null;
+	}
+
+}
@@ -18,6 +18,7 @@ import com.gentics.mesh.util.ETag;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -77,6 +78,13 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 		rc.response().setStatusCode(status.code()).end(body);
 	}
 
+	@Override
+	public void send(Buffer body, HttpResponseStatus status, String contentType) {
+		rc.response().putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+		rc.response().putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+		rc.response().setStatusCode(status.code()).end(body);
+	}
+
 	@Override
 	public void send(HttpResponseStatus status) {
 		rc.response().setStatusCode(status.code()).end();
@@ -0,0 +1,292 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.Events.EVENT_INVALIDATE_PATHS;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.graphdb.spi.TxHooks;
+import com.gentics.mesh.util.Tuple;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for the rendered paths of nodes which is shared across requests. It is used by the webroot path handling and by the link renderer.
+ *
+ * The cache stores the paths of a node per release, container type and language fallback. Each instance additionally keeps track of the ancestors whose
+ * segments are contained in the cached paths. A change to the segment, the parent or the publish state of a node thus invalidates the paths of the node
+ * itself and the paths of the nodes within its subtree. The invalidations are applied once the transaction which changed the nodes has been committed and
+ * are sent to the other instances in the cluster using a single event per transaction. The transaction which changed the nodes renders the affected paths
+ * without the cache until it has been committed.
+ *
+ * Only the rendering of paths is cached. The resolution of webroot paths to nodes uses the webroot index of the containers.
+ */
+public final class PathCache {
+
+	private static final Logger log = LoggerFactory.getLogger(PathCache.class);
+
+	/**
+	 * Uuids of the nodes whose cached paths contain the segment of the node with the key uuid.
+	 */
+	private static final Map<String, Set<String>> DESCENDANTS = new ConcurrentHashMap<>();
+
+	private static final Cache<String, NodePaths> NODE_PATHS = Caffeine.newBuilder().maximumSize(50_000).expireAfterWrite(30, TimeUnit.MINUTES)
+			.executor(Runnable::run).removalListener((String nodeUuid, NodePaths paths, RemovalCause cause) -> {
+				// The node may already have been cached again in the meantime
+				if (PathCache.NODE_PATHS.getIfPresent(nodeUuid) == null) {
+					for (String ancestorUuid : paths.ancestors) {
+						DESCENDANTS.computeIfPresent(ancestorUuid, (uuid, descendants) -> {
+							descendants.remove(nodeUuid);
+							return descendants.isEmpty() ? null : descendants;
+						});
+					}
+				}
+			}).build();
+
+	private static final AtomicLong hits = new AtomicLong();
+
+	private static final AtomicLong misses = new AtomicLong();
+
+	private static final AtomicLong invalidatedNodes = new AtomicLong();
+
+	private static final AtomicLong fullInvalidations = new AtomicLong();
+
+	private static final String INVALIDATION_HOOK = "path-cache-invalidation";
+
+	private static final String FULL_INVALIDATION_HOOK = "path-cache-full-invalidation";
+
+	/**
+	 * Return the cached path of the node. The path will be rendered using the given loader if it is not yet cached. Paths which could not be rendered are not
+	 * cached.
+	 *
+	 * @param nodeUuid
+	 *            Uuid of the node
+	 * @param key
+	 *            Key which identifies the release, type and languages of the path
+	 * @param loader
+	 *            Loader which renders the path and returns it along with the uuids of the ancestors whose segments are contained in the path
+	 * @return Rendered path or null if the path could not be rendered
+	 */
+	public static String getPath(String nodeUuid, String key, Function<String, Tuple<String, Collection<String>>> loader) {
+		NodePaths paths = NODE_PATHS.get(nodeUuid, uuid -> new NodePaths());
+		if (isChangedWithinTx(Collections.singleton(nodeUuid)) || isChangedWithinTx(paths.ancestors)) {
+			// The path was changed within the current transaction. The uncommitted path must not be cached.
+			misses.incrementAndGet();
+			Tuple<String, Collection<String>> rendered = loader.apply(key);
+			return rendered == null ? null : rendered.v1();
+		}
+		String path = paths.paths.get(key);
+		if (path != null) {
+			hits.incrementAndGet();
+			return path;
+		}
+		misses.incrementAndGet();
+		// The entry may already have been invalidated while the path was rendered. In that case the rendered path will just be discarded along with the entry.
+		Tuple<String, Collection<String>> rendered = loader.apply(key);
+		if (rendered != null && rendered.v1() != null && !isChangedWithinTx(rendered.v2())) {
+			// The ancestors need to be registered before the path is added. Otherwise a concurrent change of an ancestor could miss the path.
+			for (String ancestorUuid : rendered.v2()) {
+				paths.ancestors.add(ancestorUuid);
+				DESCENDANTS.compute(ancestorUuid, (uuid, descendants) -> {
+					if (descendants == null) {
+						descendants = ConcurrentHashMap.newKeySet();
+					}
+					descendants.add(nodeUuid);
+					return descendants;
+				});
+			}
+			path = rendered.v1();
+			paths.paths.put(key, path);
+		}
+		return path;
+	}
+
+	/**
+	 * Check whether any of the given nodes was changed within the current transaction.
+	 *
+	 * @param nodeUuids
+	 * @return
+	 */
+	private static boolean isChangedWithinTx(Collection<String> nodeUuids) {
+		if (TxHooks.isCollected(FULL_INVALIDATION_HOOK, Boolean.TRUE)) {
+			return true;
+		}
+		for (String nodeUuid : nodeUuids) {
+			if (TxHooks.isCollected(INVALIDATION_HOOK, nodeUuid)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Create the key for a path of a node.
+	 *
+	 * @param releaseUuid
+	 * @param typeCode
+	 * @param languageTags
+	 * @return
+	 */
+	public static String composeKey(String releaseUuid, String typeCode, String... languageTags) {
+		return releaseUuid + "-" + typeCode + "-" + String.join(",", languageTags);
+	}
+
+	/**
+	 * Invalidate the cached paths which are affected by a change of the node and notify the other instances in the cluster. This needs to be invoked whenever
+	 * the segment, the parent or the publish state of the node changes.
+	 *
+	 * @param node
+	 */
+	public static void invalidate(Node node) {
+		invalidate(node.getUuid());
+	}
+
+	/**
+	 * Invalidate the cached paths of the node and of the nodes within its subtree and notify the other instances in the cluster once the transaction has been
+	 * committed.
+	 *
+	 * @param nodeUuid
+	 */
+	public static void invalidate(String nodeUuid) {
+		TxHooks.afterCommit(INVALIDATION_HOOK, nodeUuid, nodeUuids -> {
+			for (String uuid : nodeUuids) {
+				invalidatedNodes.addAndGet(invalidateSubtree(uuid));
+			}
+			publish(new JsonObject().put("nodes", new JsonArray(new ArrayList<>(nodeUuids))));
+		});
+	}
+
+	/**
+	 * Invalidate all cached paths and notify the other instances in the cluster once the transaction has been committed.
+	 */
+	public static void invalidate() {
+		TxHooks.afterCommit(FULL_INVALIDATION_HOOK, Boolean.TRUE, values -> {
+			fullInvalidations.incrementAndGet();
+			NODE_PATHS.invalidateAll();
+			publish(new JsonObject());
+		});
+	}
+
+	/**
+	 * Invalidate the cached paths of the node and of all nodes whose cached paths contain the segment of the node.
+	 *
+	 * @param nodeUuid
+	 * @return Amount of invalidated nodes
+	 */
+	private static int invalidateSubtree(String nodeUuid) {
+		Set<String> descendants = DESCENDANTS.remove(nodeUuid);
+		NODE_PATHS.invalidate(nodeUuid);
+		if (descendants == null) {
+			return 1;
+		}
+		NODE_PATHS.invalidateAll(descendants);
+		return descendants.size() + 1;
+	}
+
+	/**
+	 * Publish the invalidation event. Nodes may already be changed while the initial data is created and Vert.x has not yet been started.
+	 *
+	 * @param body
+	 */
+	private static void publish(JsonObject body) {
+		Vertx vertx = Mesh.vertx();
+		if (vertx != null) {
+			vertx.eventBus().publish(EVENT_INVALIDATE_PATHS, body.put("origin", Mesh.mesh().getOptions().getNodeName()));
+		}
+	}
+
+	/**
+	 * Register the event handler which can be used to invalidate the cache. The events which were published by this instance are ignored since they have
+	 * already been applied.
+	 */
+	public static void registerEventHandler() {
+		Mesh.vertx().eventBus().consumer(EVENT_INVALIDATE_PATHS, (Message<JsonObject> e) -> {
+			JsonObject body = e.body() == null ? new JsonObject() : e.body();
+			if (Mesh.mesh().getOptions().getNodeName().equals(body.getString("origin"))) {
+				return;
+			}
+			JsonArray nodeUuids = body.getJsonArray("nodes");
+			if (log.isDebugEnabled()) {
+				log.debug("Invalidating paths of {" + (nodeUuids == null ? "all nodes" : nodeUuids.encode()) + "} due to received event");
+			}
+			if (nodeUuids == null) {
+				fullInvalidations.incrementAndGet();
+				NODE_PATHS.invalidateAll();
+			} else {
+				for (Object nodeUuid : nodeUuids) {
+					invalidatedNodes.addAndGet(invalidateSubtree(String.valueOf(nodeUuid)));
+				}
+			}
+		});
+	}
+
+	/**
+	 * Return the amount of paths which were answered from the cache.
+	 *
+	 * @return
+	 */
+	public static long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Return the amount of paths which had to be rendered.
+	 *
+	 * @return
+	 */
+	public static long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Return the amount of node entries which have been invalidated.
+	 *
+	 * @return
+	 */
+	public static long getInvalidatedNodeCount() {
+		return invalidatedNodes.get();
+	}
+
+	/**
+	 * Return the amount of invalidations of the whole cache.
+	 *
+	 * @return
+	 */
+	public static long getFullInvalidationCount() {
+		return fullInvalidations.get();
+	}
+
+	/**
+	 * Cached paths of a single node.
+	 */
+	private static final class NodePaths {
+
+		/**
+		 * Rendered paths per release, type and language fallback.
+		 */
+		private final Map<String, String> paths = new ConcurrentHashMap<>();
+
+		/**
+		 * Uuids of the ancestors whose segments are contained in the paths.
+		 */
+		private final Set<String> ancestors = ConcurrentHashMap.newKeySet();
+	}
+
+}
@@ -1,75 +1,251 @@
 package com.gentics.mesh.core.cache;
 
 import static com.gentics.mesh.Events.EVENT_CLEAR_PERMISSION_STORE;
+import static com.gentics.mesh.Events.EVENT_INVALIDATE_PERMISSIONS;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.graphdb.spi.TxHooks;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ *
+ * The cache stores the role set of each user and the permissions of each element. Users which share the same roles reference the same canonical
+ * {@link RoleSet}. The element permissions map the ids of all roles which have a permission on the element to a bitset of the granted
+ * {@link GraphPermission} ordinals. The effective permissions of a role set are computed once per element and shared by all users with this role set. This
+ * way granting and denying results are both answered from the cache and changes only need to invalidate the affected users or elements.
+ *
+ * Since denying results are cached as well, the invalidations are applied once the transaction which changed the permissions has been committed. Otherwise
+ * a concurrent request could load the outdated permissions into the cache again. The transaction which changed the permissions bypasses the cache for the
+ * affected users and elements until it has been committed. All ids are keyed by their string representation (e.g. "#12:345" for
+ * OrientDB) which is already compact. The representation is needed anyway to send the invalidations to the other instances in the cluster and can't be
+ * converted back into the id type of the graph database within this module.
  */
 public final class PermissionStore {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionStore.class);
 
-	public static final Cache<String, Boolean> PERM_CACHE = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(30, TimeUnit.MINUTES).build();
+	public static final Cache<String, RoleSet> USER_ROLES = Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(30, TimeUnit.MINUTES)
+			.recordStats().build();
+
+	public static final Cache<String, ElementPermissions> ELEMENT_PERMISSIONS = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(30,
+			TimeUnit.MINUTES).recordStats().build();
 
 	/**
-	 * Check whether the granting user permission was stored in the cache.
-	 * 
+	 * Canonical role sets by their id.
+	 */
+	private static final Cache<String, RoleSet> ROLE_SETS = Caffeine.newBuilder().weakValues().build();
+
+	private static final AtomicLong invalidatedUsers = new AtomicLong();
+
+	private static final AtomicLong invalidatedElements = new AtomicLong();
+
+	private static final AtomicLong fullInvalidations = new AtomicLong();
+
+	private static final String USER_INVALIDATION_HOOK = "permission-store-user-invalidation";
+
+	private static final String ELEMENT_INVALIDATION_HOOK = "permission-store-element-invalidation";
+
+	/**
+	 * Check whether the user has the permission on the element. The role ids and element permissions will be loaded using the given loaders if they are not
+	 * yet cached. The read permission also includes the read published permission.
+	 *
 	 * @param userId
 	 *            Vertex id of the user
 	 * @param permission
 	 *            Permission to check against
 	 * @param elementId
 	 *            Vertex id of the element to which permissions should be checked
-	 * @return true, if a granting permission was found or false if the permission could not be found in the cache
+	 * @param roleLoader
+	 *            Loader which returns the role ids of the user
+	 * @param permissionLoader
+	 *            Loader which returns the permission bitsets per role id for the element
+	 * @return
+	 */
+	public static boolean hasPermission(Object userId, GraphPermission permission, Object elementId, Function<Object, Set<String>> roleLoader,
+			Function<Object, Map<String, Integer>> permissionLoader) {
+		RoleSet roleSet = getRoleSet(userId, roleLoader);
+		return hasPermission(roleSet, permissionMask(permission), elementId, permissionLoader);
+	}
+
+	/**
+	 * Check the permission of the user on all given elements. The role set of the user is only resolved once.
+	 *
+	 * @param userId
+	 *            Vertex id of the user
+	 * @param permission
+	 *            Permission to check against
+	 * @param elementIds
+	 *            Vertex ids of the elements
+	 * @param roleLoader
+	 *            Loader which returns the role ids of the user
+	 * @param permissionLoader
+	 *            Loader which returns the permission bitsets per role id for the element
+	 * @return Ids of the elements for which the permission is granted
 	 */
-	public static boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
-		String key = createCacheKey(userId, permission, elementId);
-		Boolean cachedPerm = PERM_CACHE.getIfPresent(key);
-		return cachedPerm != null && cachedPerm;
+	public static Set<Object> hasPermissions(Object userId, GraphPermission permission, Collection<Object> elementIds,
+			Function<Object, Set<String>> roleLoader, Function<Object, Map<String, Integer>> permissionLoader) {
+		RoleSet roleSet = getRoleSet(userId, roleLoader);
+		int mask = permissionMask(permission);
+		Set<Object> granted = new HashSet<>();
+		for (Object elementId : elementIds) {
+			if (hasPermission(roleSet, mask, elementId, permissionLoader)) {
+				granted.add(elementId);
+			}
+		}
+		return granted;
 	}
 
 	/**
-	 * Register the event handler which can be used to invalidate the LRU cache.
+	 * Return the canonical role set of the user.
+	 *
+	 * @param userId
+	 *            Vertex id of the user
+	 * @param roleLoader
+	 *            Loader which returns the role ids of the user
+	 * @return
+	 */
+	public static RoleSet getRoleSet(Object userId, Function<Object, Set<String>> roleLoader) {
+		String userKey = String.valueOf(userId);
+		if (TxHooks.isCollected(USER_INVALIDATION_HOOK, userKey)) {
+			// The roles were changed within the current transaction. The uncommitted roles must not be cached.
+			return new RoleSet(roleLoader.apply(userId));
+		}
+		return USER_ROLES.get(userKey, key -> {
+			RoleSet roleSet = new RoleSet(roleLoader.apply(userId));
+			return ROLE_SETS.get(roleSet.getId(), id -> roleSet);
+		});
+	}
+
+	private static boolean hasPermission(RoleSet roleSet, int mask, Object elementId, Function<Object, Map<String, Integer>> permissionLoader) {
+		String elementKey = String.valueOf(elementId);
+		if (TxHooks.isCollected(ELEMENT_INVALIDATION_HOOK, elementKey)) {
+			// The permissions were changed within the current transaction. The uncommitted permissions must not be cached.
+			return (new ElementPermissions(permissionLoader.apply(elementId)).getPermissions(roleSet) & mask) != 0;
+		}
+		ElementPermissions permissions = ELEMENT_PERMISSIONS.get(elementKey, key -> new ElementPermissions(permissionLoader.apply(elementId)));
+		return (permissions.getPermissions(roleSet) & mask) != 0;
+	}
+
+	private static int permissionMask(GraphPermission permission) {
+		int mask = 1 << permission.ordinal();
+		if (permission == GraphPermission.READ_PUBLISHED_PERM) {
+			mask |= 1 << GraphPermission.READ_PERM.ordinal();
+		}
+		return mask;
+	}
+
+	/**
+	 * Register the event handler which can be used to invalidate the LRU cache. The invalidation events which were published by this instance are ignored
+	 * since they have already been applied after the commit.
 	 */
 	public static void registerEventHandler() {
 		Mesh.vertx().eventBus().consumer(EVENT_CLEAR_PERMISSION_STORE, e -> {
 			if (log.isDebugEnabled()) {
 				log.debug("Clearing permission store due to received event from {" + e.address() + "}");
 			}
-			PERM_CACHE.invalidateAll();
+			fullInvalidations.incrementAndGet();
+			invalidate(false);
+		});
+		Mesh.vertx().eventBus().consumer(EVENT_INVALIDATE_PERMISSIONS, (Message<JsonObject> e) -> {
+			JsonObject body = e.body();
+			if (body == null || Mesh.mesh().getOptions().getNodeName().equals(body.getString("origin"))) {
+				return;
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Invalidating permissions due to received event {" + body.encode() + "}");
+			}
+			List<?> users = body.getJsonArray("users", new JsonArray()).getList();
+			List<?> elements = body.getJsonArray("elements", new JsonArray()).getList();
+			invalidateLocally(users, elements);
 		});
 	}
 
 	/**
-	 * Create the cache key.
-	 * 
-	 * @param userId
-	 * @param permission
+	 * Invalidate the cached role ids of the given users and notify the other instances in the cluster once the transaction has been committed. This needs to
+	 * be invoked whenever the roles of a user change.
+	 *
+	 * @param userIds
+	 *            Vertex ids of the users
+	 */
+	public static void invalidateUsers(Collection<?> userIds) {
+		for (Object userId : userIds) {
+			TxHooks.afterCommit(USER_INVALIDATION_HOOK, String.valueOf(userId), keys -> {
+				invalidateLocally(keys, Collections.emptyList());
+				publish(new JsonObject().put("users", new JsonArray(new ArrayList<>(keys))));
+			});
+		}
+	}
+
+	/**
+	 * Invalidate the cached permissions of the given element and notify the other instances in the cluster once the transaction has been committed. This
+	 * needs to be invoked whenever permissions on the element are granted or revoked.
+	 *
 	 * @param elementId
-	 * @return
+	 *            Vertex id of the element
 	 */
-	private static String createCacheKey(Object userId, GraphPermission permission, Object elementId) {
-		return userId + "-" + permission.ordinal() + "-" + elementId;
+	public static void invalidateElement(Object elementId) {
+		TxHooks.afterCommit(ELEMENT_INVALIDATION_HOOK, String.valueOf(elementId), keys -> {
+			invalidateLocally(Collections.emptyList(), keys);
+			publish(new JsonObject().put("elements", new JsonArray(new ArrayList<>(keys))));
+		});
 	}
 
 	/**
-	 * Invalidate the LRU cache and optionally notify other instances in the cluster.
+	 * Publish the invalidation event. Permissions may already be changed while the initial data is created and Vert.x has not yet been started.
 	 * 
+	 * @param body
+	 */
+	private static void publish(JsonObject body) {
+		Vertx vertx = Mesh.vertx();
+		if (vertx != null) {
+			vertx.eventBus().publish(EVENT_INVALIDATE_PERMISSIONS, body.put("origin", Mesh.mesh().getOptions().getNodeName()));
+		}
+	}
+
+	private static void invalidateLocally(Collection<?> userKeys, Collection<?> elementKeys) {
+		if (!userKeys.isEmpty()) {
+			invalidatedUsers.addAndGet(userKeys.size());
+			USER_ROLES.invalidateAll(userKeys);
+		}
+		if (!elementKeys.isEmpty()) {
+			invalidatedElements.addAndGet(elementKeys.size());
+			ELEMENT_PERMISSIONS.invalidateAll(elementKeys);
+		}
+	}
+
+	/**
+	 * Invalidate the LRU cache and optionally notify other instances in the cluster.
+	 *
 	 * @param notify
 	 */
 	public static void invalidate(boolean notify) {
 		// Invalidate locally
-		PERM_CACHE.invalidateAll();
+		USER_ROLES.invalidateAll();
+		ELEMENT_PERMISSIONS.invalidateAll();
 		if (notify) {
 			// Send the event to inform other to purge the stored permissions
 			Mesh.vertx().eventBus().publish(EVENT_CLEAR_PERMISSION_STORE, null);
@@ -84,16 +260,102 @@ public final class PermissionStore {
 	}
 
 	/**
-	 * Store a granting permission in the cache.
-	 * 
-	 * @param userId
-	 *            User which currently has roles which grant him the permission on the element
-	 * @param permission
-	 *            Permission which is granted
-	 * @param elementId
-	 *            Id of the element to which a permission is granted
+	 * Return the hit and miss statistics of the user role cache.
+	 *
+	 * @return
+	 */
+	public static CacheStats getUserRoleStats() {
+		return USER_ROLES.stats();
+	}
+
+	/**
+	 * Return the hit and miss statistics of the element permission cache.
+	 *
+	 * @return
+	 */
+	public static CacheStats getElementPermissionStats() {
+		return ELEMENT_PERMISSIONS.stats();
+	}
+
+	/**
+	 * Return the amount of user entries which have been invalidated.
+	 *
+	 * @return
+	 */
+	public static long getInvalidatedUserCount() {
+		return invalidatedUsers.get();
+	}
+
+	/**
+	 * Return the amount of element entries which have been invalidated.
+	 *
+	 * @return
+	 */
+	public static long getInvalidatedElementCount() {
+		return invalidatedElements.get();
+	}
+
+	/**
+	 * Return the amount of invalidations of the whole cache.
+	 *
+	 * @return
 	 */
-	public static void store(Object userId, GraphPermission permission, Object elementId) {
-		PERM_CACHE.put(createCacheKey(userId, permission, elementId), true);
+	public static long getFullInvalidationCount() {
+		return fullInvalidations.get();
 	}
+
+	/**
+	 * Sorted set of role ids. The id of the role set is derived from the role ids and is thus equal for all users with the same roles.
+	 */
+	public static final class RoleSet {
+
+		private final String id;
+
+		private final String[] roleIds;
+
+		public RoleSet(Set<String> roleIds) {
+			this.roleIds = roleIds.toArray(new String[roleIds.size()]);
+			Arrays.sort(this.roleIds);
+			this.id = String.join(",", this.roleIds);
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String[] getRoleIds() {
+			return roleIds;
+		}
+	}
+
+	/**
+	 * Permissions of all roles on a single element. The effective permissions of the role sets are computed on demand and stored alongside.
+	 */
+	public static final class ElementPermissions {
+
+		private final Map<String, Integer> rolePermissions;
+
+		private final Map<String, Integer> roleSetPermissions = new ConcurrentHashMap<>();
+
+		public ElementPermissions(Map<String, Integer> rolePermissions) {
+			this.rolePermissions = rolePermissions;
+		}
+
+		/**
+		 * Return the bitset of the permissions which are granted by any of the roles of the role set.
+		 *
+		 * @param roleSet
+		 * @return
+		 */
+		public int getPermissions(RoleSet roleSet) {
+			return roleSetPermissions.computeIfAbsent(roleSet.getId(), key -> {
+				int bits = 0;
+				for (String roleId : roleSet.getRoleIds()) {
+					bits |= rolePermissions.getOrDefault(roleId, 0);
+				}
+				return bits;
+			});
+		}
+	}
+
 }
@@ -0,0 +1,287 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.Events.EVENT_CLEAR_PERMISSION_STORE;
+import static com.gentics.mesh.Events.EVENT_INVALIDATE_PERMISSIONS;
+import static com.gentics.mesh.Events.EVENT_INVALIDATE_RESPONSES;
+import static com.gentics.mesh.Events.EVENT_MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.Events.EVENT_PROJECT_UPDATED;
+import static com.gentics.mesh.Events.EVENT_RELEASE_UPDATED;
+import static com.gentics.mesh.Events.EVENT_SCHEMA_UPDATED;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.etc.config.ResponseCacheOptions;
+import com.gentics.mesh.graphdb.spi.TxHooks;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.NodeParameters;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for the serialized JSON of node responses which is shared across requests. It is used by the node read and the webroot handler and can be
+ * enabled via the {@link ResponseCacheOptions}.
+ *
+ * The responses are keyed by the node, the role set of the user, the etag of the node and the query parameters of the request. The etag already changes when
+ * the node itself is changed. The responses also contain the references of the parent node and of the ancestors (breadcrumb). The key thus also contains
+ * the generations of the node and of its ancestors. A change of a node increments the generation of the node which invalidates the responses of the node
+ * and of all nodes within its subtree. The parent nodes of a changed node are invalidated as well since their change stamps are updated. Responses which
+ * contain data of arbitrary other nodes (expanded node fields or resolved links) are not cached. All responses are invalidated whenever a schema,
+ * microschema, project, release or permission changes.
+ *
+ * Invalidations only increment the generations which are part of the key. Outdated entries are evicted by the LRU policy once the maximum size is reached.
+ * The generations are read before a response is rendered. A response which was rendered from outdated data is thus stored using an outdated key.
+ */
+public final class ResponseCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ResponseCache.class);
+
+	/**
+	 * Events which invalidate all cached responses in addition to the {@link com.gentics.mesh.Events#EVENT_INVALIDATE_RESPONSES} event.
+	 */
+	private static final List<String> INVALIDATING_EVENTS = Arrays.asList(EVENT_SCHEMA_UPDATED, EVENT_MICROSCHEMA_UPDATED, EVENT_PROJECT_UPDATED,
+			EVENT_RELEASE_UPDATED, EVENT_CLEAR_PERMISSION_STORE, EVENT_INVALIDATE_PERMISSIONS);
+
+	private static volatile Cache<String, String> responses;
+
+	private static final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * Generations of the nodes which have been changed. An evicted generation would restart at zero and thus invalidates all responses.
+	 */
+	private static final Cache<String, Long> NODE_GENERATIONS = Caffeine.newBuilder().maximumSize(100_000).executor(Runnable::run).removalListener((
+			String nodeUuid, Long nodeGeneration, RemovalCause cause) -> {
+		if (cause.wasEvicted()) {
+			generation.incrementAndGet();
+		}
+	}).build();
+
+	private static final AtomicLong invalidations = new AtomicLong();
+
+	private static final AtomicLong invalidatedNodes = new AtomicLong();
+
+	private static final String INVALIDATION_HOOK = "response-cache-invalidation";
+
+	private static final String FULL_INVALIDATION_HOOK = "response-cache-full-invalidation";
+
+	/**
+	 * Create the cache if it has been enabled within the given options.
+	 *
+	 * @param options
+	 */
+	public static void init(ResponseCacheOptions options) {
+		if (options == null || !options.isEnabled()) {
+			responses = null;
+			return;
+		}
+		long maxWeight = options.getMaxSizeMB() * 1024 * 1024;
+		// Strings use two bytes per char
+		responses = Caffeine.newBuilder().maximumWeight(maxWeight).weigher((String key, String json) -> (key.length() + json.length()) * 2)
+				.recordStats().build();
+	}
+
+	/**
+	 * Check whether the cache has been enabled.
+	 *
+	 * @return
+	 */
+	public static boolean isEnabled() {
+		return responses != null;
+	}
+
+	/**
+	 * Check whether the response for the given parameters may be cached. Responses which contain data of arbitrary other nodes are not cached since they
+	 * would need to be invalidated whenever any node changes.
+	 *
+	 * @param parameters
+	 * @return
+	 */
+	public static boolean isCacheable(NodeParameters parameters) {
+		return isEnabled() && parameters.getResolveLinks() == LinkType.OFF && !parameters.getExpandAll() && parameters.getExpandedFieldnameList()
+				.isEmpty();
+	}
+
+	/**
+	 * Create the key for a response.
+	 *
+	 * @param node
+	 *            Node of the response
+	 * @param releaseUuid
+	 *            Uuid of the release which is used to locate the ancestors of the node
+	 * @param roleSetId
+	 *            Id of the role set of the user
+	 * @param etag
+	 *            Etag of the node for the request
+	 * @param parameters
+	 *            Further parameters which affect the response (e.g. the query of the request)
+	 * @return
+	 */
+	public static String composeKey(Node node, String releaseUuid, String roleSetId, String etag, String... parameters) {
+		// Generations only increase. The sum thus changes whenever the node or one of its ancestors is invalidated.
+		long nodeGenerations = 0;
+		Node current = node;
+		while (current != null) {
+			Long nodeGeneration = NODE_GENERATIONS.getIfPresent(current.getUuid());
+			if (nodeGeneration != null) {
+				nodeGenerations += nodeGeneration;
+			}
+			current = current.getParentNode(releaseUuid);
+		}
+		return generation.get() + "-" + nodeGenerations + "-" + node.getUuid() + "-" + roleSetId + "-" + etag + "-" + String.join("-", parameters);
+	}
+
+	/**
+	 * Return the cached response. The response will be rendered using the given loader if it is not yet cached or if the cache is disabled.
+	 *
+	 * @param key
+	 *            Key which was created via {@link #composeKey(String, String, String, String...)}
+	 * @param loader
+	 *            Loader which renders the JSON of the response
+	 * @return JSON of the response
+	 */
+	public static String getResponse(String key, Function<String, String> loader) {
+		Cache<String, String> cache = responses;
+		if (cache == null) {
+			return loader.apply(key);
+		}
+		String json = cache.getIfPresent(key);
+		if (json == null) {
+			// Don't render the response within the mapping function since this would block the cache for other keys
+			json = loader.apply(key);
+			cache.put(key, json);
+		}
+		return json;
+	}
+
+	/**
+	 * Invalidate the cached responses of the node and of the nodes within its subtree. This needs to be invoked whenever a node changes. The responses are
+	 * invalidated and the other instances in the cluster are notified once the transaction has been committed. A single event is published for all nodes
+	 * which were changed within the transaction.
+	 *
+	 * @param nodeUuid
+	 */
+	public static void invalidate(String nodeUuid) {
+		if (responses == null) {
+			return;
+		}
+		TxHooks.afterCommit(INVALIDATION_HOOK, nodeUuid, nodeUuids -> {
+			invalidateNodes(nodeUuids);
+			// Nodes may already be changed while the initial data is created and Vert.x has not yet been started.
+			Vertx vertx = Mesh.vertx();
+			if (vertx != null) {
+				vertx.eventBus().publish(EVENT_INVALIDATE_RESPONSES, new JsonObject().put("origin", Mesh.mesh().getOptions().getNodeName()).put("nodes",
+						new JsonArray(new ArrayList<>(nodeUuids))));
+			}
+		});
+	}
+
+	/**
+	 * Invalidate all cached responses and notify the other instances in the cluster once the transaction has been committed. This is used for bulk changes
+	 * (e.g. the migration of a release) which would otherwise cause an invalidation of each node.
+	 */
+	public static void invalidate() {
+		if (responses == null) {
+			return;
+		}
+		TxHooks.afterCommit(FULL_INVALIDATION_HOOK, Boolean.TRUE, values -> {
+			invalidateLocally(EVENT_INVALIDATE_RESPONSES);
+			Vertx vertx = Mesh.vertx();
+			if (vertx != null) {
+				vertx.eventBus().publish(EVENT_INVALIDATE_RESPONSES, new JsonObject().put("origin", Mesh.mesh().getOptions().getNodeName()));
+			}
+		});
+	}
+
+	/**
+	 * Register the event handlers which invalidate the cache. The invalidations are also received by the instance which published them. These have
+	 * already been applied locally and are thus ignored.
+	 */
+	public static void registerEventHandler() {
+		EventBus eventBus = Mesh.vertx().eventBus();
+		eventBus.consumer(EVENT_INVALIDATE_RESPONSES, (Message<JsonObject> e) -> {
+			JsonObject body = e.body();
+			if (body == null) {
+				invalidateLocally(e.address());
+			} else if (!Mesh.mesh().getOptions().getNodeName().equals(body.getString("origin"))) {
+				JsonArray nodeUuids = body.getJsonArray("nodes");
+				if (nodeUuids == null) {
+					invalidateLocally(e.address());
+				} else {
+					invalidateNodes(nodeUuids.getList());
+				}
+			}
+		});
+		for (String address : INVALIDATING_EVENTS) {
+			eventBus.consumer(address, e -> invalidateLocally(e.address()));
+		}
+	}
+
+	private static void invalidateNodes(Collection<?> nodeUuids) {
+		if (responses == null) {
+			return;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Invalidating responses of {" + nodeUuids.size() + "} nodes");
+		}
+		invalidatedNodes.addAndGet(nodeUuids.size());
+		for (Object nodeUuid : nodeUuids) {
+			NODE_GENERATIONS.asMap().merge(String.valueOf(nodeUuid), 1L, Long::sum);
+		}
+	}
+
+	private static void invalidateLocally(String address) {
+		if (responses == null) {
+			return;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Invalidating responses due to received event from {" + address + "}");
+		}
+		invalidations.incrementAndGet();
+		generation.incrementAndGet();
+	}
+
+	/**
+	 * Return the hit and miss statistics of the cache.
+	 *
+	 * @return
+	 */
+	public static CacheStats getStats() {
+		Cache<String, String> cache = responses;
+		return cache == null ? CacheStats.empty() : cache.stats();
+	}
+
+	/**
+	 * Return the amount of node invalidations.
+	 *
+	 * @return
+	 */
+	public static long getInvalidatedNodeCount() {
+		return invalidatedNodes.get();
+	}
+
+	/**
+	 * Return the amount of invalidations of the whole cache.
+	 *
+	 * @return
+	 */
+	public static long getInvalidationCount() {
+		return invalidations.get();
+	}
+
+}
@@ -12,6 +12,12 @@ public interface GraphFieldContainerEdge {
 
 	public static final String EDGE_TYPE_KEY = "edgeType";
 
+	/**
+	 * Key of the property which stores the segment and the parent node of the container within the release of the edge. The property is used to resolve webroot
+	 * paths via an index since containers are shared between releases and can thus not hold this information themselves.
+	 */
+	public static final String WEBROOT_SEGMENT_KEY = "webrootSegment";
+
 	/**
 	 * Get the language tag
 	 * 
@@ -56,4 +62,19 @@ public interface GraphFieldContainerEdge {
 	 */
 	void setReleaseUuid(String uuid);
 
+	/**
+	 * Get the webroot segment info (segment and parent node uuid) of the container within the release of the edge.
+	 * 
+	 * @return webroot segment info or null if the container has no segment
+	 */
+	String getSegmentInfo();
+
+	/**
+	 * Set the webroot segment info.
+	 * 
+	 * @param segmentInfo
+	 *            webroot segment info or null to remove the info
+	 */
+	void setSegmentInfo(String segmentInfo);
+
 }
@@ -60,6 +60,15 @@ public interface Role extends MeshCoreVertex<RoleResponse, Role>, ReferenceableE
 	 */
 	void grantPermissions(MeshVertex vertex, GraphPermission... permissions);
 
+	/**
+	 * Grant the given permissions on the newly created vertex. The change stamps of the parent nodes are not updated since the creation of the vertex already
+	 * updates them.
+	 * 
+	 * @param vertex
+	 * @param permissions
+	 */
+	void grantPermissionsOnCreate(MeshVertex vertex, GraphPermission... permissions);
+
 	/**
 	 * Revoke the given permissions on the vertex.
 	 * 
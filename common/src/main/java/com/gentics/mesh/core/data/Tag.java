@@ -76,6 +76,11 @@ public interface Tag extends MeshCoreVertex<TagResponse, Tag>, ReferenceableElem
 	 */
 	List<? extends Node> getNodes(Release release);
 
+	/**
+	 * Update the change stamps of all nodes which were tagged by this tag in any release. This needs to be invoked whenever the tag reference changes.
+	 */
+	void updateNodeChangeStamps();
+
 	/**
 	 * Return a page of nodes that are visible to the user and which are tagged by this tag. Use the paging and language information provided.
 	 * 
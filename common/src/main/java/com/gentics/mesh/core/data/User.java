@@ -4,6 +4,7 @@ import static com.gentics.mesh.Events.EVENT_USER_CREATED;
 import static com.gentics.mesh.Events.EVENT_USER_DELETED;
 import static com.gentics.mesh.Events.EVENT_USER_UPDATED;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -233,7 +234,8 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	User addPermissionsOnRole(MeshVertex sourceNode, GraphPermission permission, MeshVertex targetNode, GraphPermission... toGrant);
 
 	/**
-	 * Inherit permissions egdes from the source node and assign those permissions to the target node.
+	 * Inherit permissions egdes from the source node and assign those permissions to the target node. This is used for newly created elements and will thus
+	 * not update the change stamps of the parent nodes.
 	 * 
 	 * @param sourceNode
 	 * @param targetNode
@@ -321,6 +323,24 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	boolean hasPermissionForId(Object elementId, GraphPermission permission);
 
+	/**
+	 * Check whether the user has the given permission on the elements with the given ids. The roles of the user will only be loaded once and the permission
+	 * edges of each element will be examined in a single pass.
+	 * 
+	 * @param elementIds
+	 *            Vertex ids of the elements to check
+	 * @param permission
+	 * @return Set which contains the ids of all elements for which the permission is granted
+	 */
+	Set<Object> hasPermissions(Collection<Object> elementIds, GraphPermission permission);
+
+	/**
+	 * Return the id of the role set of the user. Users which share the same roles also share the same role set id.
+	 * 
+	 * @return
+	 */
+	String getRoleSetId();
+
 	/**
 	 * Check the read permission on the given container and fail if the needed permission to read the container is not set. This method will not fail if the
 	 * user has READ permission or READ_PUBLISH permission on a published node.
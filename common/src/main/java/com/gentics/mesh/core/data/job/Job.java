@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.job;
 
+import java.util.List;
+
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.CreatorTrackingVertex;
 import com.gentics.mesh.core.data.MeshCoreVertex;
@@ -28,10 +30,16 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 
 	public static final String COMPLETION_COUNT_PROPERTY_KEY = "completionCount";
 
+	public static final String THROUGHPUT_PROPERTY_KEY = "elementsPerSecond";
+
 	public static final String STATUS_PROPERTY_KEY = "status";
 
 	public static final String NODE_NAME_PROPERTY_KEY = "nodeName";
 
+	public static final String LOCK_NAME_PREFIX = "mesh.internal.joblock.";
+
+	public static final int DEFAULT_PRIORITY = 0;
+
 	/**
 	 * Return the job type.
 	 * 
@@ -257,6 +265,20 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 	 */
 	void setCompletionCount(long count);
 
+	/**
+	 * Return the amount of elements which were processed per second.
+	 * 
+	 * @return
+	 */
+	long getThroughput();
+
+	/**
+	 * Set the amount of elements which were processed per second.
+	 * 
+	 * @param elementsPerSecond
+	 */
+	void setThroughput(long elementsPerSecond);
+
 	/**
 	 * Get migration status.
 	 * 
@@ -293,4 +315,21 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 		setNodeName(nodeName);
 	}
 
+	/**
+	 * Return the priority of the job. Queued jobs with a higher priority will be executed first unless they conflict with older queued jobs.
+	 * 
+	 * @return
+	 */
+	default int getPriority() {
+		return DEFAULT_PRIORITY;
+	}
+
+	/**
+	 * Return the names of the cluster wide locks which must be held while the job is being executed. Jobs which share a lock will never be executed
+	 * concurrently and will be executed in the order in which they were enqueued.
+	 * 
+	 * @return
+	 */
+	List<String> getLockNames();
+
 }
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.job;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.Release;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.root.RootVertex;
@@ -53,11 +55,34 @@ public interface JobRoot extends RootVertex<Job> {
 	 */
 	Job enqueueReleaseMigration(User creator, Release release);
 
+	/**
+	 * Enqueue a full reindex of all search indices. An existing reindex job which has not yet been completed will be returned instead of creating a new
+	 * job. The existing job will resume at its last checkpoint.
+	 * 
+	 * @param creator
+	 * @return
+	 */
+	Job enqueueReindex(User creator);
+
+	/**
+	 * Return the jobs which have not yet been processed in the order in which they were enqueued.
+	 * 
+	 * @return
+	 */
+	List<Job> findProcessable();
+
 	/**
 	 * Process all remaining jobs.
 	 */
 	void process();
 
+	/**
+	 * Process the given job unless it has already been processed in the meantime. The job will be marked as failed if an error occurs.
+	 * 
+	 * @param job
+	 */
+	void process(Job job);
+
 	/**
 	 * Purge all failed jobs from the job root.
 	 */
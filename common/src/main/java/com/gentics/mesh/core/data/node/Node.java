@@ -293,6 +293,19 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	void setParentNode(String releaseUuid, Node parentNode);
 
+	/**
+	 * Return the change stamp of the node. The change stamp is incremented whenever the field containers, the tags, the parent or the children of the node
+	 * change. It is used to compute the etag of the node.
+	 * 
+	 * @return
+	 */
+	long getChangeStamp();
+
+	/**
+	 * Increment the change stamp of the node. The stamp is incremented once per transaction when the transaction gets committed.
+	 */
+	void updateChangeStamp();
+
 	/**
 	 * Create a child node in this node in the latest release of the project.
 	 * 
@@ -60,9 +60,56 @@ public interface Page<T> extends Iterable<T> {
 	default void setPaging(ListResponse<?> response) {
 		PagingMetaInfo info = response.getMetainfo();
 		info.setCurrentPage(getNumber());
-		info.setPageCount(getPageCount());
 		info.setPerPage(getPerPage());
-		info.setTotalCount(getTotalElements());
+		Integer countLimit = getCountLimit();
+		if (getAfter() != null || (countLimit != null && countLimit == 0)) {
+			// The counts are not determined for cursor based pages or if the counting has been disabled since this would require to iterate over all elements
+			info.setPageCount(-1);
+			info.setTotalCount(-1);
+		} else {
+			info.setPageCount(getPageCount());
+			info.setTotalCount(getTotalElements());
+			if (isTotalCountLimited()) {
+				info.setTotalCountLimited(true);
+			}
+		}
+		info.setNextCursor(getNextCursor());
+	}
+
+	/**
+	 * Return the cursor after which the page starts.
+	 * 
+	 * @return Cursor or null if the page was not loaded using a cursor
+	 */
+	default String getAfter() {
+		return null;
+	}
+
+	/**
+	 * Return the limit up to which the elements are counted.
+	 * 
+	 * @return Count limit or null if all elements are counted
+	 */
+	default Integer getCountLimit() {
+		return null;
+	}
+
+	/**
+	 * Check whether the counting stopped at the count limit and thus the total count is only a lower bound.
+	 * 
+	 * @return
+	 */
+	default boolean isTotalCountLimited() {
+		return false;
+	}
+
+	/**
+	 * Return the cursor which can be used to load the next page.
+	 * 
+	 * @return Cursor or null if there is no next page or if the page does not support cursors
+	 */
+	default String getNextCursor() {
+		return null;
 	}
 
 	/**
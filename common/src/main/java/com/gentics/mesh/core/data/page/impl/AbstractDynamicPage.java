@@ -20,6 +20,11 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	protected long lowerBound;
 
+	/**
+	 * Limit up to which the elements will be counted. All elements will be counted if no limit was set.
+	 */
+	protected Integer countLimit;
+
 	/**
 	 * The unfiltered raw search count which was returned by the search provider.
 	 */
@@ -44,6 +49,11 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		if (pagingInfo.getPerPage() < 0) {
 			throw new GenericRestException(BAD_REQUEST, "error_pagesize_parameter", String.valueOf(pagingInfo.getPerPage()));
 		}
+		Integer countLimit = pagingInfo.getCountLimit();
+		if (countLimit != null && countLimit < 0) {
+			throw new GenericRestException(BAD_REQUEST, "error_count_limit_parameter", String.valueOf(countLimit));
+		}
+		this.countLimit = countLimit;
 		this.pageNumber = pagingInfo.getPage();
 		this.perPage = pagingInfo.getPerPage();
 
@@ -79,11 +89,42 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getTotalElements() {
-		// Iterate over all elements to determine the total count
-		while (visibleItems.hasNext()) {
+		if (countLimit == null) {
+			// Iterate over all elements to determine the total count
+			while (visibleItems.hasNext()) {
+				visibleItems.next();
+			}
+			return totalCounter.get();
+		}
+		// Only iterate up to the limit
+		long limit = getEffectiveCountLimit();
+		while (totalCounter.get() < limit && visibleItems.hasNext()) {
 			visibleItems.next();
 		}
-		return totalCounter.get();
+		return Math.min(totalCounter.get(), limit);
+	}
+
+	@Override
+	public Integer getCountLimit() {
+		return countLimit;
+	}
+
+	@Override
+	public boolean isTotalCountLimited() {
+		if (countLimit == null) {
+			return false;
+		}
+		return totalCounter.get() >= getEffectiveCountLimit() && visibleItems.hasNext();
+	}
+
+	/**
+	 * Return the limit up to which the elements will be counted. The elements of the page and one additional element which indicates whether there is a next
+	 * page are always counted.
+	 * 
+	 * @return
+	 */
+	private long getEffectiveCountLimit() {
+		return Math.max(countLimit, lowerBound + perPage + 1);
 	}
 
 	@Override
@@ -1,8 +1,20 @@
 package com.gentics.mesh.core.data.page.impl;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -32,17 +44,37 @@ import com.tinkerpop.blueprints.Vertex;
 public class DynamicTransformablePageImpl<T extends TransformableElement<? extends RestModel>> extends AbstractDynamicPage<T>
 		implements TransformablePage<T> {
 
+	/**
+	 * Amount of elements for which the permissions are checked at once.
+	 */
+	private static final int PERM_CHECK_CHUNK_SIZE = 100;
+
 	private User requestUser;
 
 	private Predicate<Vertex> extraFilter;
 
 	private boolean frameExplicitly;
 
+	/**
+	 * Cursor after which the page starts.
+	 */
+	private String after;
+
+	/**
+	 * Id of the last element of the page.
+	 */
+	private Object lastElementId;
+
 	private DynamicTransformablePageImpl(User requestUser, PagingParameters pagingInfo, Predicate<Vertex> extraFilter, boolean frameExplicitly) {
 		super(pagingInfo);
 		this.extraFilter = extraFilter;
 		this.requestUser = requestUser;
 		this.frameExplicitly = frameExplicitly;
+		// The cursor replaces the page number
+		this.after = pagingInfo.getAfter();
+		if (after != null) {
+			this.lowerBound = 0;
+		}
 	}
 
 	/**
@@ -141,9 +173,14 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		AtomicLong pageCounter = new AtomicLong();
 		FramedGraph graph = Tx.getActive().getGraph();
 
+		// Resume after the element of the cursor. The skipped elements don't need to be checked or framed.
+		if (after != null) {
+			stream = skipUntil(stream, decodeCursor(after));
+		}
+
 		// Only handle elements which are visible to the user
 		if (perm != null) {
-			stream = stream.filter(item -> requestUser.hasPermissionForId(item.getId(), perm));
+			stream = filterByPermission(stream, perm);
 		}
 
 		if (extraFilter != null) {
@@ -173,6 +210,7 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 							element = graph.frameElement(item, clazz);
 						}
 						elementsOfPage.add(element);
+						lastElementId = item.getId();
 						pageCounter.incrementAndGet();
 						return element;
 					} else {
@@ -186,6 +224,87 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 
 	}
 
+	/**
+	 * Skip all elements of the stream up to and including the element with the given id.
+	 * 
+	 * @param stream
+	 * @param elementId
+	 *            String representation of the id of the element after which the stream should resume
+	 * @return
+	 */
+	private Stream<Vertex> skipUntil(Stream<Vertex> stream, String elementId) {
+		Iterator<Vertex> source = stream.iterator();
+		Iterator<Vertex> remaining = new Iterator<Vertex>() {
+
+			private boolean found = false;
+
+			@Override
+			public boolean hasNext() {
+				while (!found && source.hasNext()) {
+					found = elementId.equals(String.valueOf(source.next().getId()));
+				}
+				if (!found) {
+					// The element may have been removed in the meantime
+					throw error(BAD_REQUEST, "error_paging_cursor_not_found", after);
+				}
+				return source.hasNext();
+			}
+
+			@Override
+			public Vertex next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return source.next();
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(remaining, Spliterator.ORDERED), false);
+	}
+
+	/**
+	 * Filter the stream by checking the permissions of the user in chunks. The order of the elements is retained.
+	 * 
+	 * @param stream
+	 * @param perm
+	 * @return
+	 */
+	private Stream<Vertex> filterByPermission(Stream<Vertex> stream, GraphPermission perm) {
+		Iterator<Vertex> source = stream.iterator();
+		Iterator<Vertex> filtered = new Iterator<Vertex>() {
+
+			private final Deque<Vertex> buffer = new ArrayDeque<>();
+
+			@Override
+			public boolean hasNext() {
+				while (buffer.isEmpty() && source.hasNext()) {
+					List<Vertex> chunk = new ArrayList<>(PERM_CHECK_CHUNK_SIZE);
+					List<Object> ids = new ArrayList<>(PERM_CHECK_CHUNK_SIZE);
+					while (chunk.size() < PERM_CHECK_CHUNK_SIZE && source.hasNext()) {
+						Vertex item = source.next();
+						chunk.add(item);
+						ids.add(item.getId());
+					}
+					Set<Object> granted = requestUser.hasPermissions(ids, perm);
+					for (Vertex item : chunk) {
+						if (granted.contains(item.getId())) {
+							buffer.add(item);
+						}
+					}
+				}
+				return !buffer.isEmpty();
+			}
+
+			@Override
+			public Vertex next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return buffer.poll();
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(filtered, Spliterator.ORDERED), false);
+	}
+
 	/**
 	 * Initialize the dynamic iterator which is bound to the most getters of this class. A stream is setup which is used to filter out the unwanted data. Paging
 	 * is also handled via the stream. At the end only a iterator is provided for the other methods. The iterator next method is invoked until the needed data
@@ -219,4 +338,41 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 
 	}
 
+	@Override
+	public String getAfter() {
+		return after;
+	}
+
+	@Override
+	public String getNextCursor() {
+		if (lastElementId == null || !hasNextPage()) {
+			return null;
+		}
+		return encodeCursor(lastElementId);
+	}
+
+	/**
+	 * Encode the id of the element into an opaque cursor.
+	 * 
+	 * @param elementId
+	 * @return
+	 */
+	public static String encodeCursor(Object elementId) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(elementId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decode the cursor into the string representation of the element id.
+	 * 
+	 * @param cursor
+	 * @return
+	 */
+	public static String decodeCursor(String cursor) {
+		try {
+			return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw error(BAD_REQUEST, "error_paging_cursor_invalid", cursor);
+		}
+	}
+
 }
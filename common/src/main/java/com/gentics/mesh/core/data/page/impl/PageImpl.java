@@ -3,8 +3,6 @@ package com.gentics.mesh.core.data.page.impl;
 import java.util.Iterator;
 import java.util.List;
 
-import org.apache.commons.lang.NotImplementedException;
-
 import com.gentics.mesh.core.data.page.Page;
 
 /**
@@ -18,6 +16,7 @@ public class PageImpl<T> implements Iterable<T>, Page<T> {
 	protected long pageNumber;
 	protected long totalPages;
 	protected int perPage;
+	protected long unfilteredSearchCount;
 
 	/**
 	 * Construct a new page
@@ -83,12 +82,12 @@ public class PageImpl<T> implements Iterable<T>, Page<T> {
 
 	@Override
 	public long getUnfilteredSearchCount() {
-		throw new NotImplementedException();
+		return unfilteredSearchCount;
 	}
 
 	@Override
 	public Page<T> setUnfilteredSearchCount(long unfilteredSearchCount) {
-		// Not suported
+		this.unfilteredSearchCount = unfilteredSearchCount;
 		return this;
 	}
 
@@ -51,6 +51,26 @@ public class WrappedPageImpl<T> implements Page<T> {
 		return wrappedPage.hasNextPage();
 	}
 
+	@Override
+	public Integer getCountLimit() {
+		return wrappedPage.getCountLimit();
+	}
+
+	@Override
+	public boolean isTotalCountLimited() {
+		return wrappedPage.isTotalCountLimited();
+	}
+
+	@Override
+	public String getAfter() {
+		return wrappedPage.getAfter();
+	}
+
+	@Override
+	public String getNextCursor() {
+		return wrappedPage.getNextCursor();
+	}
+
 	@Override
 	public long getUnfilteredSearchCount() {
 		return wrappedPage.getUnfilteredSearchCount();
@@ -6,8 +6,11 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
 
 import com.gentics.mesh.context.InternalActionContext;
@@ -166,6 +169,30 @@ public interface RootVertex<T extends MeshCoreVertex<? extends RestModel, T>> ex
 		return null;
 	}
 
+	/**
+	 * Find the elements with the given uuids. All elements will be located using a single lookup of the uuid index.
+	 * 
+	 * @param uuids
+	 *            Uuids of the elements to be located
+	 * @return Map which contains the found elements by uuid. Elements which could not be located are not contained in the map.
+	 */
+	default public Map<String, T> findByUuids(Collection<String> uuids) {
+		FramedGraph graph = Tx.getActive().getGraph();
+		Map<String, T> elements = new HashMap<>();
+		// 1. Find all elements with the given uuids within the whole graph
+		Map<Object, Vertex> vertices = database().getVertices(getPersistanceClass(), MeshVertex.UUID_KEY, uuids);
+		for (Map.Entry<Object, Vertex> entry : vertices.entrySet()) {
+			Vertex potentialElement = entry.getValue();
+			// 2. Use the edge index to determine whether the element is part of this root vertex
+			Iterable<Edge> edges = graph.getEdges("e." + getRootLabel().toLowerCase() + "_inout", database().createComposedIndexKey(potentialElement
+					.getId(), getId()));
+			if (edges.iterator().hasNext()) {
+				elements.put((String) entry.getKey(), graph.frameElementExplicit(potentialElement, getPersistanceClass()));
+			}
+		}
+		return elements;
+	}
+
 	/**
 	 * Load the object by uuid and check the given permission.
 	 * 
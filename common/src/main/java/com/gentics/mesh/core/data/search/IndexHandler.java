@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.data.search;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -9,6 +10,7 @@ import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
 
+import io.vertx.core.json.JsonObject;
 import rx.Completable;
 
 /**
@@ -65,6 +67,20 @@ public interface IndexHandler<T extends MeshCoreVertex<?, T>> {
 	 */
 	Completable store(UpdateDocumentEntry entry);
 
+	/**
+	 * Generate the documents for the elements with the given uuids. Elements which no longer exist will be omitted. This method must be invoked within a
+	 * transaction.
+	 * 
+	 * @param uuids
+	 *            Uuids of the elements
+	 * @param projectUuid
+	 *            Uuid of the project of the elements or null if the elements are not project specific
+	 * @param releaseUuid
+	 *            Uuid of the release for which the documents should be generated or null to generate the documents for all releases
+	 * @return Documents grouped by their index name and their document id
+	 */
+	Map<String, Map<String, JsonObject>> createDocuments(List<String> uuids, String projectUuid, String releaseUuid);
+
 	/**
 	 * Reindex all documents for the type which the handler is capable of.
 	 * 
@@ -0,0 +1,175 @@
+package com.gentics.mesh.core.data.search;
+
+import com.gentics.mesh.core.data.MeshVertex;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Vertex which persists a single {@link SearchQueueEntry} within the transaction that caused the change. The search outbox entries are drained by the search
+ * indexer which applies the changes to the search index and removes the outbox entries afterwards. This way changes which were committed to the graph can't
+ * get lost even if the instance stops before the search index has been updated. Entries which are processed while new index versions are being built are
+ * kept as processed entries so that a reindex can replay them.
+ */
+public interface SearchOutboxEntry extends MeshVertex {
+
+	static final String BATCH_ID_PROPERTY_KEY = "batchId";
+
+	static final String POSITION_PROPERTY_KEY = "position";
+
+	static final String CREATED_PROPERTY_KEY = "created";
+
+	static final String ENTRY_PROPERTY_KEY = "entry";
+
+	static final String ATTEMPTS_PROPERTY_KEY = "attempts";
+
+	static final String NEXT_ATTEMPT_PROPERTY_KEY = "nextAttempt";
+
+	static final String PROCESSED_PROPERTY_KEY = "processed";
+
+	/**
+	 * Return the id of the batch to which the entry was added.
+	 *
+	 * @return
+	 */
+	default String getBatchId() {
+		return getProperty(BATCH_ID_PROPERTY_KEY);
+	}
+
+	/**
+	 * Set the id of the batch to which the entry was added.
+	 *
+	 * @param batchId
+	 * @return Fluent API
+	 */
+	default SearchOutboxEntry setBatchId(String batchId) {
+		setProperty(BATCH_ID_PROPERTY_KEY, batchId);
+		return this;
+	}
+
+	/**
+	 * Return the position of the entry within the batch.
+	 *
+	 * @return
+	 */
+	default int getPosition() {
+		Integer position = getProperty(POSITION_PROPERTY_KEY);
+		return position == null ? 0 : position;
+	}
+
+	/**
+	 * Set the position of the entry within the batch.
+	 *
+	 * @param position
+	 * @return Fluent API
+	 */
+	default SearchOutboxEntry setPosition(int position) {
+		setProperty(POSITION_PROPERTY_KEY, position);
+		return this;
+	}
+
+	/**
+	 * Return the creation timestamp of the entry.
+	 *
+	 * @return
+	 */
+	default long getCreated() {
+		Long created = getProperty(CREATED_PROPERTY_KEY);
+		return created == null ? 0 : created;
+	}
+
+	/**
+	 * Set the creation timestamp of the entry.
+	 *
+	 * @param timestamp
+	 * @return Fluent API
+	 */
+	default SearchOutboxEntry setCreated(long timestamp) {
+		setProperty(CREATED_PROPERTY_KEY, timestamp);
+		return this;
+	}
+
+	/**
+	 * Return the JSON representation of the persisted search queue entry.
+	 *
+	 * @return
+	 */
+	default JsonObject getEntry() {
+		String json = getProperty(ENTRY_PROPERTY_KEY);
+		return json == null ? null : new JsonObject(json);
+	}
+
+	/**
+	 * Set the JSON representation of the persisted search queue entry.
+	 *
+	 * @param entry
+	 * @return Fluent API
+	 */
+	default SearchOutboxEntry setEntry(JsonObject entry) {
+		setProperty(ENTRY_PROPERTY_KEY, entry.encode());
+		return this;
+	}
+
+	/**
+	 * Return the amount of failed attempts to apply the entry to the search index.
+	 *
+	 * @return
+	 */
+	default int getAttempts() {
+		Integer attempts = getProperty(ATTEMPTS_PROPERTY_KEY);
+		return attempts == null ? 0 : attempts;
+	}
+
+	/**
+	 * Set the amount of failed attempts to apply the entry to the search index.
+	 *
+	 * @param attempts
+	 * @return Fluent API
+	 */
+	default SearchOutboxEntry setAttempts(int attempts) {
+		setProperty(ATTEMPTS_PROPERTY_KEY, attempts);
+		return this;
+	}
+
+	/**
+	 * Return the timestamp after which the entry may be processed by the search indexer.
+	 *
+	 * @return
+	 */
+	default long getNextAttempt() {
+		Long nextAttempt = getProperty(NEXT_ATTEMPT_PROPERTY_KEY);
+		return nextAttempt == null ? 0 : nextAttempt;
+	}
+
+	/**
+	 * Set the timestamp after which the entry may be processed by the search indexer.
+	 *
+	 * @param timestamp
+	 * @return Fluent API
+	 */
+	default SearchOutboxEntry setNextAttempt(long timestamp) {
+		setProperty(NEXT_ATTEMPT_PROPERTY_KEY, timestamp);
+		return this;
+	}
+
+	/**
+	 * Check whether the entry has already been applied to the search index and is only kept for the replay of a reindex.
+	 *
+	 * @return
+	 */
+	default boolean isProcessed() {
+		Boolean processed = getProperty(PROCESSED_PROPERTY_KEY);
+		return processed != null && processed;
+	}
+
+	/**
+	 * Mark the entry as processed. Processed entries will no longer be picked up by the search indexer.
+	 *
+	 * @return Fluent API
+	 */
+	default SearchOutboxEntry markProcessed() {
+		setProperty(PROCESSED_PROPERTY_KEY, true);
+		setProperty(NEXT_ATTEMPT_PROPERTY_KEY, null);
+		return this;
+	}
+
+}
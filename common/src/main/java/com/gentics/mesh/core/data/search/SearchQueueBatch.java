@@ -157,7 +157,8 @@ public interface SearchQueueBatch {
 	String getBatchId();
 
 	/**
-	 * Process this batch by invoking process on all batch entries.
+	 * Process this batch by invoking process on all batch entries. Entries which have been persisted in the search outbox will be handed over to the search
+	 * indexer unless the requests have been configured to wait for the search index.
 	 * 
 	 * @return
 	 */
@@ -2,6 +2,7 @@ package com.gentics.mesh.core.data.search;
 
 import com.gentics.mesh.core.data.search.context.EntryContext;
 
+import io.vertx.core.json.JsonObject;
 import rx.Completable;
 
 /**
@@ -40,6 +41,14 @@ public interface SearchQueueEntry<T extends EntryContext> extends Comparable<Sea
 	 */
 	T getContext();
 
+	/**
+	 * Return a JSON representation of the entry. The representation contains all information which is needed to restore the entry once it has been
+	 * persisted in the search outbox.
+	 * 
+	 * @return
+	 */
+	JsonObject toJson();
+
 	/**
 	 * Compare the given entry. The order of the element action will be used to compare the entries.
 	 */
@@ -6,7 +6,11 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -68,61 +72,144 @@ public class WebRootLinkReplacer {
 		if (isEmpty(content) || type == LinkType.OFF || type == null) {
 			return content;
 		}
+		// Avoid copying content which does not contain any links
+		if (content.indexOf(START_TAG) == -1) {
+			return content;
+		}
+		StringBuilder renderedContent = new StringBuilder(content.length());
+		replace(ac, releaseUuid, edgeType, content, type, projectName, languageTags, renderedContent);
+		return renderedContent.toString();
+	}
 
-		List<String> segments = new ArrayList<>();
-		int pos = 0;
-		int lastPos = 0;
-		int length = content.length();
-
-		// 1. Tokenize the content
-		while (lastPos < length) {
-			pos = content.indexOf(START_TAG, lastPos);
-			if (pos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
-				break;
+	/**
+	 * Replace the links in the content and append the rendered content to the given buffer. The content is scanned once and all linked nodes are loaded using
+	 * a single lookup. Links to the same node and language are only rendered once.
+	 * 
+	 * @param ac
+	 * @param releaseUuid
+	 *            release Uuid
+	 * @param edgeType
+	 *            edge type
+	 * @param content
+	 *            content containing links to replace
+	 * @param type
+	 *            replacing type
+	 * @param projectName
+	 *            project name (used for 404 links)
+	 * @param languageTags
+	 *            optional language tags
+	 * @param output
+	 *            buffer to which the rendered content will be appended
+	 */
+	public void replace(InternalActionContext ac, String releaseUuid, ContainerType edgeType, String content, LinkType type, String projectName,
+			List<String> languageTags, StringBuilder output) {
+		if (isEmpty(content) || type == LinkType.OFF || type == null) {
+			if (content != null) {
+				output.append(content);
 			}
+			return;
+		}
+
+		// 1. Locate all links and collect the uuids of the linked nodes
+		List<Link> links = new ArrayList<>();
+		Set<String> uuids = new HashSet<>();
+		int length = content.length();
+		int pos = content.indexOf(START_TAG);
+		while (pos != -1) {
 			int endPos = content.indexOf(END_TAG, pos);
 			if (endPos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
 				break;
 			}
+			Link link = parseLink(content, pos, endPos);
+			links.add(link);
+			uuids.add(link.uuid);
+			pos = content.indexOf(START_TAG, link.end);
+		}
+		if (links.isEmpty()) {
+			output.append(content);
+			return;
+		}
 
-			// add intermediate string segment
-			if (lastPos < pos) {
-				segments.add(content.substring(lastPos, pos));
-			}
+		// 2. Load all linked nodes at once
+		Map<String, Node> nodes = boot.meshRoot().getNodeRoot().findByUuids(uuids);
+		String[] fallbackLanguageTags = languageTags == null ? null : languageTags.toArray(new String[languageTags.size()]);
 
-			// 2. Parse the link and invoke resolving
-			String link = content.substring(pos + START_TAG.length(), endPos);
-			// Strip away the quotes. We only care about the argument values
-			// double quotes may be escaped
-			link = link.replaceAll("\\\\\"", "");
-			link = link.replaceAll("'", "");
-			link = link.replaceAll("\"", "");
-			String[] linkArguments = link.split(",");
-			if (linkArguments.length == 2) {
-				segments.add(resolve(ac, releaseUuid, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim()));
-			} else if (languageTags != null) {
-				segments.add(resolve(ac, releaseUuid, edgeType, linkArguments[0], type, projectName,
-						languageTags.toArray(new String[languageTags.size()])));
-			} else {
-				segments.add(resolve(ac, releaseUuid, edgeType, linkArguments[0], type, projectName));
+		// 3. Render the content by appending the content between the links and the resolved links
+		Map<String, String> renderedLinks = new HashMap<>();
+		int lastPos = 0;
+		for (Link link : links) {
+			output.append(content, lastPos, link.start);
+			String key = link.language == null ? link.uuid : link.uuid + "," + link.language;
+			String renderedLink = renderedLinks.get(key);
+			if (renderedLink == null) {
+				Node node = nodes.get(link.uuid);
+				if (node == null) {
+					renderedLink = resolveMissing(link.uuid, type, projectName);
+				} else if (link.language != null) {
+					renderedLink = resolve(ac, releaseUuid, edgeType, node, type, link.language);
+				} else if (fallbackLanguageTags != null) {
+					renderedLink = resolve(ac, releaseUuid, edgeType, node, type, fallbackLanguageTags);
+				} else {
+					renderedLink = resolve(ac, releaseUuid, edgeType, node, type);
+				}
+				renderedLinks.put(key, renderedLink);
 			}
-
-			lastPos = endPos + END_TAG.length();
+			output.append(renderedLink);
+			lastPos = link.end;
 		}
+		output.append(content, lastPos, length);
+	}
 
-		// 3.: Buildup the new content
-		StringBuilder renderedContent = new StringBuilder(length);
-		segments.stream().forEachOrdered(obs -> renderedContent.append(obs));
-
-		return renderedContent.toString();
+	/**
+	 * Parse the arguments of the link which starts and ends at the given positions. Quotes are stripped away since we only care about the argument values.
+	 * The language will only be set if exactly two arguments were given.
+	 * 
+	 * @param content
+	 * @param start
+	 *            Position of the start tag
+	 * @param endTagPos
+	 *            Position of the end tag
+	 * @return
+	 */
+	private Link parseLink(String content, int start, int endTagPos) {
+		StringBuilder uuid = new StringBuilder(32);
+		StringBuilder language = null;
+		StringBuilder current = uuid;
+		int arguments = 1;
+		for (int i = start + START_TAG.length(); i < endTagPos; i++) {
+			char c = content.charAt(i);
+			switch (c) {
+			case '\\':
+				// Double quotes may be escaped
+				if (i + 1 < endTagPos && content.charAt(i + 1) == '"') {
+					i++;
+				} else {
+					current.append(c);
+				}
+				break;
+			case '\'':
+			case '"':
+				break;
+			case ',':
+				arguments++;
+				if (arguments == 2) {
+					language = new StringBuilder(8);
+					current = language;
+				} else {
+					current = null;
+				}
+				break;
+			default:
+				if (current != null) {
+					current.append(c);
+				}
+			}
+			if (current == null) {
+				break;
+			}
+		}
+		String languageTag = arguments == 2 ? language.toString().trim() : null;
+		return new Link(start, endTagPos + END_TAG.length(), uuid.toString().trim(), languageTag);
 	}
 
 	/**
@@ -151,23 +238,38 @@ public class WebRootLinkReplacer {
 
 		// check for null
 		if (node == null) {
-			if (log.isDebugEnabled()) {
-				log.debug("Could not resolve link to '" + uuid + "', target node could not be found");
-			}
-			switch (type) {
-			case SHORT:
-				return "/error/404";
-			case MEDIUM:
-				return "/" + projectName + "/error/404";
-			case FULL:
-				return RouterStorage.DEFAULT_API_MOUNTPOINT + "/" + projectName + "/webroot/error/404";
-			default:
-				throw error(BAD_REQUEST, "Cannot render link with type " + type);
-			}
+			return resolveMissing(uuid, type, projectName);
 		}
 		return resolve(ac, releaseUuid, edgeType, node, type, languageTags);
 	}
 
+	/**
+	 * Render the link for a node which could not be found.
+	 * 
+	 * @param uuid
+	 *            target uuid
+	 * @param type
+	 *            link type
+	 * @param projectName
+	 *            project name
+	 * @return rendered 404 link
+	 */
+	private String resolveMissing(String uuid, LinkType type, String projectName) {
+		if (log.isDebugEnabled()) {
+			log.debug("Could not resolve link to '" + uuid + "', target node could not be found");
+		}
+		switch (type) {
+		case SHORT:
+			return "/error/404";
+		case MEDIUM:
+			return "/" + projectName + "/error/404";
+		case FULL:
+			return RouterStorage.DEFAULT_API_MOUNTPOINT + "/" + projectName + "/webroot/error/404";
+		default:
+			throw error(BAD_REQUEST, "Cannot render link with type " + type);
+		}
+	}
+
 	/**
 	 * Resolve the link to the given node
 	 * 
@@ -260,4 +362,25 @@ public class WebRootLinkReplacer {
 		return buffer.toString();
 	}
 
+	/**
+	 * Position and arguments of a link within the content.
+	 */
+	private static class Link {
+
+		private final int start;
+
+		private final int end;
+
+		private final String uuid;
+
+		private final String language;
+
+		public Link(int start, int end, String uuid, String language) {
+			this.start = start;
+			this.end = end;
+			this.uuid = uuid;
+			this.language = language;
+		}
+	}
+
 }
@@ -192,7 +192,7 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElement(InternalActionContext ac, String uuid,
 			TxAction1<RootVertex<T>> handler, GraphPermission perm) {
-		asyncTx(ac, (tx) -> {
+		asyncReadTx(ac, (tx) -> {
 			RootVertex<T> root = handler.handle();
 			T element = root.loadObjectByUuid(ac, uuid, perm);
 			String etag = element.getETag(ac);
@@ -214,7 +214,7 @@ public class HandlerUtilities {
 	 *            Handler which provides the root vertex which should be used when loading the element
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElementList(InternalActionContext ac, TxAction1<RootVertex<T>> handler) {
-		asyncTx(ac, (tx) -> {
+		asyncReadTx(ac, (tx) -> {
 			RootVertex<T> root = handler.handle();
 
 			PagingParameters pagingInfo = ac.getPagingParameters();
@@ -272,6 +272,28 @@ public class HandlerUtilities {
 		}, action);
 	}
 
+	/**
+	 * Asynchronously execute the handler within the scope of a read only transaction. The transaction will neither be committed nor retried. Thus the
+	 * handler must not modify the graph.
+	 * 
+	 * @param ac
+	 * @param handler
+	 *            Handler which will be executed within a worker thread
+	 * @param action
+	 *            Action which will be invoked once the handler has finished
+	 */
+	public <RM extends RestModel> void asyncReadTx(InternalActionContext ac, TxAction<RM> handler, Action1<RM> action) {
+		async(ac, () -> {
+			return database.readTx(handler);
+		}, action);
+	}
+
+	public <RM extends RestModel> void asyncReadTx(InternalActionContext ac, TxAction1<RM> handler, Action1<RM> action) {
+		async(ac, () -> {
+			return database.readTx(handler);
+		}, action);
+	}
+
 	private <RM extends RestModel> void async(InternalActionContext ac, TxAction1<RM> handler, Action1<RM> action) {
 		async(ac, handler, action, false);
 	}
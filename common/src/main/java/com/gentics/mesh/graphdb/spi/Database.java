@@ -1,8 +1,10 @@
 package com.gentics.mesh.graphdb.spi;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
@@ -191,6 +193,63 @@ public interface Database extends TxFactory {
 		});
 	}
 
+	/**
+	 * Execute the given handler within a read only transaction. The transaction will neither be committed nor retried since a read operation can't cause
+	 * conflicts with concurrent transactions. Changes which are applied by the handler will be discarded.
+	 * 
+	 * @param txHandler
+	 * @return Result of the handler
+	 */
+	<T> T readTx(TxAction<T> txHandler);
+
+	/**
+	 * Execute the given handler within a read only transaction.
+	 * 
+	 * @param txHandler
+	 * @return Result of the handler
+	 */
+	default <T> T readTx(TxAction1<T> txHandler) {
+		return readTx((tx) -> {
+			return txHandler.handle();
+		});
+	}
+
+	/**
+	 * Asynchronously execute the given handler within a read only transaction and return a single which can be subscribed to get the result.
+	 * 
+	 * @param txHandler
+	 * @return
+	 */
+	default <T> Single<T> asyncReadTx(TxAction<T> txHandler) {
+		return Single.create(sub -> {
+			Mesh.vertx().executeBlocking(bc -> {
+				try {
+					bc.complete(readTx(txHandler));
+				} catch (Exception e) {
+					bc.fail(e);
+				}
+			}, false, (AsyncResult<T> done) -> {
+				if (done.failed()) {
+					sub.onError(done.cause());
+				} else {
+					sub.onSuccess(done.result());
+				}
+			});
+		});
+	}
+
+	/**
+	 * Asynchronously execute the given handler within a read only transaction and return a single which can be subscribed to get the result.
+	 * 
+	 * @param txHandler
+	 * @return
+	 */
+	default <T> Single<T> asyncReadTx(TxAction1<T> txHandler) {
+		return asyncReadTx((tx) -> {
+			return txHandler.handle();
+		});
+	}
+
 	/**
 	 * Initialise the database and store the settings.
 	 * 
@@ -313,6 +372,16 @@ public interface Database extends TxFactory {
 	 */
 	void addVertexIndex(String indexName, Class<?> clazzOfVertices, boolean unique, String fieldKey, FieldType fieldType);
 
+	/**
+	 * Add a sorted vertex index for the given type of vertex and field. In contrast to the hash indices the entries of a sorted index can be iterated in the
+	 * order of their values.
+	 * 
+	 * @param clazzOfVertices
+	 * @param fieldKey
+	 * @param fieldType
+	 */
+	void addSortedVertexIndex(Class<?> clazzOfVertices, String fieldKey, FieldType fieldType);
+
 	/**
 	 * Check whether the values can be put into the given index for the given element.
 	 * 
@@ -389,6 +458,16 @@ public interface Database extends TxFactory {
 	 */
 	Iterator<Vertex> getVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues);
 
+	/**
+	 * Utilize the index of the field and locate the vertices for all given values using a single index lookup.
+	 * 
+	 * @param classOfVertex
+	 * @param fieldName
+	 * @param fieldValues
+	 * @return Map which contains the found vertices for the field values. Values for which no vertex could be found are not contained in the map.
+	 */
+	Map<Object, Vertex> getVertices(Class<?> classOfVertex, String fieldName, Collection<?> fieldValues);
+
 	/**
 	 * Locate all vertices for the given type.
 	 * 
@@ -397,6 +476,26 @@ public interface Database extends TxFactory {
 	 */
 	<T extends MeshVertex> Iterator<? extends T> getVerticesForType(Class<T> classOfVertex);
 
+	/**
+	 * Utilize the sorted index of the field and locate the vertices whose value is lower than or equal to the given maximum value. The vertices are returned
+	 * in ascending order of their values.
+	 * 
+	 * @param classOfVertex
+	 * @param fieldName
+	 * @param maxValue
+	 * @return
+	 */
+	Iterator<Vertex> getVerticesUpTo(Class<?> classOfVertex, String fieldName, Object maxValue);
+
+	/**
+	 * Return the amount of vertices of the given type. The amount is maintained by the graph storage and thus does not require an iteration of the
+	 * vertices.
+	 * 
+	 * @param classOfVertex
+	 * @return
+	 */
+	long countVertices(Class<?> classOfVertex);
+
 	/**
 	 * Update the vertex type for the given element using the class type.
 	 * 
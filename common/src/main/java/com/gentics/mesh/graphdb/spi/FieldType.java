@@ -2,5 +2,5 @@ package com.gentics.mesh.graphdb.spi;
 
 public enum FieldType {
 
-	STRING, INTEGER, BOOLEAN, STRING_LIST, STRING_SET
+	STRING, INTEGER, LONG, BOOLEAN, STRING_LIST, STRING_SET
 }
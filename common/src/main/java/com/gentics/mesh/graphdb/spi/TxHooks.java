@@ -0,0 +1,193 @@
+package com.gentics.mesh.graphdb.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.syncleus.ferma.FramedGraph;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Hooks which collect values during a transaction and handle them once when the transaction is committed. This is used to apply changes only once per
+ * transaction (e.g. the change stamp of a node) and to invalidate caches after the changes have been committed. Invalidating a cache before the commit would
+ * allow concurrent requests to load the outdated data into the cache again.
+ *
+ * The hooks are bound to the transaction of the current thread. Nested transactions share the hooks of the outermost transaction. The collected values are
+ * discarded if the transaction is rolled back (e.g. before it is retried). The database implementation needs to invoke {@link #begin()},
+ * {@link #beforeCommit(FramedGraph)} and {@link #end(boolean)}.
+ */
+public final class TxHooks {
+
+	private static final Logger log = LoggerFactory.getLogger(TxHooks.class);
+
+	private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+	private TxHooks() {
+	}
+
+	/**
+	 * Add the value to the values which will be handled once before the transaction is committed. The handler is invoked with all values which were
+	 * collected for the key and may still modify the graph. The handler will be invoked immediately if no transaction is active.
+	 *
+	 * @param key
+	 *            Key which identifies the hook
+	 * @param value
+	 * @param handler
+	 *            Handler which will be invoked with the graph of the transaction and the collected values
+	 */
+	public static <T> void beforeCommit(String key, T value, BiConsumer<FramedGraph, Set<T>> handler) {
+		Scope scope = SCOPE.get();
+		if (scope == null) {
+			handler.accept(null, Collections.singleton(value));
+			return;
+		}
+		scope.collect(scope.beforeCommit, key, value, handler);
+	}
+
+	/**
+	 * Add the value to the values which will be handled once after the transaction has been committed. The handler is invoked with all values which were
+	 * collected for the key. The handler will be invoked immediately if no transaction is active.
+	 *
+	 * @param key
+	 *            Key which identifies the hook
+	 * @param value
+	 * @param handler
+	 *            Handler which will be invoked with the collected values
+	 */
+	public static <T> void afterCommit(String key, T value, Consumer<Set<T>> handler) {
+		Scope scope = SCOPE.get();
+		if (scope == null) {
+			handler.accept(Collections.singleton(value));
+			return;
+		}
+		scope.collect(scope.afterCommit, key, value, (graph, values) -> handler.accept(values));
+	}
+
+	/**
+	 * Check whether the value has already been collected for the key within the current transaction.
+	 *
+	 * @param key
+	 * @param value
+	 * @return
+	 */
+	public static boolean isCollected(String key, Object value) {
+		Scope scope = SCOPE.get();
+		if (scope == null) {
+			return false;
+		}
+		Hook<?> hook = scope.beforeCommit.get(key);
+		if (hook == null) {
+			hook = scope.afterCommit.get(key);
+		}
+		return hook != null && hook.values.contains(value);
+	}
+
+	/**
+	 * Notify the hooks that a transaction has been opened by the current thread.
+	 */
+	public static void begin() {
+		Scope scope = SCOPE.get();
+		if (scope == null) {
+			scope = new Scope();
+			SCOPE.set(scope);
+		}
+		scope.depth++;
+	}
+
+	/**
+	 * Invoke the before commit handlers if the outermost transaction is about to be committed.
+	 *
+	 * @param graph
+	 *            Graph of the transaction
+	 */
+	public static void beforeCommit(FramedGraph graph) {
+		Scope scope = SCOPE.get();
+		if (scope == null || scope.depth > 1) {
+			return;
+		}
+		// Handlers may collect further values
+		while (!scope.beforeCommit.isEmpty()) {
+			List<Hook<?>> hooks = new ArrayList<>(scope.beforeCommit.values());
+			scope.beforeCommit.clear();
+			for (Hook<?> hook : hooks) {
+				hook.handle(graph);
+			}
+		}
+	}
+
+	/**
+	 * Notify the hooks that a transaction of the current thread has been closed. The after commit handlers are invoked if the outermost transaction has been
+	 * committed. Otherwise the collected values will be discarded.
+	 *
+	 * @param committed
+	 *            Whether the transaction was committed successfully
+	 */
+	public static void end(boolean committed) {
+		Scope scope = SCOPE.get();
+		if (scope == null) {
+			return;
+		}
+		if (--scope.depth > 0) {
+			return;
+		}
+		SCOPE.remove();
+		if (!committed) {
+			return;
+		}
+		for (Hook<?> hook : scope.afterCommit.values()) {
+			try {
+				hook.handle(null);
+			} catch (Exception e) {
+				// The transaction has already been committed. Failing the caller would only cause the changes to be applied again.
+				log.error("Error while handling the after commit hook", e);
+			}
+		}
+	}
+
+	/**
+	 * Hooks of the transaction of a thread.
+	 */
+	private static final class Scope {
+
+		private int depth;
+
+		private final Map<String, Hook<?>> beforeCommit = new LinkedHashMap<>();
+
+		private final Map<String, Hook<?>> afterCommit = new LinkedHashMap<>();
+
+		@SuppressWarnings("unchecked")
+		private <T> void collect(Map<String, Hook<?>> hooks, String key, T value, BiConsumer<FramedGraph, Set<T>> handler) {
+			Hook<T> hook = (Hook<T>) hooks.computeIfAbsent(key, k -> new Hook<>(handler));
+			hook.values.add(value);
+		}
+	}
+
+	/**
+	 * Collected values of a hook along with the handler.
+	 *
+	 * @param <T>
+	 */
+	private static final class Hook<T> {
+
+		private final Set<T> values = new LinkedHashSet<>();
+
+		private final BiConsumer<FramedGraph, Set<T>> handler;
+
+		Hook(BiConsumer<FramedGraph, Set<T>> handler) {
+			this.handler = handler;
+		}
+
+		void handle(FramedGraph graph) {
+			handler.accept(graph, values);
+		}
+	}
+
+}
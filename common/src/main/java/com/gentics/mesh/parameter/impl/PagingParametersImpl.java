@@ -100,6 +100,24 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		perPageParameter.setRequired(false);
 		perPageParameter.setType(ParamType.NUMBER);
 		parameters.put(PER_PAGE_PARAMETER_KEY, perPageParameter);
+
+		// after
+		QueryParameter afterParameter = new QueryParameter();
+		afterParameter.setDescription(
+				"Cursor of the element after which the page should start. The cursor of the next page is returned in the paging meta info of the list response. The page parameter will be ignored and the total count and page count will not be determined if a cursor has been set.");
+		afterParameter.setExample("IzQ1OjEyMw");
+		afterParameter.setRequired(false);
+		afterParameter.setType(ParamType.STRING);
+		parameters.put(AFTER_PARAMETER_KEY, afterParameter);
+
+		// countLimit
+		QueryParameter countLimitParameter = new QueryParameter();
+		countLimitParameter.setDescription(
+				"Limit up to which the elements will be counted. The total count and page count are only approximated if more elements exist. A limit of 0 disables the counting. By default all elements will be counted.");
+		countLimitParameter.setExample("1000");
+		countLimitParameter.setRequired(false);
+		countLimitParameter.setType(ParamType.NUMBER);
+		parameters.put(COUNT_LIMIT_PARAMETER_KEY, countLimitParameter);
 		return parameters;
 	}
 
@@ -1,6 +1,7 @@
 package com.gentics.mesh.search;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,12 +19,14 @@ import rx.Single;
  */
 public class DummySearchProvider implements SearchProvider {
 
-	private Map<String, JsonObject> updateEvents = new HashMap<>();
-	private List<String> deleteEvents = new ArrayList<>();
-	private Map<String, JsonObject> storeEvents = new HashMap<>();
-	private List<String> getEvents = new ArrayList<>();
-	private List<String> dropIndexEvents = new ArrayList<>();
-	private Map<String, JsonObject> createIndexEvents = new HashMap<>();
+	// The events may be recorded by multiple threads (e.g. the reindex workers)
+	private Map<String, JsonObject> updateEvents = Collections.synchronizedMap(new HashMap<>());
+	private List<String> deleteEvents = Collections.synchronizedList(new ArrayList<>());
+	private Map<String, JsonObject> storeEvents = Collections.synchronizedMap(new HashMap<>());
+	private List<String> getEvents = Collections.synchronizedList(new ArrayList<>());
+	private List<String> dropIndexEvents = Collections.synchronizedList(new ArrayList<>());
+	private Map<String, JsonObject> createIndexEvents = Collections.synchronizedMap(new HashMap<>());
+	private Map<String, String> pendingVersions = Collections.synchronizedMap(new HashMap<>());
 
 	@Override
 	public SearchProvider init(MeshOptions options) {
@@ -48,6 +51,25 @@ public class DummySearchProvider implements SearchProvider {
 		return Completable.complete();
 	}
 
+	@Override
+	public Completable createIndexVersion(IndexInfo info, String version) {
+		return Completable.fromAction(() -> {
+			pendingVersions.put(info.getIndexName(), version);
+		});
+	}
+
+	@Override
+	public Completable switchIndexVersion(String indexName, String version) {
+		return Completable.fromAction(() -> {
+			pendingVersions.remove(indexName, version);
+		});
+	}
+
+	@Override
+	public boolean hasPendingIndexVersions() {
+		return !pendingVersions.isEmpty();
+	}
+
 	@Override
 	public Completable updateDocument(String index, String uuid, JsonObject document, boolean ignoreMissingDocumentError) {
 		return Completable.fromAction(() -> {
@@ -77,6 +99,15 @@ public class DummySearchProvider implements SearchProvider {
 		return Completable.complete();
 	}
 
+	@Override
+	public Completable storeDocumentVersionBatch(String index, String version, Map<String, JsonObject> documents) {
+		return Completable.fromAction(() -> {
+			for (Map.Entry<String, JsonObject> entry : documents.entrySet()) {
+				storeEvents.put(index + "-" + entry.getKey(), entry.getValue());
+			}
+		});
+	}
+
 	@Override
 	public Completable storeDocument(String index, String uuid, JsonObject document) {
 		return Completable.fromAction(() -> {
@@ -115,6 +146,7 @@ public class DummySearchProvider implements SearchProvider {
 		storeEvents.clear();
 		dropIndexEvents.clear();
 		createIndexEvents.clear();
+		pendingVersions.clear();
 	}
 
 	@Override
@@ -18,6 +18,11 @@ public interface SearchProvider {
 
 	static String DEFAULT_TYPE = "default";
 
+	/**
+	 * Interval in milliseconds in which the instances refresh the pending index versions.
+	 */
+	static long PENDING_VERSIONS_REFRESH_INTERVAL = 1000;
+
 	/**
 	 * Explicitly refresh one or more indices (making the content indexed since the last refresh searchable).
 	 * 
@@ -33,6 +38,39 @@ public interface SearchProvider {
 	 */
 	Completable createIndex(IndexInfo info);
 
+	/**
+	 * Create a new version of the index. The new version is built next to the currently active index which continues to serve all search requests. All
+	 * document changes which are written to the index will also be applied to the new version until the version gets activated via
+	 * {@link #switchIndexVersion(String, String)}. The pending version is registered within the search engine so that all instances of the cluster apply
+	 * the document changes to it. Other instances will pick up the version within {@link #PENDING_VERSIONS_REFRESH_INTERVAL}. Invoking this method for an
+	 * existing version will only re-register the version.
+	 *
+	 * @param info
+	 *            Index information which includes index name, mappings and settings.
+	 * @param version
+	 *            Version of the index
+	 * @return
+	 */
+	Completable createIndexVersion(IndexInfo info, String version);
+
+	/**
+	 * Atomically switch the index to the given version and remove the previously active version.
+	 *
+	 * @param indexName
+	 *            Name of the index
+	 * @param version
+	 *            Version which was created via {@link #createIndexVersion(IndexInfo, String)}
+	 * @return
+	 */
+	Completable switchIndexVersion(String indexName, String version);
+
+	/**
+	 * Check whether new versions of indices are currently being built. Document changes are also applied to those versions.
+	 * 
+	 * @return
+	 */
+	boolean hasPendingIndexVersions();
+
 	// TODO add a good response instead of void. We need this in order to handle correct logging?
 	/**
 	 * Update the document.
@@ -81,6 +119,19 @@ public interface SearchProvider {
 	 */
 	Completable storeDocumentBatch(String index, Map<String, JsonObject> documents);
 
+	/**
+	 * Store a batch of documents only in the given version of the index. The currently active version of the index will not be modified.
+	 * 
+	 * @param index
+	 *            Index name
+	 * @param version
+	 *            Version which was created via {@link #createIndexVersion(IndexInfo, String)}
+	 * @param documents
+	 *            Map of documents in which the key represents the documentId to be used
+	 * @return
+	 */
+	Completable storeDocumentVersionBatch(String index, String version, Map<String, JsonObject> documents);
+
 	/**
 	 * Get the given document.
 	 * 
@@ -1,5 +1,6 @@
 package com.gentics.mesh.cli;
 
+import static com.gentics.mesh.Events.JOB_WORKER_ADDRESS;
 import static com.gentics.mesh.Events.STARTUP_EVENT_ADDRESS;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.CREATE_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.DELETE_PERM;
@@ -35,7 +36,9 @@ import com.gentics.mesh.MeshStatus;
 import com.gentics.mesh.MeshVersion;
 import com.gentics.mesh.changelog.ChangelogSystem;
 import com.gentics.mesh.changelog.ReindexAction;
+import com.gentics.mesh.core.cache.PathCache;
 import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.cache.ResponseCache;
 import com.gentics.mesh.core.console.ConsoleProvider;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.Language;
@@ -46,6 +49,7 @@ import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.binary.BinaryRoot;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.impl.DatabaseHelper;
+import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.job.JobRoot;
 import com.gentics.mesh.core.data.root.GroupRoot;
 import com.gentics.mesh.core.data.root.LanguageRoot;
@@ -80,6 +84,7 @@ import com.gentics.mesh.etc.config.ClusterOptions;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaStore;
 import com.gentics.mesh.search.IndexHandlerRegistry;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.util.MavenVersionNumber;
@@ -140,27 +145,25 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 
 	private List<String> allLanguageTags = new ArrayList<>();
 
+	/**
+	 * Flag which indicates that a reindex job has been enqueued during startup. The job worker will be triggered once the verticles have been deployed.
+	 */
+	private boolean reindexEnqueued = false;
+
 	private final ReindexAction REINDEX_ACTION = (() -> {
 
 		// Init the classes / indices
 		DatabaseHelper.init(db);
 
-		// 1. Drop all indices
-		log.info("Clearing all indices..");
-		searchProvider.clear();
-		log.info("Clearing indices completed.");
+		// Create the indices + mappings so that the search indexer can store documents in the meantime
+		createSearchIndicesAndMappings();
 
-		// 2. Recreate indices + mappings and reindex the documents
-		IndexHandlerRegistry registry = indexHandlerRegistry.get();
-		for (IndexHandler<?> handler : registry.getHandlers()) {
-			String handlerName = handler.getClass().getSimpleName();
-			log.info("Invoking reindex on handler {" + handlerName + "}. This may take some time..");
-			handler.init().await();
-			try (Tx tx = db.tx()) {
-				handler.reindexAll().await();
-			}
-			log.info("Reindex on handler {" + handlerName + "} completed.");
-		}
+		// The documents are reindexed by the reindex job in the background
+		db.tx(() -> {
+			Job job = jobRoot().enqueueReindex(null);
+			log.info("Enqueued reindex job {" + job.getUuid() + "}");
+		});
+		reindexEnqueued = true;
 	});
 
 	@Inject
@@ -224,6 +227,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 		boolean isClustered = options.getClusterOptions().isEnabled();
 		boolean isInitMode = options.isInitClusterMode();
 		boolean startOrientServer = storageOptions != null && storageOptions.getStartServer();
+		ResponseCache.init(options.getResponseCacheOptions());
 
 		try {
 			db.init(Mesh.mesh().getOptions(), MeshVersion.getBuildInfo().getVersion(), "com.gentics.mesh.core.data");
@@ -402,6 +406,11 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 			verticleLoader.apply(Mesh.vertx());
 		}
 
+		// Start processing the reindex job
+		if (reindexEnqueued) {
+			Mesh.vertx().eventBus().send(JOB_WORKER_ADDRESS, null);
+		}
+
 		// Handle admin password reset
 		String password = configuration.getAdminPassword();
 		if (password != null) {
@@ -429,11 +438,21 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	public void registerEventHandlers() {
 		routerStorage.registerEventbusHandlers();
 		PermissionStore.registerEventHandler();
+		PathCache.registerEventHandler();
+		ResponseCache.registerEventHandler();
+		GraphQLSchemaStore.registerEventHandler();
 	}
 
 	@Override
 	public void reindexAll() {
-		REINDEX_ACTION.invoke();
+		// Init the classes / indices
+		DatabaseHelper.init(db);
+
+		try (Tx tx = db.tx()) {
+			Job job = jobRoot().enqueueReindex(null);
+			job.process();
+			tx.success();
+		}
 	}
 
 	@Override
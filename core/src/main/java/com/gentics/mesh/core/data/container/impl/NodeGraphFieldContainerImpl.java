@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -28,6 +29,7 @@ import com.gentics.mesh.core.data.node.field.DisplayField;
 import org.apache.commons.collections.CollectionUtils;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.PathCache;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Release;
@@ -191,6 +193,7 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 	@SuppressWarnings("unchecked")
 	public void deleteFromRelease(Release release, SearchQueueBatch batch) {
 		String releaseUuid = release.getUuid();
+		PathCache.invalidate(getParentNode());
 
 		batch.delete(this, releaseUuid, DRAFT, false);
 		if (isPublished(releaseUuid)) {
@@ -290,6 +293,8 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public void updateWebrootPathInfo(String releaseUuid, String conflictI18n) {
+		String previousWebrootInfo = getProperty(WEBROOT_PROPERTY_KEY);
+		String previousPublishedWebrootInfo = getProperty(PUBLISHED_WEBROOT_PROPERTY_KEY);
 		Set<String> urlFieldValues = getUrlFieldValues();
 		if (isDraft(releaseUuid)) {
 			updateWebrootPathInfo(releaseUuid, conflictI18n, ContainerType.DRAFT, WEBROOT_PROPERTY_KEY, WEBROOT_INDEX_NAME);
@@ -305,6 +310,11 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 			setProperty(PUBLISHED_WEBROOT_PROPERTY_KEY, null);
 			setProperty(PUBLISHED_WEBROOT_URLFIELD_PROPERTY_KEY, null);
 		}
+		// The webroot info contains the segment and the parent of the node. It is only set if the container is a draft or published.
+		if (!Objects.equals(previousWebrootInfo, getProperty(WEBROOT_PROPERTY_KEY)) || !Objects.equals(previousPublishedWebrootInfo, getProperty(
+				PUBLISHED_WEBROOT_PROPERTY_KEY))) {
+			PathCache.invalidate(getParentNode());
+		}
 	}
 
 	/**
@@ -329,10 +339,10 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 		// The webroot uniqueness will be checked by validating that the string [segmentValue-releaseUuid-parentNodeUuid] is only listed once within the given
 		// specific index for (drafts or published nodes)
+		Node parent = node.getParentNode(releaseUuid);
 		if (segment != null) {
 			StringBuilder webRootInfo = new StringBuilder(segment);
 			webRootInfo.append("-").append(releaseUuid);
-			Node parent = node.getParentNode(releaseUuid);
 			if (parent != null) {
 				webRootInfo.append("-").append(parent.getUuid());
 			}
@@ -353,6 +363,11 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 		} else {
 			setProperty(propertyName, null);
 		}
+
+		// The property of the container only holds the info of the last updated release. The edge of the release is used to resolve webroot paths.
+		String segmentInfo = GraphFieldContainerEdgeImpl.composeSegmentInfo(segment, parent);
+		inE(HAS_FIELD_CONTAINER).has(GraphFieldContainerEdgeImpl.RELEASE_UUID_KEY, releaseUuid).has(GraphFieldContainerEdgeImpl.EDGE_TYPE_KEY, type
+				.getCode()).frameExplicit(GraphFieldContainerEdgeImpl.class).forEach(edge -> edge.setSegmentInfo(segmentInfo));
 	}
 
 	@Override
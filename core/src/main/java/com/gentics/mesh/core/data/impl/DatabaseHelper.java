@@ -10,6 +10,7 @@ import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.job.impl.JobRootImpl;
 import com.gentics.mesh.core.data.job.impl.MicronodeMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.NodeMigrationJobImpl;
+import com.gentics.mesh.core.data.job.impl.ReindexJobImpl;
 import com.gentics.mesh.core.data.job.impl.ReleaseMigrationJobImpl;
 import com.gentics.mesh.core.data.node.field.impl.BinaryGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.impl.MicronodeGraphFieldImpl;
@@ -48,6 +49,7 @@ import com.gentics.mesh.core.data.schema.impl.SchemaContainerVersionImpl;
 import com.gentics.mesh.core.data.schema.impl.UpdateFieldChangeImpl;
 import com.gentics.mesh.core.data.schema.impl.UpdateMicroschemaChangeImpl;
 import com.gentics.mesh.core.data.schema.impl.UpdateSchemaChangeImpl;
+import com.gentics.mesh.core.data.search.impl.SearchOutboxEntryImpl;
 import com.gentics.mesh.graphdb.spi.Database;
 
 import io.vertx.core.logging.Logger;
@@ -135,6 +137,10 @@ public final class DatabaseHelper {
 		NodeMigrationJobImpl.init(database);
 		MicronodeMigrationJobImpl.init(database);
 		ReleaseMigrationJobImpl.init(database);
+		ReindexJobImpl.init(database);
+
+		// Search
+		SearchOutboxEntryImpl.init(database);
 
 		// Field changes
 		FieldTypeChangeImpl.init(database);
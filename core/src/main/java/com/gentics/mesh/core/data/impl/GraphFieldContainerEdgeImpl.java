@@ -8,6 +8,7 @@ import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.GraphFieldContainerEdge;
 import com.gentics.mesh.core.data.container.impl.AbstractBasicGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.syncleus.ferma.AbstractEdgeFrame;
 import com.syncleus.ferma.EdgeFrame;
@@ -28,6 +29,24 @@ public class GraphFieldContainerEdgeImpl extends AbstractEdgeFrame implements Gr
 		db.addEdgeType(HAS_FIELD_CONTAINER, GraphFieldContainerEdgeImpl.class);
 		db.addCustomEdgeIndex(HAS_FIELD_CONTAINER, "release_type_lang", "out", GraphFieldContainerEdgeImpl.RELEASE_UUID_KEY,
 				GraphFieldContainerEdgeImpl.EDGE_TYPE_KEY, GraphFieldContainerEdgeImpl.LANGUAGE_TAG_KEY);
+		db.addCustomEdgeIndex(HAS_FIELD_CONTAINER, "webroot", GraphFieldContainerEdgeImpl.RELEASE_UUID_KEY, GraphFieldContainerEdgeImpl.EDGE_TYPE_KEY,
+				GraphFieldContainerEdgeImpl.WEBROOT_SEGMENT_KEY);
+	}
+
+	/**
+	 * Compose the webroot segment info which is stored in the edges and used to lookup the containers via the webroot index.
+	 * 
+	 * @param segment
+	 *            Segment of the container
+	 * @param parentNode
+	 *            Parent node of the node within the release
+	 * @return Composed info or null if no segment or parent node was specified
+	 */
+	public static String composeSegmentInfo(String segment, Node parentNode) {
+		if (segment == null || parentNode == null) {
+			return null;
+		}
+		return segment + "-" + parentNode.getUuid();
 	}
 
 	/**
@@ -90,6 +109,16 @@ public class GraphFieldContainerEdgeImpl extends AbstractEdgeFrame implements Gr
 		setProperty(RELEASE_UUID_KEY, uuid);
 	}
 
+	@Override
+	public String getSegmentInfo() {
+		return getProperty(WEBROOT_SEGMENT_KEY);
+	}
+
+	@Override
+	public void setSegmentInfo(String segmentInfo) {
+		setProperty(WEBROOT_SEGMENT_KEY, segmentInfo);
+	}
+
 	/**
 	 * Traversal function that restricts by given language tag
 	 */
@@ -11,6 +11,8 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -79,6 +81,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		PermissionStore.invalidateUsers(Collections.singleton(user.getId()));
 	}
 
 	@Override
@@ -89,7 +92,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.unlinkOut(role, ASSIGNED_TO_ROLE);
 		}
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(Collections.singleton(user.getId()));
 	}
 
 	@Override
@@ -102,10 +105,12 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		setUniqueLinkInTo(role, HAS_ROLE);
 
 		// Add shortcut edges from role to users of this group
+		List<Object> userIds = new ArrayList<>();
 		for (User user : getUsers()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
+			userIds.add(user.getId());
 		}
-
+		PermissionStore.invalidateUsers(userIds);
 	}
 
 	@Override
@@ -113,10 +118,12 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		unlinkIn(role, HAS_ROLE);
 
 		// Remove shortcut edges from role to users of this group
+		List<Object> userIds = new ArrayList<>();
 		for (User user : getUsers()) {
 			user.unlinkOut(role, ASSIGNED_TO_ROLE);
+			userIds.add(user.getId());
 		}
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(userIds);
 	}
 
 	@Override
@@ -172,8 +179,12 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 	public void delete(SearchQueueBatch batch) {
 		// TODO don't allow deletion of the admin group
 		batch.delete(this, true);
+		List<Object> userIds = new ArrayList<>();
+		for (User user : getUsers()) {
+			userIds.add(user.getId());
+		}
 		getElement().remove();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(userIds);
 	}
 
 	@Override
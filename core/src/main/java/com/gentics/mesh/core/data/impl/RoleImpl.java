@@ -2,11 +2,14 @@ package com.gentics.mesh.core.data.impl;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.ASSIGNED_TO_ROLE;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_CREATOR;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_EDITOR;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_PARENT_NODE;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_ROLE;
 import static com.gentics.mesh.core.rest.error.Errors.conflict;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -24,6 +27,8 @@ import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.generic.AbstractMeshCoreVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -101,11 +106,35 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public void grantPermissions(MeshVertex vertex, GraphPermission... permissions) {
+		if (grant(vertex, permissions)) {
+			updateParentChangeStamps(vertex);
+		}
+	}
+
+	@Override
+	public void grantPermissionsOnCreate(MeshVertex vertex, GraphPermission... permissions) {
+		grant(vertex, permissions);
+	}
+
+	/**
+	 * Add the permission edges which don't yet exist.
+	 * 
+	 * @param vertex
+	 * @param permissions
+	 * @return true if at least one permission was granted
+	 */
+	private boolean grant(MeshVertex vertex, GraphPermission... permissions) {
+		boolean granted = false;
 		for (GraphPermission permission : permissions) {
 			if (!hasPermission(permission, vertex)) {
 				addFramedEdge(permission.label(), vertex);
+				granted = true;
 			}
 		}
+		if (granted) {
+			PermissionStore.invalidateElement(vertex.getId());
+		}
+		return granted;
 	}
 
 	@Override
@@ -135,7 +164,22 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 				key, indexKey).spliterator(), false)).peek(Edge::remove).count();
 
 		if (edgesRemoved > 0) {
-			PermissionStore.invalidate();
+			PermissionStore.invalidateElement(vertex.getId());
+			updateParentChangeStamps(vertex);
+		}
+	}
+
+	/**
+	 * Update the change stamps of the parent nodes if the given vertex is a node. The children info of the parent nodes depends on the permissions of their
+	 * children.
+	 * 
+	 * @param vertex
+	 */
+	private void updateParentChangeStamps(MeshVertex vertex) {
+		if (vertex instanceof Node) {
+			for (Node parent : vertex.out(HAS_PARENT_NODE).toListExplicit(NodeImpl.class)) {
+				parent.updateChangeStamp();
+			}
 		}
 	}
 
@@ -165,9 +209,14 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 				}
 			}
 		}
+		List<Object> userIds = new ArrayList<>();
+		for (User user : in(ASSIGNED_TO_ROLE).frameExplicit(UserImpl.class)) {
+			userIds.add(user.getId());
+		}
 		getVertex().remove();
 
-		PermissionStore.invalidate();
+		// The stale element permissions of the role are never matched again once the role ids of the users have been reloaded
+		PermissionStore.invalidateUsers(userIds);
 	}
 
 	@Override
@@ -194,6 +194,10 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 		}
 		if(!getName().equals(newName)) {
 			this.setName(newName);
+			// The tag references of the tagged nodes contain the name of the tag family
+			for (Tag tag : findAllIt()) {
+				tag.updateNodeChangeStamps();
+			}
 			batch.store(this, true);
 			return true;
 		} else {
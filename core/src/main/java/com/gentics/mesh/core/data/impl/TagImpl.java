@@ -137,6 +137,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 			String releaseUuid = release.getUuid();
 			for (Node node : getNodes(release)) {
 				batch.store(node, releaseUuid);
+				node.updateChangeStamp();
 			}
 		}
 		getVertex().remove();
@@ -197,6 +198,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 				setEditor(ac.getUser());
 				setLastEditedTimestamp();
 				setName(newTagName);
+				updateNodeChangeStamps();
 				batch.store(getTagFamily(), false);
 				batch.store(this, true);
 				return true;
@@ -206,6 +208,15 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 
 	}
 
+	@Override
+	public void updateNodeChangeStamps() {
+		for (Release release : getProject().getReleaseRoot().findAllIt()) {
+			for (Node node : getNodes(release)) {
+				node.updateChangeStamp();
+			}
+		}
+	}
+
 	@Override
 	public void handleRelatedEntries(HandleElementAction action) {
 		// Locate all nodes that use the tag across all releases and update these nodes
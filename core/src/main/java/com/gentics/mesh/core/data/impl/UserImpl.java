@@ -19,8 +19,12 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -266,37 +270,56 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public boolean hasPermissionForId(Object elementId, GraphPermission permission) {
-		if (PermissionStore.hasPermission(getId(), permission, elementId)) {
-			return true;
-		} else {
-			FramedGraph graph = getGraph();
-			// Find all roles that are assigned to the user by checking the
-			// shortcut edge from the index
-			Iterable<Edge> roleEdges = graph.getEdges("e." + ASSIGNED_TO_ROLE + "_out", this.getId());
-			for (Edge roleEdge : roleEdges) {
-				Vertex role = roleEdge.getVertex(Direction.IN);
-				// Find all permission edges between the found role and target
-				// vertex with the specified label
-				Iterable<Edge> edges = graph.getEdges("e." + permission.label() + "_inout", MeshInternal.get().database().createComposedIndexKey(
-						elementId, role.getId()));
-				boolean foundPermEdge = edges.iterator().hasNext();
-				if (foundPermEdge) {
-					// We only store granting permissions in the store in order
-					// reduce the invalidation calls.
-					// This way we do not need to invalidate the cache if a role
-					// is removed from a group or a role is deleted.
-					PermissionStore.store(getId(), permission, elementId);
-					return true;
+		FramedGraph graph = getGraph();
+		return PermissionStore.hasPermission(getId(), permission, elementId, userId -> loadRoleIds(graph, userId), id -> loadPermissions(graph, id));
+	}
+
+	@Override
+	public Set<Object> hasPermissions(Collection<Object> elementIds, GraphPermission permission) {
+		FramedGraph graph = getGraph();
+		return PermissionStore.hasPermissions(getId(), permission, elementIds, userId -> loadRoleIds(graph, userId), id -> loadPermissions(graph, id));
+	}
+
+	@Override
+	public String getRoleSetId() {
+		FramedGraph graph = getGraph();
+		return PermissionStore.getRoleSet(getId(), userId -> loadRoleIds(graph, userId)).getId();
+	}
+
+	/**
+	 * Load the ids of the roles of the user by using the shortcut edges.
+	 * 
+	 * @param graph
+	 * @param userId
+	 * @return
+	 */
+	private static Set<String> loadRoleIds(FramedGraph graph, Object userId) {
+		Set<String> roleIds = new HashSet<>();
+		for (Edge roleEdge : graph.getEdges("e." + ASSIGNED_TO_ROLE + "_out", userId)) {
+			roleIds.add(String.valueOf(roleEdge.getVertex(Direction.IN).getId()));
+		}
+		return roleIds;
+	}
+
+	/**
+	 * Load the permissions of all roles on the element. The permissions of each role are represented by a bitset of the {@link GraphPermission} ordinals.
+	 * 
+	 * @param graph
+	 * @param elementId
+	 * @return
+	 */
+	private static Map<String, Integer> loadPermissions(FramedGraph graph, Object elementId) {
+		Map<String, Integer> permissions = new HashMap<>();
+		Vertex element = graph.getVertex(elementId);
+		if (element != null) {
+			for (Edge permEdge : element.getEdges(Direction.IN, GraphPermission.labels())) {
+				GraphPermission perm = GraphPermission.valueOfLabel(permEdge.getLabel());
+				if (perm != null) {
+					permissions.merge(String.valueOf(permEdge.getVertex(Direction.OUT).getId()), 1 << perm.ordinal(), (a, b) -> a | b);
 				}
 			}
-			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
-			if (permission == READ_PUBLISHED_PERM) {
-				return hasPermissionForId(elementId, READ_PERM);
-			} else {
-				return false;
-			}
 		}
-
+		return permissions;
 	}
 
 	@Override
@@ -416,7 +439,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 		// 2. Add CRUD permission to identified roles and target node
 		for (Role role : rolesThatGrantPermission) {
-			role.grantPermissions(targetNode, toGrant);
+			role.grantPermissionsOnCreate(targetNode, toGrant);
 		}
 
 		inheritRolePermissions(sourceNode, targetNode);
@@ -432,7 +455,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 				if (log.isDebugEnabled()) {
 					log.debug("Granting permission {" + perm.name() + "} to node {" + targetNode.getUuid() + "} on role {" + role.getName() + "}");
 				}
-				role.grantPermissions(targetNode, perm);
+				role.grantPermissionsOnCreate(targetNode, perm);
 			}
 		}
 		return this;
@@ -449,9 +472,10 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		// user will be just disabled and removed from all groups.");
 		// }
 		// outE(HAS_USER).removeAll();
+		Object id = getId();
 		batch.delete(this, false);
 		getElement().remove();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateUsers(Collections.singleton(id));
 	}
 
 	/**
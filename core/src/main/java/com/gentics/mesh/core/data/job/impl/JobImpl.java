@@ -7,6 +7,8 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TO_
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.STARTING;
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.UNKNOWN;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang.NotImplementedException;
@@ -82,8 +84,15 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		response.setNodeName(getNodeName());
 
 		Map<String, String> props = response.getProperties();
-		props.put("releaseName", getRelease().getName());
-		props.put("releaseUuid", getRelease().getUuid());
+		long throughput = getThroughput();
+		if (throughput > 0) {
+			props.put("elementsPerSecond", String.valueOf(throughput));
+		}
+		Release release = getRelease();
+		if (release != null) {
+			props.put("releaseName", release.getName());
+			props.put("releaseUuid", release.getUuid());
+		}
 
 		if (getToSchemaVersion() != null) {
 			SchemaContainer container = getToSchemaVersion().getSchemaContainer();
@@ -154,6 +163,17 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		setProperty(COMPLETION_COUNT_PROPERTY_KEY, count);
 	}
 
+	@Override
+	public long getThroughput() {
+		Long value = getProperty(THROUGHPUT_PROPERTY_KEY);
+		return value == null ? 0 : value;
+	}
+
+	@Override
+	public void setThroughput(long elementsPerSecond) {
+		setProperty(THROUGHPUT_PROPERTY_KEY, elementsPerSecond);
+	}
+
 	@Override
 	public Release getRelease() {
 		return out(HAS_RELEASE).nextOrDefaultExplicit(ReleaseImpl.class, null);
@@ -272,6 +292,16 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		return out(HAS_CREATOR).nextOrDefault(UserImpl.class, null);
 	}
 
+	@Override
+	public List<String> getLockNames() {
+		// Jobs of the same release must not be executed concurrently since they modify the same containers
+		Release release = getRelease();
+		if (release != null) {
+			return Collections.singletonList(LOCK_NAME_PREFIX + "release." + release.getUuid());
+		}
+		return Collections.singletonList(LOCK_NAME_PREFIX + getUuid());
+	}
+
 	@Override
 	public void process() {
 		log.info("Processing job {" + getUuid() + "}");
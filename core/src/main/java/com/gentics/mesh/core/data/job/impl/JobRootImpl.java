@@ -10,6 +10,7 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Stack;
@@ -163,6 +164,33 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return job;
 	}
 
+	@Override
+	public Job enqueueReindex(User creator) {
+		for (Job existing : findAllIt()) {
+			MigrationStatus status = existing.getStatus();
+			if (existing instanceof ReindexJobImpl && status != COMPLETED && status != FAILED && !existing.hasFailed()) {
+				if (log.isDebugEnabled()) {
+					log.debug("Found unfinished reindex job {" + existing.getUuid() + "}");
+				}
+				return existing;
+			}
+		}
+		Job job = getGraph().addFramedVertex(ReindexJobImpl.class);
+		if (creator != null) {
+			job.setCreated(creator);
+		} else {
+			job.setCreationTimestamp();
+		}
+		job.setType(MigrationType.reindex);
+		job.setStatus(QUEUED);
+		job.prepare();
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued reindex job {" + job.getUuid() + "}");
+		}
+		return job;
+	}
+
 	@Override
 	public MeshVertex resolveToElement(Stack<String> stack) {
 		throw error(BAD_REQUEST, "Jobs are not accessible");
@@ -201,27 +229,52 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return new DynamicTransformablePageImpl<>(ac.getUser(), this, pagingInfo, null, null, false);
 	}
 
+	@Override
+	public List<Job> findProcessable() {
+		List<Job> jobs = new ArrayList<>();
+		for (Job job : findAllIt()) {
+			if (isProcessable(job)) {
+				jobs.add(job);
+			}
+		}
+		return jobs;
+	}
+
 	@Override
 	public void process() {
-		Iterable<? extends Job> it = findAllIt();
-		for (Job job : it) {
-			try {
-				// Don't execute failed or completed jobs again
-				MigrationStatus jobStatus = job.getStatus();
-				if (job.hasFailed() || (jobStatus == COMPLETED || jobStatus == FAILED || jobStatus == UNKNOWN)) {
-					continue;
-				}
-				try (Tx tx = DB.get().tx()) {
-					job.process();
-					tx.success();
-				}
-			} catch (Exception e) {
-				job.markAsFailed(e);
-				log.error("Error while processing job {" + job.getUuid() + "}");
+		for (Job job : findProcessable()) {
+			process(job);
+		}
+	}
+
+	@Override
+	public void process(Job job) {
+		try {
+			// Don't execute failed or completed jobs again
+			if (!isProcessable(job)) {
+				return;
+			}
+			try (Tx tx = DB.get().tx()) {
+				job.process();
+				tx.success();
 			}
+		} catch (Exception e) {
+			job.markAsFailed(e);
+			log.error("Error while processing job {" + job.getUuid() + "}");
 		}
 	}
 
+	/**
+	 * Check whether the job has neither failed nor completed.
+	 * 
+	 * @param job
+	 * @return
+	 */
+	private boolean isProcessable(Job job) {
+		MigrationStatus jobStatus = job.getStatus();
+		return !job.hasFailed() && jobStatus != COMPLETED && jobStatus != FAILED && jobStatus != UNKNOWN;
+	}
+
 	@Override
 	public void purgeFailed() {
 		log.info("Purging failed jobs..");
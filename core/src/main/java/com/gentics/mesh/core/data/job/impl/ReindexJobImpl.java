@@ -0,0 +1,111 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.QUEUED;
+
+import java.util.Map;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.rest.admin.migration.MigrationType;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.verticle.migration.MigrationStatusHandler;
+import com.gentics.mesh.core.verticle.migration.impl.MigrationStatusHandlerImpl;
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.graphdb.spi.Database;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Job which rebuilds all search indices and reindexes all elements. The job stores its progress (partitions and their checkpoints) so that an interrupted
+ * or failed reindex can be resumed.
+ */
+public class ReindexJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(ReindexJobImpl.class);
+
+	public static final String STATE_PROPERTY_KEY = "reindexState";
+
+	public static void init(Database database) {
+		database.addVertexType(ReindexJobImpl.class, MeshVertexImpl.class);
+	}
+
+	/**
+	 * The reindex processes all elements and would otherwise delay the migrations for a long time.
+	 */
+	@Override
+	public int getPriority() {
+		return -10;
+	}
+
+	@Override
+	public void prepare() {
+		// The indices will be created once the job is being processed
+	}
+
+	@Override
+	protected void processTask() {
+		MigrationStatusHandler status = new MigrationStatusHandlerImpl(this, Mesh.vertx(), MigrationType.reindex);
+		try {
+			if (log.isDebugEnabled()) {
+				log.debug("Reindex for job {" + getUuid() + "} was requested");
+			}
+			status.commit();
+			MeshInternal.get().reindexHandler().reindex(this, status);
+			status.done();
+		} catch (Exception e) {
+			status.error(e, "Error while reindexing.");
+		}
+	}
+
+	/**
+	 * Return the stored progress of the reindex.
+	 *
+	 * @return Progress or null if the reindex has not yet been started
+	 */
+	public JsonObject getState() {
+		String json = getProperty(STATE_PROPERTY_KEY);
+		return json == null ? null : new JsonObject(json);
+	}
+
+	/**
+	 * Store the progress of the reindex.
+	 *
+	 * @param state
+	 */
+	public void setState(JsonObject state) {
+		setProperty(STATE_PROPERTY_KEY, state == null ? null : state.encode());
+	}
+
+	/**
+	 * Reset the job so that it will be processed again. The stored progress is kept and thus the reindex will resume at the last checkpoint.
+	 */
+	@Override
+	public void resetJob() {
+		super.resetJob();
+		setStatus(QUEUED);
+	}
+
+	@Override
+	public JobResponse transformToRestSync(InternalActionContext ac, int level, String... languageTags) {
+		JobResponse response = super.transformToRestSync(ac, level, languageTags);
+		JsonObject state = getState();
+		if (state != null) {
+			Map<String, String> props = response.getProperties();
+			JsonArray partitions = state.getJsonArray("partitions", new JsonArray());
+			long completed = partitions.stream().filter(p -> ((JsonObject) p).getBoolean("done", false)).count();
+			props.put("partitions", String.valueOf(partitions.size()));
+			props.put("completedPartitions", String.valueOf(completed));
+			String current = state.getString("currentPartition");
+			if (current != null) {
+				props.put("currentPartition", current);
+			}
+			props.put("elementsPerSecond", String.valueOf(state.getLong("elementsPerSecond", 0L)));
+		}
+		return response;
+	}
+
+}
@@ -5,6 +5,9 @@ import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Release;
@@ -31,6 +34,28 @@ public class ReleaseMigrationJobImpl extends JobImpl {
 		database.addVertexType(ReleaseMigrationJobImpl.class, MeshVertexImpl.class);
 	}
 
+	/**
+	 * Release migrations are preferred since the nodes of the new release are not accessible before the release has been migrated.
+	 */
+	@Override
+	public int getPriority() {
+		return 10;
+	}
+
+	/**
+	 * The release migration reads the containers of the previous release. Jobs of the previous release must thus not be executed concurrently.
+	 */
+	@Override
+	public List<String> getLockNames() {
+		List<String> names = new ArrayList<>(super.getLockNames());
+		Release release = getRelease();
+		Release previousRelease = release == null ? null : release.getPreviousRelease();
+		if (previousRelease != null) {
+			names.add(LOCK_NAME_PREFIX + "release." + previousRelease.getUuid());
+		}
+		return names;
+	}
+
 	@Override
 	public void prepare() {
 		Release newRelease = getRelease();
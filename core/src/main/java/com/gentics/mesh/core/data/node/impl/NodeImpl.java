@@ -43,6 +43,8 @@ import java.util.stream.StreamSupport;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.PathCache;
+import com.gentics.mesh.core.cache.ResponseCache;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.GraphFieldContainerEdge;
@@ -98,6 +100,7 @@ import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.dagger.DB;
 import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphdb.spi.TxHooks;
 import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.DeleteParameters;
@@ -113,6 +116,7 @@ import com.gentics.mesh.path.Path;
 import com.gentics.mesh.path.PathSegment;
 import com.gentics.mesh.util.DateUtils;
 import com.gentics.mesh.util.ETag;
+import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.URIUtils;
 import com.gentics.mesh.util.VersionNumber;
 import com.syncleus.ferma.EdgeFrame;
@@ -139,6 +143,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	public static final String RELEASE_UUID_KEY = "releaseUuid";
 
+	public static final String CHANGE_STAMP_PROPERTY_KEY = "changeStamp";
+
+	private static final String CHANGE_STAMP_HOOK = "node-change-stamp";
+
 	public static void init(Database database) {
 		database.addVertexType(NodeImpl.class, MeshVertexImpl.class);
 		database.addEdgeIndex(HAS_PARENT_NODE);
@@ -172,11 +180,12 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	@Override
 	public String getPath(ActionContext ac, String releaseUuid, ContainerType type, String... languageTag) {
 		// We want to avoid rending the path again for nodes which we have already handled.
-		// Thus utilise the action context data map to retrieve already handled paths.
-		String cacheKey = getUuid() + releaseUuid + type.getCode() + Arrays.toString(languageTag);
-		return (String) ac.data().computeIfAbsent(cacheKey, key -> {
+		// Thus utilise the path cache which is shared across requests.
+		String cacheKey = PathCache.composeKey(releaseUuid, type.getCode(), languageTag);
+		return PathCache.getPath(getUuid(), cacheKey, key -> {
 
 			List<String> segments = new ArrayList<>();
+			List<String> ancestors = new ArrayList<>();
 			String segment = getPathSegment(releaseUuid, type, languageTag);
 			if (segment == null) {
 				return null;
@@ -206,6 +215,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 					return null;
 				}
 				segments.add(segment);
+				ancestors.add(current.getUuid());
 			}
 
 			Collections.reverse(segments);
@@ -217,7 +227,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				String fragment = it.next();
 				builder.append("/").append(URIUtils.encodeFragment(fragment));
 			}
-			return builder.toString();
+			return Tuple.tuple(builder.toString(), ancestors);
 		});
 
 	}
@@ -373,9 +383,11 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// remove existing draft edge
 		if (draftEdge != null) {
+			// The new container takes over the webroot info so that only an actual change of the path will invalidate the cached paths
+			String webrootInfo = previous.getProperty(NodeGraphFieldContainerImpl.WEBROOT_PROPERTY_KEY);
 			previous.setProperty(NodeGraphFieldContainerImpl.WEBROOT_PROPERTY_KEY, null);
 			previous.setProperty(NodeGraphFieldContainerImpl.WEBROOT_URLFIELD_PROPERTY_KEY, null);
-			container.updateWebrootPathInfo(releaseUuid, "node_conflicting_segmentfield_update");
+			container.setProperty(NodeGraphFieldContainerImpl.WEBROOT_PROPERTY_KEY, webrootInfo);
 			draftEdge.remove();
 		}
 		// We need to update the display field property since we created a new
@@ -388,6 +400,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			edge.setLanguageTag(languageTag);
 			edge.setReleaseUuid(releaseUuid);
 			edge.setType(DRAFT);
+			if (draftEdge != null) {
+				// The webroot info can only be updated once the container is the draft of the release
+				container.updateWebrootPathInfo(releaseUuid, "node_conflicting_segmentfield_update");
+			}
 		}
 
 		// if there is no initial edge, create one
@@ -397,6 +413,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			initialEdge.setReleaseUuid(releaseUuid);
 			initialEdge.setType(INITIAL);
 		}
+		updateChangeStamp();
 
 		return container;
 	}
@@ -440,16 +457,19 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		removeTag(tag, release);
 		TagEdge edge = addFramedEdge(HAS_TAG, tag, TagEdgeImpl.class);
 		edge.setReleaseUuid(release.getUuid());
+		updateChangeStamp();
 	}
 
 	@Override
 	public void removeTag(Tag tag, Release release) {
 		outE(HAS_TAG).has(TagEdgeImpl.RELEASE_UUID_KEY, release.getUuid()).mark().inV().retain(tag).back().removeAll();
+		updateChangeStamp();
 	}
 
 	@Override
 	public void removeAllTags(Release release) {
 		outE(HAS_TAG).has(TagEdgeImpl.RELEASE_UUID_KEY, release.getUuid()).removeAll();
+		updateChangeStamp();
 	}
 
 	@Override
@@ -502,8 +522,39 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public void setParentNode(String releaseUuid, Node parent) {
+		// The children of the previous and the new parent node change
+		Node previousParent = getParentNode(releaseUuid);
+		if (previousParent != null) {
+			previousParent.updateChangeStamp();
+		}
 		outE(HAS_PARENT_NODE).has(RELEASE_UUID_KEY, releaseUuid).removeAll();
 		addFramedEdge(HAS_PARENT_NODE, parent).setProperty(RELEASE_UUID_KEY, releaseUuid);
+		parent.updateChangeStamp();
+		updateChangeStamp();
+	}
+
+	@Override
+	public long getChangeStamp() {
+		Long stamp = getProperty(CHANGE_STAMP_PROPERTY_KEY);
+		long changeStamp = stamp == null ? 0 : stamp;
+		// Include the pending update of the current transaction
+		return TxHooks.isCollected(CHANGE_STAMP_HOOK, getId()) ? changeStamp + 1 : changeStamp;
+	}
+
+	@Override
+	public void updateChangeStamp() {
+		// The stamp is only written once per transaction since a change often touches the same node multiple times (e.g. the parent when a child is created)
+		TxHooks.beforeCommit(CHANGE_STAMP_HOOK, getId(), (graph, ids) -> {
+			FramedGraph txGraph = graph == null ? Tx.getActive().getGraph() : graph;
+			for (Object id : ids) {
+				Vertex vertex = txGraph.getVertex(id);
+				if (vertex != null) {
+					Long stamp = vertex.getProperty(CHANGE_STAMP_PROPERTY_KEY);
+					vertex.setProperty(CHANGE_STAMP_PROPERTY_KEY, stamp == null ? 1 : stamp + 1);
+				}
+			}
+		});
+		ResponseCache.invalidate(getUuid());
 	}
 
 	@Override
@@ -1104,6 +1155,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			c.setProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_PROPERTY_KEY, null);
 			c.setProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_URLFIELD_PROPERTY_KEY, null);
 		});
+		PathCache.invalidate(this);
+		updateChangeStamp();
 
 		// Handle recursion
 		if (parameters.isRecursive()) {
@@ -1194,6 +1247,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		getGraphFieldContainerEdge(languageTag, releaseUuid, PUBLISHED).remove();
 		published.setProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_PROPERTY_KEY, null);
 		published.setProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_URLFIELD_PROPERTY_KEY, null);
+		PathCache.invalidate(this);
+		updateChangeStamp();
 
 		assertPublishConsistency(ac, release);
 
@@ -1207,12 +1262,16 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Remove an existing published edge
 		EdgeFrame currentPublished = getGraphFieldContainerEdge(languageTag, releaseUuid, PUBLISHED);
+		String publishedWebrootInfo = null;
 		if (currentPublished != null) {
 			// We need to remove the edge first since updateWebrootPathInfo will
 			// check the published edge again
 			NodeGraphFieldContainerImpl oldPublishedContainer = currentPublished.inV().nextOrDefaultExplicit(NodeGraphFieldContainerImpl.class, null);
+			publishedWebrootInfo = oldPublishedContainer.getProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_PROPERTY_KEY);
 			currentPublished.remove();
-			oldPublishedContainer.updateWebrootPathInfo(releaseUuid, "node_conflicting_segmentfield_publish");
+			// The old container is no longer published. Its draft webroot info is not affected.
+			oldPublishedContainer.setProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_PROPERTY_KEY, null);
+			oldPublishedContainer.setProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_URLFIELD_PROPERTY_KEY, null);
 		}
 
 		// create new published edge
@@ -1220,7 +1279,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		edge.setLanguageTag(languageTag);
 		edge.setReleaseUuid(releaseUuid);
 		edge.setType(PUBLISHED);
+		// The new container takes over the published webroot info so that only an actual change of the path will invalidate the cached paths
+		container.setProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_PROPERTY_KEY, publishedWebrootInfo);
 		container.updateWebrootPathInfo(releaseUuid, "node_conflicting_segmentfield_publish");
+		updateChangeStamp();
 	}
 
 	@Override
@@ -1304,6 +1366,11 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		if (log.isDebugEnabled()) {
 			log.debug("Deleting node {" + getUuid() + "} vertex.");
 		}
+		PathCache.invalidate(getUuid());
+		// The children of the parent nodes change
+		for (Node parent : out(HAS_PARENT_NODE).toListExplicit(NodeImpl.class)) {
+			parent.updateChangeStamp();
+		}
 		getElement().remove();
 
 	}
@@ -1340,6 +1407,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			// Otherwise we need to remove the "parent" edge for the release
 			// first remove the "parent" edge (because the node itself will
 			// probably not be deleted, but just removed from the release)
+			Node parent = getParentNode(releaseUuid);
+			if (parent != null) {
+				parent.updateChangeStamp();
+			}
 			outE(HAS_PARENT_NODE).has(RELEASE_UUID_KEY, releaseUuid).removeAll();
 		}
 	}
@@ -1706,6 +1777,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(NOT_FOUND, "node_no_language_found", language.getLanguageTag());
 		}
 		container.deleteFromRelease(release, batch);
+		updateChangeStamp();
 		// No need to delete the published variant because if the container was published the take offline call handled it
 
 		// 3. Check whether this was be the last container of the node for this release
@@ -1731,30 +1803,45 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Check the different language versions
 		for (NodeGraphFieldContainer container : getGraphFieldContainers(releaseUuid, type)) {
-			Schema schema = container.getSchemaContainerVersion().getSchema();
-			String segmentFieldName = schema.getSegmentField();
-			// First check whether a string field exists for the given name
-			StringGraphField field = container.getString(segmentFieldName);
-			if (field != null) {
-				String fieldValue = field.getString();
-				if (segment.equals(fieldValue)) {
-					return new PathSegment(container, field, container.getLanguage().getLanguageTag());
-				}
+			PathSegment pathSegment = getSegment(container, segment);
+			if (pathSegment != null) {
+				return pathSegment;
 			}
+		}
+		return null;
+	}
 
-			// No luck yet - lets check whether a binary field matches the
-			// segmentField
-			BinaryGraphField binaryField = container.getBinary(segmentFieldName);
-			if (binaryField == null) {
-				if (log.isDebugEnabled()) {
-					log.debug("The node {" + getUuid() + "} did not contain a string or a binary field for segment field name {" + segmentFieldName
-							+ "}");
-				}
-			} else {
-				String binaryFilename = binaryField.getFileName();
-				if (segment.equals(binaryFilename)) {
-					return new PathSegment(container, binaryField, container.getLanguage().getLanguageTag());
-				}
+	/**
+	 * Return the path segment of the container if the value of the segment field matches the given segment.
+	 * 
+	 * @param container
+	 * @param segment
+	 * @return Path segment or null if the segment does not match
+	 */
+	private PathSegment getSegment(NodeGraphFieldContainer container, String segment) {
+		Schema schema = container.getSchemaContainerVersion().getSchema();
+		String segmentFieldName = schema.getSegmentField();
+		// First check whether a string field exists for the given name
+		StringGraphField field = container.getString(segmentFieldName);
+		if (field != null) {
+			String fieldValue = field.getString();
+			if (segment.equals(fieldValue)) {
+				return new PathSegment(container, field, container.getLanguage().getLanguageTag());
+			}
+		}
+
+		// No luck yet - lets check whether a binary field matches the
+		// segmentField
+		BinaryGraphField binaryField = container.getBinary(segmentFieldName);
+		if (binaryField == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("The container {" + container.getUuid() + "} did not contain a string or a binary field for segment field name {"
+						+ segmentFieldName + "}");
+			}
+		} else {
+			String binaryFilename = binaryField.getFileName();
+			if (segment.equals(binaryFilename)) {
+				return new PathSegment(container, binaryField, container.getLanguage().getLanguageTag());
 			}
 		}
 		return null;
@@ -1771,9 +1858,17 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			log.debug("Resolving for path segment {" + segment + "}");
 		}
 
-		// Check all childnodes
-		for (Node childNode : getChildren(releaseUuid)) {
-			PathSegment pathSegment = childNode.getSegment(releaseUuid, type, segment);
+		// Locate the container of the child node using the webroot index of the container edges. The edges are release specific and store the segment and
+		// the parent node of the container within the release.
+		Database db = MeshInternal.get().database();
+		FramedGraph graph = Tx.getActive().getGraph();
+		String segmentInfo = GraphFieldContainerEdgeImpl.composeSegmentInfo(segment, this);
+		Iterable<Edge> edges = graph.getEdges("e." + HAS_FIELD_CONTAINER.toLowerCase() + "_webroot", db.createComposedIndexKey(releaseUuid, type
+				.getCode(), segmentInfo));
+		for (Edge edge : edges) {
+			Node childNode = graph.frameElementExplicit(edge.getVertex(OUT), NodeImpl.class);
+			NodeGraphFieldContainer container = graph.frameElementExplicit(edge.getVertex(IN), NodeGraphFieldContainerImpl.class);
+			PathSegment pathSegment = getSegment(container, segment);
 			if (pathSegment != null) {
 				path.addSegment(pathSegment);
 				return childNode.resolvePath(releaseUuid, type, path, pathStack);
@@ -1802,11 +1897,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// Parameters
 		Release release = ac.getRelease(getProject());
 		VersioningParameters versioiningParameters = ac.getVersioningParameters();
-		ContainerType type = forVersion(versioiningParameters.getVersion());
+		NodeParameters nodeParameters = ac.getNodeParameters();
 
-		Node parentNode = getParentNode(release.getUuid());
-		NodeGraphFieldContainer container = findVersion(ac.getNodeParameters().getLanguageList(), release.getUuid(), ac.getVersioningParameters()
-				.getVersion());
+		NodeGraphFieldContainer container = findVersion(nodeParameters.getLanguageList(), release.getUuid(), versioiningParameters.getVersion());
 
 		StringBuilder keyBuilder = new StringBuilder();
 		keyBuilder.append(superkey);
@@ -1817,8 +1910,6 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		keyBuilder.append(release.getUuid());
 		keyBuilder.append("-");
 
-		// TODO version, language list
-
 		// We can omit further etag keys since this would return a 404 anyhow
 		// since the requested container could not be found.
 		if (container == null) {
@@ -1826,103 +1917,52 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			return keyBuilder.toString();
 		}
 
+		// fields version
+		keyBuilder.append("-");
+		keyBuilder.append(container.getETag(ac));
+
 		/**
-		 * Parent node
+		 * Change stamp
 		 * 
-		 * The node can be moved and this would also affect the response. The etag must also be changed when the node is moved.
+		 * The change stamp is updated whenever the containers, the publish state, the tags, the parent or the children of the node change. This covers the
+		 * available languages, the tags and the children info of the response.
 		 */
-		if (parentNode != null) {
-			keyBuilder.append("-");
-			keyBuilder.append(parentNode.getUuid());
-		}
+		keyBuilder.append("-");
+		keyBuilder.append(getChangeStamp());
 
-		// fields version
-		if (container != null) {
+		/**
+		 * Breadcrumb, webroot path & language paths
+		 * 
+		 * The breadcrumb and the paths depend on the display names and segments of the parent nodes. Their change stamps are updated once they get moved or
+		 * once their containers change.
+		 */
+		Node current = getParentNode(release.getUuid());
+		while (current != null) {
 			keyBuilder.append("-");
-			keyBuilder.append(container.getETag(ac));
+			keyBuilder.append(current.getUuid());
+			keyBuilder.append(":");
+			keyBuilder.append(current.getChangeStamp());
+			current = current.getParentNode(release.getUuid());
 		}
 
 		/**
-		 * Expansion (all)
+		 * Request parameters
 		 * 
-		 * The expandAll parameter changes the json response and thus must be included in the etag computation.
+		 * The languages, the expansion and the link resolving parameters change the json response and thus must be included in the etag computation.
 		 */
-		if (ac.getNodeParameters().getExpandAll()) {
+		keyBuilder.append("-");
+		keyBuilder.append("lang:");
+		keyBuilder.append(nodeParameters.getLanguageList());
+		if (nodeParameters.getExpandAll()) {
 			keyBuilder.append("-");
 			keyBuilder.append("expand:true");
 		}
-
-		// expansion (selective)
-		String expandedFields = Arrays.toString(ac.getNodeParameters().getExpandedFieldNames());
 		keyBuilder.append("-");
 		keyBuilder.append("expandFields:");
-		keyBuilder.append(expandedFields);
-
-		// release specific tags
-		for (Tag tag : getTags(release)) {
-			// Tags can't be moved across releases thus we don't need to add the
-			// tag family etag
-			keyBuilder.append(tag.getETag(ac));
-		}
-
-		// release specific children
-		for (Node child : getChildren(release.getUuid())) {
-			if (ac.getUser().hasPermission(child, READ_PERM)) {
-				keyBuilder.append("-");
-				keyBuilder.append(child.getSchemaContainer().getName());
-			}
-		}
-
-		// editor etag - (can be omitted since update would also affect the
-		// NGFC)
-		// creator etag
-		// keyBuilder.append("-");
-		// keyBuilder.append(getCreator().getETag(ac));
-
-		// availableLanguages
-		keyBuilder.append("-");
-		keyBuilder.append(Arrays.toString(getAvailableLanguageNames(release, type).toArray()));
-
-		// breadcrumb
+		keyBuilder.append(Arrays.toString(nodeParameters.getExpandedFieldNames()));
 		keyBuilder.append("-");
-		Node current = getParentNode(release.getUuid());
-		if (current != null) {
-			while (current != null) {
-
-				String key = current.getUuid() + current.getDisplayName(ac);
-				keyBuilder.append(key);
-				if (LinkType.OFF != ac.getNodeParameters().getResolveLinks()) {
-					WebRootLinkReplacer linkReplacer = MeshInternal.get().webRootLinkReplacer();
-					String url = linkReplacer.resolve(ac, release.getUuid(), type, current.getUuid(), ac.getNodeParameters().getResolveLinks(),
-							getProject().getName(), container.getLanguage().getLanguageTag());
-					keyBuilder.append(url);
-				}
-				current = current.getParentNode(release.getUuid());
-
-			}
-		}
-
-		/**
-		 * webroot path & language paths
-		 * 
-		 * The webroot and language paths must be included in the etag computation in order to invalidate the etag once a node language gets updated or once the
-		 * display name of any parent node changes.
-		 */
-		if (ac.getNodeParameters().getResolveLinks() != LinkType.OFF) {
-
-			WebRootLinkReplacer linkReplacer = MeshInternal.get().webRootLinkReplacer();
-			String path = linkReplacer.resolve(ac, release.getUuid(), type, getUuid(), ac.getNodeParameters().getResolveLinks(), getProject()
-					.getName(), container.getLanguage().getLanguageTag());
-			keyBuilder.append(path);
-
-			// languagePaths
-			for (GraphFieldContainer currentFieldContainer : getGraphFieldContainers(release, forVersion(versioiningParameters.getVersion()))) {
-				Language currLanguage = currentFieldContainer.getLanguage();
-				keyBuilder.append(currLanguage.getLanguageTag() + "=" + linkReplacer.resolve(ac, release.getUuid(), type, this, ac.getNodeParameters()
-						.getResolveLinks(), currLanguage.getLanguageTag()));
-			}
-
-		}
+		keyBuilder.append("links:");
+		keyBuilder.append(nodeParameters.getResolveLinks());
 
 		/**
 		 * permissions (&roleUuid query parameter aware)
@@ -0,0 +1,649 @@
+package com.gentics.mesh.core.data.search.impl;
+
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.CREATE_INDEX;
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.DROP_INDEX;
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.MOVE_ACTION;
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.STORE_ACTION;
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.UPDATE_ROLE_PERM_ACTION;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.Events;
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.ContainerType;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.search.CreateIndexEntry;
+import com.gentics.mesh.core.data.search.IndexHandler;
+import com.gentics.mesh.core.data.search.SearchOutboxEntry;
+import com.gentics.mesh.core.data.search.SearchQueueEntry;
+import com.gentics.mesh.core.data.search.SearchQueueEntryAction;
+import com.gentics.mesh.core.data.search.context.MoveEntryContext;
+import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
+import com.gentics.mesh.core.data.search.context.impl.MoveEntryContextImpl;
+import com.gentics.mesh.core.rest.schema.impl.SchemaModelImpl;
+import com.gentics.mesh.etc.config.ElasticSearchOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.search.IndexHandlerRegistry;
+import com.gentics.mesh.search.SearchProvider;
+import com.gentics.mesh.search.index.common.CreateIndexEntryImpl;
+import com.gentics.mesh.search.index.common.DropIndexEntryImpl;
+import com.gentics.mesh.search.index.common.DropIndexHandler;
+import com.gentics.mesh.search.index.entry.MoveDocumentEntryImpl;
+import com.gentics.mesh.search.index.entry.UpdateDocumentEntryImpl;
+import com.gentics.mesh.search.index.node.NodeIndexHandler;
+import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.tx.Tx;
+import com.tinkerpop.blueprints.Vertex;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import rx.Completable;
+import rx.Observable;
+
+/**
+ * The search outbox persists the search queue entries within the graph transaction which caused the changes. The entries are drained by the search indexer
+ * which applies them to the search index in the background. Entries of multiple batches are merged and repeated updates of the same document are coalesced
+ * so that each document only needs to be written once. Failed entries are retried with an increasing delay.
+ *
+ * Entries which are processed while new versions of the search indices are being built are kept as a journal. The reindex replays the journal before the new
+ * versions are activated so that changes which were not mirrored into the new versions (e.g. while the reindex job was not running) are not lost.
+ */
+@Singleton
+public class SearchOutbox {
+
+	private static final Logger log = LoggerFactory.getLogger(SearchOutbox.class);
+
+	/**
+	 * Amount of failed attempts after which an entry will be discarded.
+	 */
+	public static final int MAX_ATTEMPTS = 10;
+
+	/**
+	 * Delay after which entries of requests which wait for the search index are processed by the search indexer. The entries will usually be removed by the
+	 * request itself. The indexer will only process them if the request failed to update the index.
+	 */
+	public static final long WAIT_FOR_INDEX_GRACE_PERIOD = 150_000;
+
+	private static final long INITIAL_RETRY_DELAY = 1_000;
+
+	private static final long MAX_RETRY_DELAY = 300_000;
+
+	private static final long PROCESSING_TIMEOUT = 120;
+
+	/**
+	 * Maximum amount of document entries which are processed at the same time. The search provider merges the actions of those entries into bulk requests.
+	 */
+	private static final int MAX_CONCURRENT_ENTRIES = 256;
+
+	private Database db;
+
+	private IndexHandlerRegistry registry;
+
+	private NodeIndexHandler nodeIndexHandler;
+
+	private DropIndexHandler dropIndexHandler;
+
+	private SearchProvider searchProvider;
+
+	@Inject
+	public SearchOutbox(Database db, IndexHandlerRegistry registry, NodeIndexHandler nodeIndexHandler, DropIndexHandler dropIndexHandler,
+			SearchProvider searchProvider) {
+		this.db = db;
+		this.registry = registry;
+		this.nodeIndexHandler = nodeIndexHandler;
+		this.dropIndexHandler = dropIndexHandler;
+		this.searchProvider = searchProvider;
+	}
+
+	/**
+	 * Check whether requests should wait until the search index has been updated.
+	 *
+	 * @return
+	 */
+	public static boolean isWaitForIndex() {
+		ElasticSearchOptions options = Mesh.mesh().getOptions().getSearchOptions();
+		return options != null && options.isWaitForIndex();
+	}
+
+	/**
+	 * Notify the search indexer that new entries have been added to the outbox.
+	 */
+	public static void notifyIndexer() {
+		Mesh.vertx().eventBus().send(Events.SEARCH_INDEXER_ADDRESS, null);
+	}
+
+	/**
+	 * Persist the entry in the outbox. The entry will be created within the currently active transaction.
+	 *
+	 * @param batchId
+	 *            Id of the batch which contains the entry
+	 * @param position
+	 *            Position of the entry within the batch
+	 * @param entry
+	 * @param waitForIndex
+	 *            Whether the request waits for the search index. The entry will only be processed by the search indexer once the grace period passed in this
+	 *            case.
+	 * @return Created outbox entry
+	 */
+	public SearchOutboxEntry persist(String batchId, int position, SearchQueueEntry<?> entry, boolean waitForIndex) {
+		long now = System.currentTimeMillis();
+		SearchOutboxEntry outboxEntry = Tx.getActive().getGraph().addFramedVertex(SearchOutboxEntryImpl.class);
+		outboxEntry.setBatchId(batchId);
+		outboxEntry.setPosition(position);
+		outboxEntry.setCreated(now);
+		outboxEntry.setEntry(entry.toJson());
+		outboxEntry.setAttempts(0);
+		outboxEntry.setNextAttempt(waitForIndex ? now + WAIT_FOR_INDEX_GRACE_PERIOD : now);
+		return outboxEntry;
+	}
+
+	/**
+	 * Complete all outbox entries of the given batch. The entries will be completed within the active transaction if the batch was processed within a
+	 * transaction. This is needed since the entries may not yet have been committed.
+	 *
+	 * @param batchId
+	 */
+	public void completeBatch(String batchId) {
+		if (Tx.getActive() != null) {
+			completeBatchEntries(batchId);
+		} else {
+			db.tx(() -> {
+				completeBatchEntries(batchId);
+			});
+		}
+	}
+
+	private void completeBatchEntries(String batchId) {
+		List<Vertex> vertices = new ArrayList<>();
+		Iterator<Vertex> it = db.getVertices(SearchOutboxEntryImpl.class, new String[] { SearchOutboxEntry.BATCH_ID_PROPERTY_KEY }, new Object[] {
+				batchId });
+		while (it.hasNext()) {
+			vertices.add(it.next());
+		}
+		boolean keep = searchProvider.hasPendingIndexVersions();
+		FramedGraph graph = Tx.getActive().getGraph();
+		for (Vertex vertex : vertices) {
+			complete(graph, vertex, keep);
+		}
+	}
+
+	/**
+	 * Complete the outbox entries with the given ids.
+	 *
+	 * @param ids
+	 */
+	private void complete(Collection<Object> ids) {
+		boolean keep = searchProvider.hasPendingIndexVersions();
+		db.tx((tx) -> {
+			FramedGraph graph = tx.getGraph();
+			for (Object id : ids) {
+				Vertex vertex = graph.getVertex(id);
+				if (vertex != null) {
+					complete(graph, vertex, keep);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Remove the processed entry or keep it within the journal if new index versions are currently being built.
+	 *
+	 * @param graph
+	 * @param vertex
+	 * @param keep
+	 *            Whether to keep the entry within the journal
+	 */
+	private void complete(FramedGraph graph, Vertex vertex, boolean keep) {
+		if (keep) {
+			graph.frameElementExplicit(vertex, SearchOutboxEntryImpl.class).markProcessed();
+		} else {
+			vertex.remove();
+		}
+	}
+
+	/**
+	 * Apply the journal entries which were created since the given timestamp once more. This is used by the reindex to add the changes to the new index
+	 * versions which may have been missed while the versions were built.
+	 *
+	 * @param since
+	 *            Timestamp in milliseconds
+	 * @return Amount of replayed entries
+	 */
+	public int replayJournal(long since) {
+		List<PendingEntry> journal = db.tx(() -> {
+			List<PendingEntry> entries = new ArrayList<>();
+			FramedGraph graph = Tx.getActive().getGraph();
+			Iterator<Vertex> it = db.getVertices(SearchOutboxEntryImpl.class, new String[] { SearchOutboxEntry.PROCESSED_PROPERTY_KEY }, new Object[] {
+					true });
+			while (it.hasNext()) {
+				SearchOutboxEntry entry = graph.frameElementExplicit(it.next(), SearchOutboxEntryImpl.class);
+				if (entry.getCreated() >= since) {
+					entries.add(new PendingEntry(entry));
+				}
+			}
+			return entries;
+		});
+		if (journal.isEmpty()) {
+			return 0;
+		}
+		journal.sort(Comparator.<PendingEntry>comparingLong(e -> e.created).thenComparing(e -> String.valueOf(e.batchId)).thenComparingInt(
+				e -> e.position));
+		List<JsonObject> coalesced = coalesce(journal.stream().map(entry -> entry.json).collect(Collectors.toList()));
+		log.info("Replaying {" + journal.size() + "} search outbox journal entries which were coalesced to {" + coalesced.size() + "} entries");
+		try (Tx tx = db.tx()) {
+			List<SearchQueueEntry> entries = new ArrayList<>();
+			for (JsonObject json : coalesced) {
+				SearchQueueEntry entry = decode(json);
+				if (entry != null) {
+					entries.add(entry);
+				}
+			}
+			if (!process(entries).await(PROCESSING_TIMEOUT, TimeUnit.SECONDS)) {
+				throw new RuntimeException("Replay of the outbox journal did not finish within {" + PROCESSING_TIMEOUT + "} seconds");
+			}
+		}
+		return journal.size();
+	}
+
+	/**
+	 * Remove all journal entries. This is invoked once no new index versions are being built.
+	 */
+	public void clearJournal() {
+		db.tx(() -> {
+			List<Vertex> vertices = new ArrayList<>();
+			Iterator<Vertex> it = db.getVertices(SearchOutboxEntryImpl.class, new String[] { SearchOutboxEntry.PROCESSED_PROPERTY_KEY }, new Object[] {
+					true });
+			while (it.hasNext()) {
+				vertices.add(it.next());
+			}
+			for (Vertex vertex : vertices) {
+				vertex.remove();
+			}
+		});
+	}
+
+	/**
+	 * Return the amount of unprocessed entries in the outbox.
+	 *
+	 * @return
+	 */
+	public long size() {
+		return db.tx(() -> {
+			long journal = 0;
+			Iterator<Vertex> it = db.getVertices(SearchOutboxEntryImpl.class, new String[] { SearchOutboxEntry.PROCESSED_PROPERTY_KEY }, new Object[] {
+					true });
+			while (it.hasNext()) {
+				it.next();
+				journal++;
+			}
+			return db.countVertices(SearchOutboxEntryImpl.class) - journal;
+		});
+	}
+
+	/**
+	 * Process the next window of due outbox entries. The window contains the entries of the oldest batches up to the given limit. Batches which contain index
+	 * level entries or which already failed will be processed separately so that a failing entry can't block the other batches.
+	 *
+	 * @param limit
+	 *            Maximum amount of entries which should be merged into a single window
+	 * @return Amount of handled outbox entries. Zero if no entries were due
+	 */
+	public int processPending(int limit) {
+		long now = System.currentTimeMillis();
+		List<PendingEntry> window = loadWindow(now, limit);
+		if (window.isEmpty()) {
+			return 0;
+		}
+		List<Object> ids = window.stream().map(entry -> entry.id).collect(Collectors.toList());
+		List<JsonObject> coalesced = coalesce(window.stream().map(entry -> entry.json).collect(Collectors.toList()));
+		if (log.isDebugEnabled()) {
+			log.debug("Processing {" + window.size() + "} outbox entries which were coalesced to {" + coalesced.size() + "} entries");
+		}
+		try (Tx tx = db.tx()) {
+			List<SearchQueueEntry> entries = new ArrayList<>();
+			for (JsonObject json : coalesced) {
+				SearchQueueEntry entry = decode(json);
+				if (entry != null) {
+					entries.add(entry);
+				}
+			}
+			if (!process(entries).await(PROCESSING_TIMEOUT, TimeUnit.SECONDS)) {
+				throw new RuntimeException("Processing of the outbox entries did not finish within {" + PROCESSING_TIMEOUT + "} seconds");
+			}
+		} catch (Exception e) {
+			log.error("Error while processing {" + window.size() + "} search outbox entries", e);
+			markFailed(ids, now);
+			return window.size();
+		}
+		complete(ids);
+		return window.size();
+	}
+
+	/**
+	 * Apply the given entries to the search index. Index level entries (e.g. index creation or deletion) are processed first and one at a time. The other
+	 * document entries (e.g. deletions and moves) are processed sequentially and in the given order afterwards so that they can't overtake each other. The
+	 * store entries are processed concurrently at last so that the search provider can combine their actions into bulk requests. Concurrent stores of the same
+	 * document are harmless since the index handlers always load the current state of the element.
+	 *
+	 * @param entries
+	 * @return
+	 */
+	public Completable process(List<? extends SearchQueueEntry> entries) {
+		return Completable.defer(() -> {
+			Completable obs = Completable.complete();
+			List<? extends SearchQueueEntry> indexEntries = entries.stream().filter(i -> isIndexAction(i.getElementAction())).sorted((o1, o2) -> o1
+					.getElementAction().compareTo(o2.getElementAction())).collect(Collectors.toList());
+
+			List<? extends SearchQueueEntry> nonStoreEntries = entries.stream().filter(i -> !isIndexAction(i.getElementAction()) && i
+					.getElementAction() != STORE_ACTION).collect(Collectors.toList());
+
+			List<? extends SearchQueueEntry> storeEntries = entries.stream().filter(i -> i.getElementAction() == STORE_ACTION).collect(Collectors
+					.toList());
+
+			if (!indexEntries.isEmpty()) {
+				obs = Completable.concat(indexEntries.stream().map(entry -> entry.process()).collect(Collectors.toList()));
+			}
+			if (!nonStoreEntries.isEmpty()) {
+				// Deletions and moves must be applied in order since they may affect the same document
+				obs = obs.andThen(Completable.concat(nonStoreEntries.stream().map(entry -> entry.process()).collect(Collectors.toList())));
+			}
+			if (!storeEntries.isEmpty()) {
+				long start = System.currentTimeMillis();
+				// First ensure that the index and non-store entries are processed before handling the store entries
+				obs = obs.andThen(Completable.merge(Observable.from(storeEntries).map(entry -> entry.process()), MAX_CONCURRENT_ENTRIES))
+						.doOnCompleted(() -> {
+							if (log.isDebugEnabled()) {
+								log.debug("Processed {" + storeEntries.size() + "} store entries. Duration " + (System.currentTimeMillis() - start)
+										+ "[ms]");
+							}
+						});
+			}
+			return obs;
+		});
+	}
+
+	private static boolean isIndexAction(SearchQueueEntryAction action) {
+		return action == CREATE_INDEX || action == DROP_INDEX;
+	}
+
+	/**
+	 * Coalesce the given serialized entries. Only the last action for each document will be kept since the index handlers always load the current state of
+	 * the element. Permission updates will be omitted for documents which also need to be stored since the stored document already contains the permissions.
+	 * Index level entries are never coalesced.
+	 *
+	 * @param entries
+	 *            Serialized entries in the order in which they were added
+	 * @return Coalesced entries
+	 */
+	public static List<JsonObject> coalesce(List<JsonObject> entries) {
+		Map<String, JsonObject> coalesced = new LinkedHashMap<>();
+		int n = 0;
+		for (JsonObject entry : entries) {
+			SearchQueueEntryAction action = SearchQueueEntryAction.valueOfName(entry.getString("action"));
+			String key = documentKey(entry, action);
+			if (key == null) {
+				// Index level entries must not be merged
+				coalesced.put(String.valueOf(n++), entry);
+				continue;
+			}
+			JsonObject existing = coalesced.get(key);
+			if (existing != null) {
+				SearchQueueEntryAction existingAction = SearchQueueEntryAction.valueOfName(existing.getString("action"));
+				if (action == UPDATE_ROLE_PERM_ACTION && existingAction == STORE_ACTION) {
+					// The stored document will already contain the permissions
+					continue;
+				}
+				coalesced.remove(key);
+			}
+			coalesced.put(key, entry);
+		}
+		return new ArrayList<>(coalesced.values());
+	}
+
+	/**
+	 * Return the key of the document which is affected by the entry.
+	 *
+	 * @param entry
+	 * @param action
+	 * @return Key or null if the entry affects a whole index
+	 */
+	private static String documentKey(JsonObject entry, SearchQueueEntryAction action) {
+		if (action == null || action == CREATE_INDEX || action == DROP_INDEX) {
+			return null;
+		}
+		if (action == MOVE_ACTION) {
+			return "move:" + entry.getString("oldContainerUuid") + ":" + entry.getString("newContainerUuid") + ":" + entry.getString("releaseUuid") + ":"
+					+ entry.getString("containerType");
+		}
+		JsonObject context = entry.getJsonObject("context", new JsonObject());
+		return entry.getString("elementType") + ":" + entry.getString("elementUuid") + ":" + context.encode();
+	}
+
+	/**
+	 * Restore the search queue entry from the serialized form. Move entries need an active transaction since the referenced containers will be loaded.
+	 *
+	 * @param json
+	 * @return Restored entry or null if the entry could not be restored
+	 */
+	protected SearchQueueEntry decode(JsonObject json) {
+		SearchQueueEntryAction action = SearchQueueEntryAction.valueOfName(json.getString("action"));
+		if (action == null) {
+			log.error("Omitting outbox entry with unknown action {" + json.encode() + "}");
+			return null;
+		}
+		switch (action) {
+		case DROP_INDEX:
+			return new DropIndexEntryImpl(dropIndexHandler, json.getString("indexName"));
+		case CREATE_INDEX:
+			IndexHandler<?> indexHandler = handlerForType(json.getString("elementType"));
+			if (indexHandler == null) {
+				log.error("Omitting outbox entry for unknown element type {" + json.encode() + "}");
+				return null;
+			}
+			CreateIndexEntry createEntry = new CreateIndexEntryImpl(indexHandler, json.getString("indexName"));
+			JsonObject schema = json.getJsonObject("schema");
+			if (schema != null) {
+				createEntry.setSchema(JsonUtil.readValue(schema.encode(), SchemaModelImpl.class));
+			}
+			return createEntry;
+		case MOVE_ACTION:
+			NodeGraphFieldContainer oldContainer = findContainer(json.getString("oldContainerUuid"));
+			NodeGraphFieldContainer newContainer = findContainer(json.getString("newContainerUuid"));
+			if (oldContainer == null || newContainer == null) {
+				log.error("Omitting outbox entry since the containers could not be found {" + json.encode() + "}");
+				return null;
+			}
+			MoveEntryContext moveContext = new MoveEntryContextImpl();
+			moveContext.setReleaseUuid(json.getString("releaseUuid"));
+			moveContext.setContainerType(ContainerType.get(json.getString("containerType")));
+			moveContext.setOldContainer(oldContainer);
+			moveContext.setNewContainer(newContainer);
+			return new MoveDocumentEntryImpl(nodeIndexHandler, moveContext);
+		default:
+			IndexHandler<?> handler = handlerForType(json.getString("elementType"));
+			if (handler == null) {
+				log.error("Omitting outbox entry for unknown element type {" + json.encode() + "}");
+				return null;
+			}
+			JsonObject contextJson = json.getJsonObject("context", new JsonObject());
+			GenericEntryContextImpl context = new GenericEntryContextImpl();
+			context.setProjectUuid(contextJson.getString("projectUuid"));
+			context.setReleaseUuid(contextJson.getString("releaseUuid"));
+			String containerType = contextJson.getString("containerType");
+			if (containerType != null) {
+				context.setContainerType(ContainerType.get(containerType));
+			}
+			context.setLanguageTag(contextJson.getString("languageTag"));
+			context.setSchemaContainerVersionUuid(contextJson.getString("schemaContainerVersionUuid"));
+			return new UpdateDocumentEntryImpl(handler, json.getString("elementUuid"), context, action);
+		}
+	}
+
+	private IndexHandler<?> handlerForType(String elementType) {
+		if (elementType == null) {
+			return null;
+		}
+		for (IndexHandler<?> handler : registry.getHandlers()) {
+			if (handler.getElementClass().getName().equals(elementType)) {
+				return handler;
+			}
+		}
+		return null;
+	}
+
+	private NodeGraphFieldContainer findContainer(String uuid) {
+		Iterator<Vertex> it = db.getVertices(MeshVertexImpl.class, new String[] { "uuid" }, new Object[] { uuid });
+		if (it.hasNext()) {
+			return Tx.getActive().getGraph().frameElementExplicit(it.next(), NodeGraphFieldContainerImpl.class);
+		}
+		return null;
+	}
+
+	/**
+	 * Load the next window of due entries. The due entries are located using the sorted index of the next attempt and only the earliest entries up to the
+	 * limit are loaded. The remaining due entries of the affected batches are added since a batch is always processed as a whole. The entries of the window
+	 * are ordered by the creation date of their batch.
+	 *
+	 * @param now
+	 * @param limit
+	 * @return
+	 */
+	private List<PendingEntry> loadWindow(long now, int limit) {
+		List<PendingEntry> due = db.tx((tx) -> {
+			FramedGraph graph = tx.getGraph();
+			Map<Object, PendingEntry> entries = new LinkedHashMap<>();
+			Set<String> batchIds = new LinkedHashSet<>();
+			Iterator<Vertex> it = db.getVerticesUpTo(SearchOutboxEntryImpl.class, SearchOutboxEntry.NEXT_ATTEMPT_PROPERTY_KEY, now);
+			while (it.hasNext() && entries.size() < limit) {
+				SearchOutboxEntry entry = graph.frameElementExplicit(it.next(), SearchOutboxEntryImpl.class);
+				if (entry.isProcessed()) {
+					continue;
+				}
+				entries.put(entry.getId(), new PendingEntry(entry));
+				if (entry.getBatchId() != null) {
+					batchIds.add(entry.getBatchId());
+				}
+			}
+			for (String batchId : batchIds) {
+				Iterator<Vertex> batchIt = db.getVertices(SearchOutboxEntryImpl.class, new String[] { SearchOutboxEntry.BATCH_ID_PROPERTY_KEY },
+						new Object[] { batchId });
+				while (batchIt.hasNext()) {
+					SearchOutboxEntry entry = graph.frameElementExplicit(batchIt.next(), SearchOutboxEntryImpl.class);
+					if (!entries.containsKey(entry.getId()) && !entry.isProcessed() && entry.getNextAttempt() <= now) {
+						entries.put(entry.getId(), new PendingEntry(entry));
+					}
+				}
+			}
+			return new ArrayList<>(entries.values());
+		});
+		if (due.isEmpty()) {
+			return due;
+		}
+
+		// Group the entries by batch and order the batches by their creation date
+		Map<String, List<PendingEntry>> batches = new LinkedHashMap<>();
+		due.sort(Comparator.<PendingEntry>comparingLong(e -> e.created).thenComparing(e -> String.valueOf(e.batchId)).thenComparingInt(e -> e.position));
+		for (PendingEntry entry : due) {
+			batches.computeIfAbsent(String.valueOf(entry.batchId), k -> new ArrayList<>()).add(entry);
+		}
+
+		List<PendingEntry> window = new ArrayList<>();
+		for (List<PendingEntry> batch : batches.values()) {
+			boolean isolated = batch.stream().anyMatch(PendingEntry::isIsolated);
+			if (isolated) {
+				if (window.isEmpty()) {
+					window.addAll(batch);
+				}
+				break;
+			}
+			window.addAll(batch);
+			if (window.size() >= limit) {
+				break;
+			}
+		}
+		return window;
+	}
+
+	/**
+	 * Increment the attempt counter of the given entries and schedule the next attempt. Entries which exceeded the maximum amount of attempts will be removed.
+	 *
+	 * @param ids
+	 * @param now
+	 */
+	private void markFailed(List<Object> ids, long now) {
+		db.tx((tx) -> {
+			FramedGraph graph = tx.getGraph();
+			for (Object id : ids) {
+				Vertex vertex = graph.getVertex(id);
+				if (vertex == null) {
+					continue;
+				}
+				SearchOutboxEntry entry = graph.frameElementExplicit(vertex, SearchOutboxEntryImpl.class);
+				int attempts = entry.getAttempts() + 1;
+				if (attempts >= MAX_ATTEMPTS) {
+					log.error("Discarding search outbox entry {" + entry.getEntry().encode() + "} after {" + attempts
+							+ "} failed attempts. A reindex is needed to sync the search index.");
+					vertex.remove();
+				} else {
+					entry.setAttempts(attempts);
+					entry.setNextAttempt(now + Math.min(MAX_RETRY_DELAY, INITIAL_RETRY_DELAY << attempts));
+				}
+			}
+		});
+	}
+
+	/**
+	 * Detached representation of a due outbox entry.
+	 */
+	private static class PendingEntry {
+
+		private final Object id;
+
+		private final String batchId;
+
+		private final int position;
+
+		private final long created;
+
+		private final int attempts;
+
+		private final JsonObject json;
+
+		PendingEntry(SearchOutboxEntry entry) {
+			this.id = entry.getId();
+			this.batchId = entry.getBatchId();
+			this.position = entry.getPosition();
+			this.created = entry.getCreated();
+			this.attempts = entry.getAttempts();
+			this.json = entry.getEntry();
+		}
+
+		/**
+		 * Check whether the batch of the entry must be processed separately.
+		 *
+		 * @return
+		 */
+		boolean isIsolated() {
+			String action = json.getString("action");
+			return attempts > 0 || CREATE_INDEX.getName().equals(action) || DROP_INDEX.getName().equals(action);
+		}
+	}
+
+}
@@ -0,0 +1,21 @@
+package com.gentics.mesh.core.data.search.impl;
+
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.search.SearchOutboxEntry;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphdb.spi.FieldType;
+
+/**
+ * @see SearchOutboxEntry
+ */
+public class SearchOutboxEntryImpl extends MeshVertexImpl implements SearchOutboxEntry {
+
+	public static void init(Database database) {
+		database.addVertexType(SearchOutboxEntryImpl.class, MeshVertexImpl.class);
+		database.addVertexIndex(SearchOutboxEntryImpl.class, false, BATCH_ID_PROPERTY_KEY, FieldType.STRING);
+		database.addSortedVertexIndex(SearchOutboxEntryImpl.class, NEXT_ATTEMPT_PROPERTY_KEY, FieldType.LONG);
+		database.addVertexIndex(SearchOutboxEntryImpl.class.getSimpleName() + "_" + PROCESSED_PROPERTY_KEY, SearchOutboxEntryImpl.class, false,
+				PROCESSED_PROPERTY_KEY, FieldType.BOOLEAN);
+	}
+
+}
@@ -8,8 +8,6 @@ import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERR
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -41,19 +39,26 @@ import com.gentics.mesh.search.index.entry.UpdateDocumentEntryImpl;
 import com.gentics.mesh.search.index.node.NodeIndexHandler;
 import com.gentics.mesh.search.index.tag.TagIndexHandler;
 import com.gentics.mesh.search.index.tagfamily.TagFamilyIndexHandler;
+import com.gentics.mesh.util.UUIDUtil;
+import com.syncleus.ferma.tx.Tx;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import rx.Completable;
-import rx.Observable;
 
 /**
+ * Search queue batch which persists the added entries in the search outbox when a transaction is active. The persisted entries are applied to the search
+ * index by the search indexer unless the requests have been configured to wait for the search index. Entries which were added without an active transaction
+ * are processed directly.
+ * 
  * @see SearchQueueBatch
  */
 public class SearchQueueBatchImpl implements SearchQueueBatch {
 
-	private String batchId;
+	private String batchId = UUIDUtil.randomUUID();
 	private List<SearchQueueEntry> entries = new ArrayList<>();
+	private List<SearchQueueEntry> transientEntries = new ArrayList<>();
+	private int persistedCount = 0;
 
 	private static final Logger log = LoggerFactory.getLogger(SearchQueueBatchImpl.class);
 
@@ -72,6 +77,9 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 	@Inject
 	DropIndexHandler commonHandler;
 
+	@Inject
+	SearchOutbox outbox;
+
 	@Inject
 	public SearchQueueBatchImpl() {
 	}
@@ -210,6 +218,13 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 
 	@Override
 	public SearchQueueEntry addEntry(SearchQueueEntry entry) {
+		// Persist the entry within the transaction which caused the change so that it can't get lost
+		if (Tx.getActive() != null) {
+			outbox.persist(batchId, entries.size(), entry, SearchOutbox.isWaitForIndex());
+			persistedCount++;
+		} else {
+			transientEntries.add(entry);
+		}
 		entries.add(entry);
 		return entry;
 	}
@@ -241,40 +256,35 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 	@Override
 	public Completable processAsync() {
 		return Completable.defer(() -> {
-			// Process the batch
-			Completable obs = Completable.complete();
-			List<? extends SearchQueueEntry> nonStoreEntries = getEntries().stream().filter(i -> i.getElementAction() != STORE_ACTION).collect(
-					Collectors.toList());
-
-			List<? extends SearchQueueEntry> storeEntries = getEntries().stream().filter(i -> i.getElementAction() == STORE_ACTION).collect(Collectors
-					.toList());
-
-			if (!nonStoreEntries.isEmpty()) {
-				obs = Completable.concat(nonStoreEntries.stream().map(entry -> entry.process()).collect(Collectors.toList()));
+			boolean waitForIndex = SearchOutbox.isWaitForIndex();
+			boolean removePersisted = waitForIndex && persistedCount > 0;
+			List<? extends SearchQueueEntry> pendingEntries;
+			if (waitForIndex) {
+				// Process all entries and remove the persisted entries from the outbox afterwards
+				pendingEntries = new ArrayList<>(getEntries());
+			} else {
+				// The persisted entries will be processed by the search indexer
+				if (persistedCount > 0) {
+					SearchOutbox.notifyIndexer();
+				}
+				pendingEntries = new ArrayList<>(transientEntries);
 			}
-			AtomicLong counter = new AtomicLong();
-			if (!storeEntries.isEmpty()) {
-				List<Completable> entryList = storeEntries.stream().map(entry -> entry.process()).collect(Collectors.toList());
-				// Handle all entries sequentially since some entries create entries and those need to be executed first
-				int batchSize = 8;
-				long totalBatchCount = entryList.size() / batchSize + 1;
-				Observable<Completable> obs2 = Observable.from(entryList);
-				Observable<List<Completable>> buffers = obs2.buffer(batchSize);
-				// First ensure that the non-store events are processed before handling the store batches
-				obs = obs.andThen(Completable.concat(buffers.map(i -> Completable.merge(i).doOnCompleted(() -> {
-					if (totalBatchCount > 0) {
-						log.info("Search queue entry batch completed {" + counter.incrementAndGet() + "/" + totalBatchCount + "}");
-					}
-				}))));
+			if (pendingEntries.isEmpty()) {
+				clear();
+				return Completable.complete();
 			}
 
-			return obs.doOnCompleted(() -> {
+			return outbox.process(pendingEntries).doOnCompleted(() -> {
 				if (log.isDebugEnabled()) {
 					log.debug("Handled all search queue items.");
 				}
+				if (removePersisted) {
+					outbox.completeBatch(batchId);
+				}
 				// Clear the batch entries so that the GC can claim the memory
 				clear();
 			}).doOnError(error -> {
+				// The persisted entries will be retried by the search indexer
 				log.error("Error while processing batch {" + batchId + "}");
 				if (log.isDebugEnabled()) {
 					printDebug();
@@ -300,6 +310,8 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 	@Override
 	public void clear() {
 		entries.clear();
+		transientEntries.clear();
+		persistedCount = 0;
 	}
 
 }
@@ -2,12 +2,27 @@ package com.gentics.mesh.core.verticle.job;
 
 import static com.gentics.mesh.Events.JOB_WORKER_ADDRESS;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.job.JobRoot;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.util.Tuple;
 
 import dagger.Lazy;
 import io.vertx.core.AbstractVerticle;
@@ -20,13 +35,21 @@ import rx.functions.Action1;
 
 /**
  * Dedicated verticle which will process jobs.
+ *
+ * The jobs are executed on a dedicated pool of job threads. The size of the pool is defined by the migration options. Each job holds the cluster wide locks
+ * which are named by the job while it is being executed. Jobs which share a lock (e.g. migrations of the same release) are thus never executed concurrently,
+ * not even by different instances of the cluster. A queued job will only be started once all older queued jobs which share a lock with it have been
+ * processed. The remaining jobs are started in the order of their priority.
  */
 @Singleton
 public class JobWorkerVerticle extends AbstractVerticle {
 
 	private static final Logger log = LoggerFactory.getLogger(JobWorkerVerticle.class);
 
-	private static final String GLOBAL_JOB_LOCK_NAME = "mesh.internal.joblock";
+	/**
+	 * Timeout in milliseconds for the acquisition of a job lock. Jobs whose locks could not be acquired will be started during the next run.
+	 */
+	private static final long LOCK_TIMEOUT = 1000;
 
 	public final static String PROJECT_UUID_HEADER = "projectUuid";
 
@@ -50,6 +73,15 @@ public class JobWorkerVerticle extends AbstractVerticle {
 
 	private boolean stopped = false;
 
+	private ExecutorService executor;
+
+	private int concurrentJobs;
+
+	/**
+	 * Uuids of the jobs which are currently being started or executed by this instance.
+	 */
+	private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
 	@Inject
 	public JobWorkerVerticle(Database db, Lazy<BootstrapInitializer> boot) {
 		this.db = db;
@@ -62,6 +94,13 @@ public class JobWorkerVerticle extends AbstractVerticle {
 			log.debug("Starting verticle {" + getClass().getName() + "}");
 		}
 		stopped = false;
+		concurrentJobs = Math.max(1, Mesh.mesh().getOptions().getMigrationOptions().getConcurrentJobs());
+		AtomicInteger threadCounter = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(concurrentJobs, r -> {
+			Thread thread = new Thread(r, "mesh-job-worker-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
 		registerJobHandler();
 
 		// The verticle has been deployed. Now wait a few seconds and schedule the periodic execution of jobs
@@ -76,24 +115,136 @@ public class JobWorkerVerticle extends AbstractVerticle {
 
 	private void registerJobHandler() {
 		jobConsumer = vertx.eventBus().consumer(JOB_WORKER_ADDRESS, (message) -> {
-			log.info("Got job processing request. Getting lock to execute the request.");
+			log.info("Got job processing request. Starting the queued jobs.");
 			processJobs();
 		});
 	}
 
+	/**
+	 * Start the queued jobs until all job threads are busy.
+	 */
 	private void processJobs() {
-		executeLocked(() -> {
-			if (!stopped) {
-				db.tx(() -> {
-					JobRoot jobRoot = boot.get().jobRoot();
-					jobRoot.process();
-				});
+		if (stopped) {
+			return;
+		}
+		List<Tuple<String, List<String>>> jobs;
+		try {
+			jobs = db.tx(() -> selectJobs());
+		} catch (Exception e) {
+			log.error("Error while processing jobs", e);
+			return;
+		}
+		for (Tuple<String, List<String>> job : jobs) {
+			if (runningJobs.size() >= concurrentJobs) {
+				break;
+			}
+			String jobUuid = job.v1();
+			if (!runningJobs.add(jobUuid)) {
+				continue;
+			}
+			acquireLocks(job.v2(), new ArrayList<>(), locks -> submit(jobUuid, locks), () -> runningJobs.remove(jobUuid));
+		}
+	}
+
+	/**
+	 * Select the queued jobs which may be started now. Jobs which share a lock with an older queued or running job are omitted. The selected jobs are sorted by
+	 * their priority.
+	 *
+	 * @return List of job uuids and the sorted names of the locks of the jobs
+	 */
+	private List<Tuple<String, List<String>>> selectJobs() {
+		JobRoot jobRoot = boot.get().jobRoot();
+		Set<String> blockedLocks = new HashSet<>();
+		List<Tuple<Job, List<String>>> selected = new ArrayList<>();
+		for (Job job : jobRoot.findProcessable()) {
+			List<String> lockNames = new ArrayList<>(job.getLockNames());
+			boolean blocked = !Collections.disjoint(blockedLocks, lockNames);
+			blockedLocks.addAll(lockNames);
+			if (!blocked) {
+				// The locks are always acquired in the same order
+				Collections.sort(lockNames);
+				selected.add(Tuple.tuple(job, lockNames));
+			}
+		}
+		// The sort is stable. Jobs with the same priority are thus started in the order in which they were enqueued.
+		selected.sort(Comparator.comparingInt((Tuple<Job, List<String>> entry) -> entry.v1().getPriority()).reversed());
+
+		List<Tuple<String, List<String>>> jobs = new ArrayList<>();
+		for (Tuple<Job, List<String>> entry : selected) {
+			jobs.add(Tuple.tuple(entry.v1().getUuid(), entry.v2()));
+		}
+		return jobs;
+	}
+
+	/**
+	 * Acquire the locks with the given names one after another. Already acquired locks will be released again if one of the locks can't be acquired.
+	 *
+	 * @param names
+	 *            Names of the locks
+	 * @param locks
+	 *            Locks which have already been acquired
+	 * @param action
+	 *            Action which will be invoked once all locks have been acquired
+	 * @param failureAction
+	 *            Action which will be invoked when a lock could not be acquired
+	 */
+	private void acquireLocks(List<String> names, List<Lock> locks, Action1<List<Lock>> action, Action0 failureAction) {
+		if (locks.size() == names.size()) {
+			action.call(locks);
+			return;
+		}
+		String name = names.get(locks.size());
+		vertx.sharedData().getLockWithTimeout(name, LOCK_TIMEOUT, rh -> {
+			if (rh.failed()) {
+				// The lock is held by a job of another instance
+				if (log.isDebugEnabled()) {
+					log.debug("Could not acquire job lock {" + name + "}", rh.cause());
+				}
+				locks.forEach(Lock::release);
+				failureAction.call();
+			} else {
+				locks.add(rh.result());
+				acquireLocks(names, locks, action, failureAction);
 			}
-		}, error -> {
-			log.error("Error while processing jobs", error);
 		});
 	}
 
+	/**
+	 * Execute the job on one of the job threads and release the locks once the job has been processed.
+	 *
+	 * @param jobUuid
+	 * @param locks
+	 */
+	private void submit(String jobUuid, List<Lock> locks) {
+		try {
+			executor.submit(() -> {
+				try {
+					db.tx(() -> {
+						JobRoot jobRoot = boot.get().jobRoot();
+						Job job = jobRoot.findByUuid(jobUuid);
+						if (job != null) {
+							jobRoot.process(job);
+						}
+					});
+				} catch (Exception e) {
+					log.error("Error while processing job {" + jobUuid + "}", e);
+				} finally {
+					release(jobUuid, locks);
+					// Start the jobs which have been waiting for the locks or for a free job thread
+					context.runOnContext(v -> processJobs());
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// The verticle has been stopped in the meantime
+			release(jobUuid, locks);
+		}
+	}
+
+	private void release(String jobUuid, List<Lock> locks) {
+		locks.forEach(Lock::release);
+		runningJobs.remove(jobUuid);
+	}
+
 	@Override
 	public void stop() throws Exception {
 		if (jobConsumer != null) {
@@ -104,41 +255,11 @@ public class JobWorkerVerticle extends AbstractVerticle {
 			vertx.cancelTimer(periodicTimerId);
 		}
 		stopped = true;
-		super.stop();
-	}
-
-	/**
-	 * Acquire a cluster wide exclusive lock. By default the method will try to acquire the lock within 10s. The errorAction is invoked if the lock could not be
-	 * acquired by then.
-	 * 
-	 * @param action
-	 *            Action which will be invoked when the lock has been obtained
-	 * @param errorAction
-	 *            Action which will be invoked when the lock could not be obtained or the action failed.
-	 */
-	protected void executeLocked(Action0 action, Action1<Throwable> errorAction) {
-		try {
-			vertx.sharedData().getLock(GLOBAL_JOB_LOCK_NAME, rh -> {
-				if (rh.failed()) {
-					Throwable cause = rh.cause();
-					log.error("Error while acquiring global migration lock {" + GLOBAL_JOB_LOCK_NAME + "}", cause);
-					errorAction.call(cause);
-				} else {
-					Lock lock = rh.result();
-					try {
-						action.call();
-					} catch (Exception e) {
-						log.error("Error while executing locked action", e);
-						errorAction.call(e);
-					} finally {
-						lock.release();
-					}
-				}
-			});
-		} catch (Exception e) {
-			log.error("Error while waiting for global lock {" + GLOBAL_JOB_LOCK_NAME + "}", e);
-			errorAction.call(e);
+		// Running jobs will be completed
+		if (executor != null) {
+			executor.shutdown();
 		}
+		super.stop();
 	}
 
 }
@@ -1,10 +1,16 @@
 package com.gentics.mesh.core.verticle.migration;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
+import javax.script.ScriptException;
 
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.GraphFieldContainer;
@@ -12,10 +18,12 @@ import com.gentics.mesh.core.data.node.handler.TypeConverter;
 import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.RemoveFieldChange;
 import com.gentics.mesh.core.data.schema.SchemaChange;
+import com.gentics.mesh.core.data.schema.UpdateFieldChange;
 import com.gentics.mesh.core.data.schema.impl.FieldTypeChangeImpl;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.rest.common.FieldContainer;
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangeModel;
 import com.gentics.mesh.core.verticle.handler.AbstractHandler;
 import com.gentics.mesh.core.verticle.node.BinaryFieldHandler;
 import com.gentics.mesh.graphdb.spi.Database;
@@ -32,11 +40,25 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractMigrationHandler.class);
 
+	private static final String PARSE_NODE_SCRIPT = "node = JSON.parse(node);";
+
+	private static final String SERIALIZE_NODE_SCRIPT = "node = JSON.stringify(node);";
+
 	/**
 	 * Script engine factory.
 	 */
 	protected NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
 
+	/**
+	 * Script engines of the migration threads. Engines are not thread safe and can thus not be shared between the migration workers.
+	 */
+	private final ThreadLocal<ScriptEngine> engines = ThreadLocal.withInitial(() -> factory.getScriptEngine(new Sandbox()));
+
+	/**
+	 * Scripts which were compiled by the engine of the current thread. The scripts are compiled once per migration and evaluated for each container.
+	 */
+	private final ThreadLocal<Map<String, CompiledScript>> compiledScripts = ThreadLocal.withInitial(HashMap::new);
+
 	protected Database db;
 
 	protected SearchQueue searchQueue;
@@ -62,11 +84,13 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	 */
 	protected void prepareMigration(GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion,
 			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Set<String> touchedFields) throws IOException {
+		// Scripts of previous migrations are no longer needed
+		compiledScripts.get().clear();
 		SchemaChange<?> change = fromVersion.getNextChange();
 		while (change != null) {
 			String migrationScript = change.getMigrationScript();
 			if (migrationScript != null) {
-				migrationScript = migrationScript + "\nnode = JSON.stringify(migrate(JSON.parse(node), fieldname, convert));";
+				migrationScript = migrationScript + "\nnode = migrate(node, fieldname, convert);";
 				migrationScripts.add(Tuple.tuple(migrationScript, change.getMigrationScriptContext()));
 			}
 
@@ -82,6 +106,35 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 		}
 	}
 
+	/**
+	 * Check whether the changes of the given version can be applied directly to the graph fields of the migrated containers. This is the case if none of the
+	 * changes requires a migration script. Removed fields only use the default script which just omits the field. They are already handled via the touched
+	 * fields. The existing field values are not validated again when they are migrated directly. Thus changes of the allow list of a field (e.g. allowed
+	 * string values or schemas) also require the regular migration. Required fields are checked by the migration itself.
+	 *
+	 * @param fromVersion
+	 *            Container which contains the expected migration changes
+	 * @return
+	 * @throws IOException
+	 */
+	protected boolean canMigrateFieldsDirectly(GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion) throws IOException {
+		SchemaChange<?> change = fromVersion.getNextChange();
+		while (change != null) {
+			if (change instanceof UpdateFieldChange && change.getRestProperty(SchemaChangeModel.ALLOW_KEY) != null) {
+				return false;
+			}
+			String migrationScript = change.getMigrationScript();
+			if (migrationScript != null) {
+				boolean isDefaultRemoval = change instanceof RemoveFieldChange && migrationScript.equals(change.getAutoMigrationScript());
+				if (!isDefaultRemoval) {
+					return false;
+				}
+			}
+			change = change.getNextChange();
+		}
+		return true;
+	}
+
 	/**
 	 * Migrate the given container. This will also set the new version to the container.
 	 * 
@@ -109,21 +162,31 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 		String nodeJson = JsonUtil.toJson(restModel);
 
-		for (Tuple<String, List<Tuple<String, Object>>> scriptEntry : migrationScripts) {
-			String script = scriptEntry.v1();
-			List<Tuple<String, Object>> context = scriptEntry.v2();
-			ScriptEngine engine = factory.getScriptEngine(new Sandbox());
-
-			engine.put("node", nodeJson);
-			engine.put("convert", new TypeConverter());
-			if (context != null) {
-				for (Tuple<String, Object> ctxEntry : context) {
-					engine.put(ctxEntry.v1(), ctxEntry.v2());
+		if (!migrationScripts.isEmpty()) {
+			// All scripts work on the same parsed node object within a fresh scope. Thus the node only needs to be parsed and serialized once.
+			Bindings bindings = engines.get().createBindings();
+			bindings.put("node", nodeJson);
+			bindings.put("convert", new TypeConverter());
+			compile(PARSE_NODE_SCRIPT).eval(bindings);
+
+			for (Tuple<String, List<Tuple<String, Object>>> scriptEntry : migrationScripts) {
+				List<Tuple<String, Object>> context = scriptEntry.v2();
+				if (context != null) {
+					for (Tuple<String, Object> ctxEntry : context) {
+						bindings.put(ctxEntry.v1(), ctxEntry.v2());
+					}
+				}
+				compile(scriptEntry.v1()).eval(bindings);
+				// The context of a script must not be visible to the following scripts
+				if (context != null) {
+					for (Tuple<String, Object> ctxEntry : context) {
+						bindings.remove(ctxEntry.v1());
+					}
 				}
 			}
-			engine.eval(script);
 
-			Object transformedNodeModel = engine.get("node");
+			compile(SERIALIZE_NODE_SCRIPT).eval(bindings);
+			Object transformedNodeModel = bindings.get("node");
 
 			if (transformedNodeModel == null) {
 				throw new Exception("Transformed node model not found after handling migration scripts");
@@ -140,6 +203,24 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 	}
 
+	/**
+	 * Return the script compiled by the engine of the current thread.
+	 * 
+	 * @param script
+	 *            Source of the script
+	 * @return
+	 * @throws ScriptException
+	 */
+	private CompiledScript compile(String script) throws ScriptException {
+		Map<String, CompiledScript> scripts = compiledScripts.get();
+		CompiledScript compiled = scripts.get(script);
+		if (compiled == null) {
+			compiled = ((Compilable) engines.get()).compile(script);
+			scripts.put(script, compiled);
+		}
+		return compiled;
+	}
+
 	/**
 	 * Sandbox classfilter that filters all classes
 	 */
@@ -55,4 +55,18 @@ public interface MigrationStatusHandler {
 
 	void incCompleted();
 
+	/**
+	 * Increment the completion count by the given amount.
+	 * 
+	 * @param count
+	 */
+	void incCompleted(long count);
+
+	/**
+	 * Set the current throughput of the migration.
+	 * 
+	 * @param elementsPerSecond
+	 */
+	void setThroughput(long elementsPerSecond);
+
 }
@@ -39,6 +39,8 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	private long completionCount = 0;
 
+	private long throughput = 0;
+
 	private MigrationStatus status;
 
 	public MigrationStatusHandlerImpl(Job job, Vertx vertx, MigrationType type) {
@@ -53,6 +55,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 			versionEdge.setMigrationStatus(status);
 		}
 		job.setCompletionCount(completionCount);
+		job.setThroughput(throughput);
 		job.setStatus(status);
 
 		Tx.getActive().getGraph().commit();
@@ -139,4 +142,14 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		completionCount++;
 	}
 
+	@Override
+	public void incCompleted(long count) {
+		completionCount += count;
+	}
+
+	@Override
+	public void setThroughput(long elementsPerSecond) {
+		this.throughput = elementsPerSecond;
+	}
+
 }
@@ -6,14 +6,20 @@ import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
@@ -28,6 +34,7 @@ import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.verticle.migration.AbstractMigrationHandler;
 import com.gentics.mesh.core.verticle.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.verticle.node.BinaryFieldHandler;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.VersionNumber;
@@ -54,6 +61,11 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	/**
 	 * Migrate all nodes of a release referencing the given schema container to the latest version of the schema.
 	 *
+	 * The containers are read in waves. The containers of a wave are partitioned by their node so that all containers of a node are handled by the same
+	 * worker. The partitions are migrated in parallel using the configured amount of workers. Each worker migrates its partition in chunks and each chunk is
+	 * migrated within a single transaction. The search index is updated once per chunk. The progress and the throughput are committed via the status handler
+	 * after each wave.
+	 *
 	 * @param project
 	 *            Specific project to handle
 	 * @param release
@@ -76,15 +88,16 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		// Prepare the migration - Collect the migration scripts
 		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts = new ArrayList<>();
 		Set<String> touchedFields = new HashSet<>();
+		boolean migrateFieldsDirectly;
 		try (Tx tx = db.tx()) {
 			prepareMigration(fromVersion, migrationScripts, touchedFields);
+			migrateFieldsDirectly = canMigrateFieldsDirectly(fromVersion);
 		} catch (IOException e) {
 			return Completable.error(e);
 		}
-
-		NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
-		ac.setProject(project);
-		ac.setRelease(release);
+		if (migrateFieldsDirectly) {
+			log.info("The changes don't require any migration script. The fields of the containers will be migrated directly.");
+		}
 
 		SchemaModel newSchema = toVersion.getSchema();
 
@@ -93,25 +106,69 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 			status.commit();
 		}
 
-		// Iterate over all containers and invoke a migration for each one
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		int chunkSize = Math.max(1, options.getChunkSize());
+		int workerCount = Math.max(1, options.getWorkerCount());
+
+		AtomicInteger threadCounter = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(workerCount, r -> {
+			Thread thread = new Thread(r, "mesh-migration-worker-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		// Iterate over all containers and invoke a migration for each chunk
+		long start = System.currentTimeMillis();
 		long count = 0;
-		List<Exception> errorsDetected = new ArrayList<>();
-		while (fieldContainers.hasNext()) {
-			NodeGraphFieldContainer container = fieldContainers.next();
-			migrateContainer(ac, container, toVersion, migrationScripts, release, newSchema, errorsDetected, touchedFields);
+		List<Exception> errorsDetected = Collections.synchronizedList(new ArrayList<>());
+		try {
+			while (fieldContainers.hasNext()) {
+				List<List<NodeGraphFieldContainer>> partitions = new ArrayList<>();
+				for (int i = 0; i < workerCount; i++) {
+					partitions.add(new ArrayList<>());
+				}
+				// Containers of the same node must never be migrated concurrently since they share the edges of the node
+				int waveSize = 0;
+				while (waveSize < chunkSize * workerCount && fieldContainers.hasNext()) {
+					NodeGraphFieldContainer container = fieldContainers.next();
+					Object nodeId = container.getParentNode().getId();
+					partitions.get(Math.floorMod(nodeId.hashCode(), workerCount)).add(container);
+					waveSize++;
+				}
 
-			if (status != null) {
-				status.incCompleted();
-			}
-			if (count % 50 == 0) {
-				log.info("Migrated containers: " + count);
+				List<Future<?>> futures = new ArrayList<>();
+				for (List<NodeGraphFieldContainer> partition : partitions) {
+					if (partition.isEmpty()) {
+						continue;
+					}
+					futures.add(executor.submit(() -> {
+						for (int i = 0; i < partition.size(); i += chunkSize) {
+							List<NodeGraphFieldContainer> chunk = partition.subList(i, Math.min(i + chunkSize, partition.size()));
+							migrateChunk(project, release, chunk, toVersion, migrationScripts, newSchema, errorsDetected, touchedFields,
+									migrateFieldsDirectly);
+						}
+					}));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+
+				count += waveSize;
+				long duration = Math.max(1, System.currentTimeMillis() - start);
+				long throughput = count * 1000 / duration;
+				log.info("Migrated containers: " + count + " (" + throughput + " containers/s)");
 				if (status != null) {
+					status.incCompleted(waveSize);
+					status.setThroughput(throughput);
 					status.commit();
 				}
 			}
-			count++;
+		} catch (Exception e) {
+			return Completable.error(e);
+		} finally {
+			executor.shutdownNow();
 		}
-		log.info("Migration of " + count + " containers done..");
+		log.info("Migration of " + count + " containers done after " + (System.currentTimeMillis() - start) + " [ms]");
 		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
 		// TODO prepare errors. They should be easy to understand and to grasp
 		Completable result = Completable.complete();
@@ -127,66 +184,111 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		return result;
 	}
 
+	/**
+	 * Migrate the given chunk of containers within a single transaction and update the search index using a single batch. The containers will be migrated
+	 * individually if the migration of the chunk fails. This way only the failing containers are omitted.
+	 * 
+	 * @param project
+	 * @param release
+	 * @param containers
+	 *            Containers to be migrated
+	 * @param toVersion
+	 * @param migrationScripts
+	 * @param newSchema
+	 * @param errorsDetected
+	 * @param touchedFields
+	 * @param migrateFieldsDirectly
+	 *            Whether the fields can be migrated without rendering the containers
+	 */
+	private void migrateChunk(Project project, Release release, List<NodeGraphFieldContainer> containers, SchemaContainerVersion toVersion,
+			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, SchemaModel newSchema, List<Exception> errorsDetected,
+			Set<String> touchedFields, boolean migrateFieldsDirectly) {
+
+		SearchQueueBatch batch;
+		try {
+			// Run the actual migration in a dedicated transaction
+			batch = db.tx((tx) -> {
+				SearchQueueBatch sqb = searchQueue.create();
+				// The context is modified for each container and can thus not be shared with other workers
+				NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
+				ac.setProject(project);
+				ac.setRelease(release);
+				for (NodeGraphFieldContainer container : containers) {
+					migrateContainer(ac, sqb, container, toVersion, migrationScripts, release, newSchema, touchedFields, migrateFieldsDirectly);
+				}
+				return sqb;
+			});
+		} catch (Exception e) {
+			if (containers.size() == 1) {
+				log.error("Error while handling container {" + containers.get(0).getUuid() + "} during schema migration.", e);
+				errorsDetected.add(e);
+			} else {
+				log.warn("Error while handling chunk of {" + containers.size() + "} containers during schema migration. Migrating them individually.", e);
+				for (NodeGraphFieldContainer container : containers) {
+					migrateChunk(project, release, Collections.singletonList(container), toVersion, migrationScripts, newSchema, errorsDetected,
+							touchedFields, migrateFieldsDirectly);
+				}
+			}
+			return;
+		}
+
+		// Process the search queue batch in order to update the search index
+		try {
+			batch.processSync();
+		} catch (Exception e) {
+			log.error("Error while updating the search index for {" + containers.size() + "} migrated containers.", e);
+			errorsDetected.add(e);
+		}
+	}
+
 	/**
 	 * Migrates the given container.
 	 * 
 	 * @param ac
+	 * @param sqb
+	 *            Batch to be updated to handle index changes
 	 * @param container
 	 *            Container to be migrated
 	 * @param toVersion
 	 * @param migrationScripts
 	 * @param release
 	 * @param newSchema
-	 * @param errorsDetected
 	 * @param touchedFields
-	 * @return
+	 * @param migrateFieldsDirectly
+	 *            Whether the fields can be migrated without rendering the container
+	 * @throws Exception
 	 */
-	private void migrateContainer(NodeMigrationActionContextImpl ac, NodeGraphFieldContainer container, SchemaContainerVersion toVersion,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Release release, SchemaModel newSchema, List<Exception> errorsDetected,
-			Set<String> touchedFields) {
+	private void migrateContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, NodeGraphFieldContainer container,
+			SchemaContainerVersion toVersion, List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Release release,
+			SchemaModel newSchema, Set<String> touchedFields, boolean migrateFieldsDirectly) throws Exception {
 
 		if (log.isDebugEnabled()) {
 			log.debug("Migrating container {" + container.getUuid() + "}");
 		}
-		try {
-			// Run the actual migration in a dedicated transaction
-			SearchQueueBatch batch = db.tx((tx) -> {
-				SearchQueueBatch sqb = searchQueue.create();
-
-				Node node = container.getParentNode();
-				String languageTag = container.getLanguage().getLanguageTag();
-				ac.getNodeParameters().setLanguages(languageTag);
-				ac.getVersioningParameters().setVersion("draft");
-				NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, release.getUuid(), PUBLISHED);
-
-				VersionNumber nextDraftVersion = null;
-				// 1. Check whether there is any other published container which we need to handle separately
-				if (oldPublished != null && !oldPublished.equals(container)) {
-					// We only need to migrate the container if the container's schema version is also "old"
-					boolean hasSameOldSchemaVersion = container != null
-							&& container.getSchemaContainerVersion().getId().equals(container.getSchemaContainerVersion().getId());
-					if (hasSameOldSchemaVersion) {
-						nextDraftVersion = migratePublishedContainer(ac, sqb, release, node, container, toVersion, touchedFields, migrationScripts,
-								newSchema);
-						nextDraftVersion = nextDraftVersion.nextDraft();
-					}
 
-				}
-
-				// 2. Migrate the draft container. This will also update the draft edge.
-				migrateDraftContainer(ac, sqb, release, node, container, toVersion, touchedFields, migrationScripts, newSchema, nextDraftVersion);
-
-				return sqb;
-			});
-			// Process the search queue batch in order to update the search index
-			if (batch != null) {
-				batch.processSync();
+		Node node = container.getParentNode();
+		String languageTag = container.getLanguage().getLanguageTag();
+		ac.getNodeParameters().setLanguages(languageTag);
+		ac.getVersioningParameters().setVersion("draft");
+		NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, release.getUuid(), PUBLISHED);
+
+		VersionNumber nextDraftVersion = null;
+		// 1. Check whether there is any other published container which we need to handle separately
+		if (oldPublished != null && !oldPublished.equals(container)) {
+			// We only need to migrate the container if the container's schema version is also "old"
+			boolean hasSameOldSchemaVersion = container != null
+					&& container.getSchemaContainerVersion().getId().equals(container.getSchemaContainerVersion().getId());
+			if (hasSameOldSchemaVersion) {
+				nextDraftVersion = migratePublishedContainer(ac, sqb, release, node, container, toVersion, touchedFields, migrationScripts, newSchema,
+						migrateFieldsDirectly);
+				nextDraftVersion = nextDraftVersion.nextDraft();
 			}
-		} catch (Exception e1) {
-			log.error("Error while handling container {" + container.getUuid() + "} during schema migration.", e1);
-			errorsDetected.add(e1);
+
 		}
 
+		// 2. Migrate the draft container. This will also update the draft edge.
+		migrateDraftContainer(ac, sqb, release, node, container, toVersion, touchedFields, migrationScripts, newSchema, nextDraftVersion,
+				migrateFieldsDirectly);
 	}
 
 	/**
@@ -208,12 +310,14 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 *            new schema used to serialize the rest model
 	 * @param nextDraftVersion
 	 *            Suggested new draft version
+	 * @param migrateFieldsDirectly
+	 *            Whether the fields can be migrated without rendering the container
 	 * @throws Exception
 	 */
 	private void migrateDraftContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Release release, Node node,
 			NodeGraphFieldContainer container, SchemaContainerVersion toVersion, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, SchemaModel newSchema, VersionNumber nextDraftVersion)
-			throws Exception {
+			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, SchemaModel newSchema, VersionNumber nextDraftVersion,
+			boolean migrateFieldsDirectly) throws Exception {
 
 		String releaseUuid = release.getUuid();
 		String languageTag = container.getLanguage().getLanguageTag();
@@ -222,11 +326,14 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		// We need to ensure that the migrated container is also published.
 		boolean publish = container.isPublished(releaseUuid);
 
-		ac.getVersioningParameters().setVersion("draft");
-		NodeResponse restModel = node.transformToRestSync(ac, 0, languageTag);
+		NodeResponse restModel = null;
+		if (!migrateFieldsDirectly) {
+			ac.getVersioningParameters().setVersion("draft");
+			restModel = node.transformToRestSync(ac, 0, languageTag);
 
-		// Update the schema version. Otherwise deserialisation of the JSON will fail later on.
-		restModel.getSchema().setVersion(newSchema.getVersion());
+			// Update the schema version. Otherwise deserialisation of the JSON will fail later on.
+			restModel.getSchema().setVersion(newSchema.getVersion());
+		}
 
 		// Actual migration - Create the new version
 		NodeGraphFieldContainer migrated = node.createGraphFieldContainer(container.getLanguage(), release, container.getEditor(), container, true);
@@ -243,7 +350,11 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		}
 
 		// Pass the new version through the migration scripts and update the version
-		migrate(ac, migrated, restModel, toVersion, touchedFields, migrationScripts, NodeUpdateRequest.class);
+		if (migrateFieldsDirectly) {
+			migrateFields(migrated, releaseUuid, toVersion, touchedFields);
+		} else {
+			migrate(ac, migrated, restModel, toVersion, touchedFields, migrationScripts, NodeUpdateRequest.class);
+		}
 
 		// Ensure the search index is updated accordingly
 		sqb.move(container, migrated, releaseUuid, DRAFT);
@@ -267,16 +378,31 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 * @param touchedFields
 	 * @param migrationScripts
 	 * @param newSchema
+	 * @param migrateFieldsDirectly
+	 *            Whether the fields can be migrated without rendering the container
 	 * @return Version of the new published container
 	 * @throws Exception
 	 */
 	private VersionNumber migratePublishedContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Release release, Node node,
 			NodeGraphFieldContainer container, SchemaContainerVersion toVersion, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, SchemaModel newSchema) throws Exception {
+			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, SchemaModel newSchema, boolean migrateFieldsDirectly)
+			throws Exception {
 
 		String languageTag = container.getLanguage().getLanguageTag();
 		String releaseUuid = release.getUuid();
 
+		// The published container can only be migrated directly if it uses the same schema version as the draft
+		NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, releaseUuid, PUBLISHED);
+		if (migrateFieldsDirectly && oldPublished.getSchemaContainerVersion().equals(container.getSchemaContainerVersion())) {
+			NodeGraphFieldContainer migrated = node.createGraphFieldContainer(container.getLanguage(), release, container.getEditor(), oldPublished,
+					false);
+			migrated.setVersion(container.getVersion().nextPublished());
+			node.setPublished(migrated, releaseUuid);
+			migrateFields(migrated, releaseUuid, toVersion, touchedFields);
+			sqb.store(migrated, releaseUuid, PUBLISHED, false);
+			return migrated.getVersion();
+		}
+
 		ac.getVersioningParameters().setVersion("published");
 		NodeResponse restModel = node.transformToRestSync(ac, 0, languageTag);
 		restModel.getSchema().setVersion(newSchema.getVersion());
@@ -289,4 +415,27 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 		return migrated.getVersion();
 	}
 
+	/**
+	 * Migrate the fields of the given container by applying the changes directly to its graph fields. The container has been cloned from the old container
+	 * and thus already contains all fields. Only the touched fields need to be removed. This can only be used if none of the changes requires a migration
+	 * script.
+	 * 
+	 * @param migrated
+	 *            Cloned container which still references the old schema version
+	 * @param releaseUuid
+	 * @param toVersion
+	 * @param touchedFields
+	 */
+	private void migrateFields(NodeGraphFieldContainer migrated, String releaseUuid, SchemaContainerVersion toVersion, Set<String> touchedFields) {
+		// Remove all touched fields while the container still references the old schema version
+		migrated.getFields().stream().filter(f -> touchedFields.contains(f.getFieldKey())).forEach(f -> f.removeField(migrated));
+		// The remaining values don't need to be validated again. Changes of the allowed values are migrated regularly and the field updaters don't enforce
+		// required fields within migrations either.
+		migrated.setSchemaContainerVersion(toVersion);
+
+		// The segment, url and display fields may have been changed
+		migrated.updateWebrootPathInfo(releaseUuid, "node_conflicting_segmentfield_update");
+		migrated.updateDisplayFieldValue();
+	}
+
 }
@@ -4,39 +4,79 @@ import static com.gentics.mesh.core.data.ContainerType.DRAFT;
 import static com.gentics.mesh.core.data.ContainerType.INITIAL;
 import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIELD_CONTAINER;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_PARENT_NODE;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TAG;
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.cache.PathCache;
+import com.gentics.mesh.core.cache.ResponseCache;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Release;
+import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
+import com.gentics.mesh.core.data.impl.TagEdgeImpl;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.search.SearchQueue;
-import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.verticle.migration.AbstractMigrationHandler;
 import com.gentics.mesh.core.verticle.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.verticle.node.BinaryFieldHandler;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.search.index.node.NodeIndexHandler;
+import com.syncleus.ferma.tx.Tx;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
+/**
+ * Handler for the migration of the nodes of a project to a new release.
+ */
 @Singleton
 public class ReleaseMigrationHandler extends AbstractMigrationHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(ReleaseMigrationHandler.class);
 
+	private NodeIndexHandler nodeIndexHandler;
+
 	@Inject
-	public ReleaseMigrationHandler(Database db, SearchQueue searchQueue, BinaryFieldHandler nodeFieldAPIHandler) {
+	public ReleaseMigrationHandler(Database db, SearchQueue searchQueue, BinaryFieldHandler nodeFieldAPIHandler, NodeIndexHandler nodeIndexHandler) {
 		super(db, searchQueue, nodeFieldAPIHandler);
+		this.nodeIndexHandler = nodeIndexHandler;
 	}
 
 	/**
-	 * Migrate all nodes from one release to the other
+	 * Migrate all nodes from one release to the other.
+	 * 
+		 * The node tree of the old release is migrated level by level starting with the base node. The children of a node are always migrated by the same worker
+	 * since the migration of a node also changes its parent node. The nodes of a level are thus migrated in parallel using the configured amount of workers
+	 * without interfering each other. Each worker migrates its nodes in chunks and each chunk is migrated within a single transaction. The progress and the
+	 * throughput are committed via the status handler after each wave. Tags are shared by nodes of all workers. The tag edges are thus added afterwards in a
+	 * single serial pass so that the workers don't conflict on the tag vertices. The containers of the migrated nodes are finally stored in the search index
+	 * using bulk requests.
+	 * 
+	 * The migration doesn't update the change stamps of the nodes since the etags already contain the release. The cached responses and paths are
+	 * invalidated once after the migration instead.
+	 * 
+	 * The migration is not atomic. The workers use their own transactions and the status handler commits the transaction of the caller with each progress
+	 * update. This method will thus commit the pending changes of the current transaction before the migration starts, so that the workers can see them. A
+	 * failed migration can be repeated since nodes which have already been migrated are skipped and the tags of all visited nodes are completed.
 	 * 
 	 * @param newRelease
 	 *            new release
@@ -61,50 +101,166 @@ public class ReleaseMigrationHandler extends AbstractMigrationHandler {
 			status.setStatus(RUNNING);
 			status.commit();
 		}
+		// The workers need to see the release and the nodes which may have been created within the current transaction
+		Tx.getActive().getGraph().commit();
+
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		int chunkSize = Math.max(1, options.getChunkSize());
+		int workerCount = Math.max(1, options.getWorkerCount());
+
+		AtomicInteger threadCounter = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(workerCount, r -> {
+			Thread thread = new Thread(r, "mesh-release-migration-worker-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
 
-		long count = 0;
-		// Iterate over all nodes of the project and migrate them to the new release
 		Project project = oldRelease.getProject();
-		Iterable<? extends Node> it = project.getNodeRoot().findAllIt();
-		for (Node node : it) {
-			SearchQueueBatch sqb = db.tx(() -> {
-				return migrateNode(node, oldRelease, newRelease);
-			});
-			sqb.processSync();
-			if (status != null) {
-				status.incCompleted();
-			}
-			if (count % 50 == 0) {
-				log.info("Migrated nodes: " + count);
-				if (status != null) {
-					status.commit();
+		String projectUuid = project.getUuid();
+		String newReleaseUuid = newRelease.getUuid();
+		long start = System.currentTimeMillis();
+		long count = 0;
+		List<Node> migratedNodes = Collections.synchronizedList(new ArrayList<>());
+		List<Node> taggedNodes = Collections.synchronizedList(new ArrayList<>());
+		try {
+			// Each level contains the children of the nodes of the previous level grouped by their parent node
+			List<List<Node>> level = Collections.singletonList(Collections.singletonList(project.getBaseNode()));
+			while (!level.isEmpty()) {
+				List<List<Node>> nextLevel = new ArrayList<>();
+				int offset = 0;
+				while (offset < level.size()) {
+					// Collect the sibling groups of the wave and assign each group to the worker with the least nodes
+					List<List<Node>> partitions = new ArrayList<>();
+					for (int i = 0; i < workerCount; i++) {
+						partitions.add(new ArrayList<>());
+					}
+					int waveSize = 0;
+					while (waveSize < chunkSize * workerCount && offset < level.size()) {
+						List<Node> siblings = level.get(offset++);
+						Collections.min(partitions, (a, b) -> Integer.compare(a.size(), b.size())).addAll(siblings);
+						waveSize += siblings.size();
+					}
+
+					List<Future<List<List<Node>>>> futures = new ArrayList<>();
+					for (List<Node> partition : partitions) {
+						if (partition.isEmpty()) {
+							continue;
+						}
+						futures.add(executor.submit(() -> {
+							List<List<Node>> children = new ArrayList<>();
+							for (int i = 0; i < partition.size(); i += chunkSize) {
+								List<Node> chunk = partition.subList(i, Math.min(i + chunkSize, partition.size()));
+								children.addAll(db.tx(() -> migrateChunk(chunk, oldRelease, newRelease, migratedNodes, taggedNodes)));
+							}
+							return children;
+						}));
+					}
+					for (Future<List<List<Node>>> future : futures) {
+						nextLevel.addAll(future.get());
+					}
+
+					count += waveSize;
+					long duration = Math.max(1, System.currentTimeMillis() - start);
+					long throughput = count * 1000 / duration;
+					log.info("Migrated nodes: " + count + " (" + throughput + " nodes/s)");
+					if (status != null) {
+						status.incCompleted(waveSize);
+						status.setThroughput(throughput);
+						status.commit();
+					}
 				}
+				level = nextLevel;
 			}
-			count++;
-		}
+			log.info("Migration of " + count + " nodes done after " + (System.currentTimeMillis() - start) + " [ms]");
+
+			// Add the tag edges in a single pass since tags are shared across the nodes of all workers
+			for (int i = 0; i < taggedNodes.size(); i += chunkSize) {
+				List<Node> chunk = taggedNodes.subList(i, Math.min(i + chunkSize, taggedNodes.size()));
+				db.tx(() -> {
+					migrateTags(chunk, oldRelease, newRelease);
+				});
+			}
+			log.info("Migration of the tags of " + taggedNodes.size() + " nodes done after " + (System.currentTimeMillis() - start) + " [ms]");
 
-		// TODO track migration errors
+			// Store the containers of the new release in the search index
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < migratedNodes.size(); i += chunkSize) {
+				List<Node> chunk = migratedNodes.subList(i, Math.min(i + chunkSize, migratedNodes.size()));
+				futures.add(executor.submit(() -> db.tx(() -> nodeIndexHandler.storeNodes(projectUuid, newReleaseUuid, chunk)).await()));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			log.info("Indexing of " + migratedNodes.size() + " migrated nodes done after " + (System.currentTimeMillis() - start) + " [ms]");
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new RuntimeException("Migration of the nodes to release {" + newRelease.getName() + "} failed", e);
+		} finally {
+			executor.shutdownNow();
+		}
 
-		log.info("Migration of " + count + " node done..");
 		db.tx(() -> {
 			newRelease.setMigrated(true);
 		});
+		// Paths and responses of the new release may have been rendered while the nodes were not yet migrated
+		PathCache.invalidate();
+		ResponseCache.invalidate();
 
 	}
 
 	/**
-	 * Migrate the node from the old release to the new release. This will effectively create the edges between the new release and the node. Additionally also
-	 * the tags will be update to correspond with the new release structure.
+	 * Migrate the given chunk of nodes. This method must be invoked within a transaction.
+	 * 
+	 * @param nodes
+	 * @param oldRelease
+	 * @param newRelease
+	 * @param migratedNodes
+	 *            List to which the nodes will be added which have been migrated
+	 * @param taggedNodes
+	 *            List to which the nodes will be added which have tags within the old release
+	 * @return Children of the nodes within the old release grouped by their parent node
+	 */
+	private List<List<Node>> migrateChunk(List<Node> nodes, Release oldRelease, Release newRelease, List<Node> migratedNodes,
+			List<Node> taggedNodes) {
+		List<List<Node>> children = new ArrayList<>();
+		List<Node> migrated = new ArrayList<>();
+		List<Node> tagged = new ArrayList<>();
+		for (Node node : nodes) {
+			if (migrateNode(node, oldRelease, newRelease)) {
+				migrated.add(node);
+			}
+			// Nodes which were migrated by a previous attempt may still lack their tags
+			if (!node.getTags(oldRelease).isEmpty()) {
+				tagged.add(node);
+			}
+			List<Node> siblings = new ArrayList<>();
+			node.getChildren(oldRelease.getUuid()).forEach(siblings::add);
+			if (!siblings.isEmpty()) {
+				children.add(siblings);
+			}
+		}
+		// The transaction may be retried. The nodes must thus only be added once the chunk has been migrated.
+		migratedNodes.addAll(migrated);
+		taggedNodes.addAll(tagged);
+		return children;
+	}
+
+	/**
+	 * Migrate the node from the old release to the new release. This will effectively create the edges between the new release and the node. The edges are
+	 * added directly without updating the change stamps. The tags are migrated separately via {@link #migrateTags(List, Release, Release)}.
 	 * 
 	 * @param node
 	 * @param oldRelease
 	 * @param newRelease
-	 * @return
+	 * @return true if the node has been migrated, false if it was already migrated
 	 */
-	private SearchQueueBatch migrateNode(Node node, Release oldRelease, Release newRelease) {
+	private boolean migrateNode(Node node, Release oldRelease, Release newRelease) {
 		if (!node.getGraphFieldContainers(newRelease, INITIAL).isEmpty()) {
-			return null;
+			return false;
 		}
+		// The parent node and the containers are the same within the new release. Thus the webroot segment info can be reused.
+		Node parent = node.getParentNode(oldRelease.getUuid());
 		node.getGraphFieldContainers(oldRelease, DRAFT).stream().forEach(container -> {
 			GraphFieldContainerEdgeImpl initialEdge = node.addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
 			initialEdge.setLanguageTag(container.getLanguage().getLanguageTag());
@@ -115,26 +271,40 @@ public class ReleaseMigrationHandler extends AbstractMigrationHandler {
 			draftEdge.setLanguageTag(container.getLanguage().getLanguageTag());
 			draftEdge.setType(DRAFT);
 			draftEdge.setReleaseUuid(newRelease.getUuid());
+			draftEdge.setSegmentInfo(GraphFieldContainerEdgeImpl.composeSegmentInfo(container.getSegmentFieldValue(), parent));
 		});
-		SearchQueueBatch batch = searchQueue.create();
-		batch.store(node, newRelease.getUuid(), DRAFT, false);
 
 		node.getGraphFieldContainers(oldRelease, PUBLISHED).stream().forEach(container -> {
 			GraphFieldContainerEdgeImpl edge = node.addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
 			edge.setLanguageTag(container.getLanguage().getLanguageTag());
 			edge.setType(PUBLISHED);
 			edge.setReleaseUuid(newRelease.getUuid());
+			edge.setSegmentInfo(GraphFieldContainerEdgeImpl.composeSegmentInfo(container.getSegmentFieldValue(), parent));
 		});
-		batch.store(node, newRelease.getUuid(), PUBLISHED, false);
 
-		Node parent = node.getParentNode(oldRelease.getUuid());
 		if (parent != null) {
-			node.setParentNode(newRelease.getUuid(), parent);
+			node.addFramedEdge(HAS_PARENT_NODE, parent).setProperty(NodeImpl.RELEASE_UUID_KEY, newRelease.getUuid());
 		}
+		return true;
 
-		// migrate tags
-		node.getTags(oldRelease).forEach(tag -> node.addTag(tag, newRelease));
-		return batch;
+	}
 
+	/**
+	 * Add the tags of the old release to the nodes within the new release. Tags which have already been added are skipped. This method must be invoked within a
+	 * transaction.
+	 * 
+	 * @param nodes
+	 * @param oldRelease
+	 * @param newRelease
+	 */
+	private void migrateTags(List<Node> nodes, Release oldRelease, Release newRelease) {
+		for (Node node : nodes) {
+			Set<Object> existing = node.getTags(newRelease).stream().map(Tag::getId).collect(Collectors.toSet());
+			for (Tag tag : node.getTags(oldRelease)) {
+				if (!existing.contains(tag.getId())) {
+					node.addFramedEdge(HAS_TAG, tag, TagEdgeImpl.class).setReleaseUuid(newRelease.getUuid());
+				}
+			}
+		}
 	}
 }
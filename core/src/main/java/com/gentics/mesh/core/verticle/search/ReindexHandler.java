@@ -0,0 +1,404 @@
+package com.gentics.mesh.core.verticle.search;
+
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.MeshCoreVertex;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.Release;
+import com.gentics.mesh.core.data.job.impl.ReindexJobImpl;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.search.IndexHandler;
+import com.gentics.mesh.core.data.search.impl.SearchOutbox;
+import com.gentics.mesh.core.data.search.index.IndexInfo;
+import com.gentics.mesh.core.verticle.migration.MigrationStatusHandler;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.search.IndexHandlerRegistry;
+import com.gentics.mesh.search.SearchProvider;
+import com.gentics.mesh.search.index.node.NodeIndexHandler;
+
+import dagger.Lazy;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import rx.Completable;
+
+/**
+ * Handler which executes the full reindex of a {@link ReindexJobImpl}.
+ *
+ * The elements are split into partitions (one partition per index handler and one partition per project/release for nodes). The element uuids of a partition
+ * are processed in sorted order and in chunks. The chunks are transformed in parallel on a dedicated worker pool and the documents are written via the bulk
+ * requests of the search provider. The last handled uuid of each partition is stored within the job after each wave of chunks. A reindex which was
+ * interrupted will thus resume at the last checkpoint.
+ *
+ * The documents are written into new versions of all indices while the current versions keep serving search requests. The new versions are activated once all
+ * partitions have been processed. The new versions are registered within the search engine so that the search outbox of every instance also writes the
+ * document changes into the new versions. Changes which were processed while the job was not running are kept within the outbox journal and replayed
+ * before the new versions are activated.
+ */
+@Singleton
+public class ReindexHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(ReindexHandler.class);
+
+	/**
+	 * Amount of elements which will be handled within a single chunk.
+	 */
+	private static final int CHUNK_SIZE = 100;
+
+	/**
+	 * Timeout in seconds for the processing of a single chunk.
+	 */
+	private static final long CHUNK_TIMEOUT = 300;
+
+	/**
+	 * Time in milliseconds to wait after the index versions have been created. All instances need to pick up the new versions before the elements are read
+	 * since changes which are processed before will not be written to the new versions.
+	 */
+	private static final long VERSION_GRACE_PERIOD = 2 * SearchProvider.PENDING_VERSIONS_REFRESH_INTERVAL + 500;
+
+	private SearchProvider searchProvider;
+
+	private IndexHandlerRegistry registry;
+
+	private NodeIndexHandler nodeIndexHandler;
+
+	private Lazy<BootstrapInitializer> boot;
+
+	private Database db;
+
+	private SearchOutbox outbox;
+
+	private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+	@Inject
+	public ReindexHandler(SearchProvider searchProvider, IndexHandlerRegistry registry, NodeIndexHandler nodeIndexHandler,
+			Lazy<BootstrapInitializer> boot, Database db, SearchOutbox outbox) {
+		this.searchProvider = searchProvider;
+		this.registry = registry;
+		this.nodeIndexHandler = nodeIndexHandler;
+		this.boot = boot;
+		this.db = db;
+		this.outbox = outbox;
+	}
+
+	/**
+	 * Reindex all elements. New versions of the indices will be created if the job has not yet been started. Otherwise the reindex continues at the stored
+	 * checkpoints. This method must be invoked within a transaction since the progress will be committed using the status handler.
+	 *
+	 * @param job
+	 * @param status
+	 */
+	public void reindex(ReindexJobImpl job, MigrationStatusHandler status) {
+		JsonObject state = job.getState();
+		initIndices();
+		boolean resumed = state != null;
+		if (state == null) {
+			state = new JsonObject().put("partitions", createPartitions());
+		} else {
+			log.info("Resuming reindex job {" + job.getUuid() + "}");
+		}
+		boolean newVersion = !state.containsKey("indexVersion");
+		if (newVersion) {
+			// Remove left overs of previous reindex jobs
+			outbox.clearJournal();
+			long startedAt = System.currentTimeMillis();
+			state.put("indexVersion", String.valueOf(startedAt));
+			state.put("startedAt", startedAt);
+			state.put("indices", new JsonArray(new ArrayList<>(collectIndices().keySet())));
+		}
+		job.setState(state);
+		String version = state.getString("indexVersion");
+		List<String> indexNames = state.getJsonArray("indices").getList();
+		createIndexVersions(indexNames, version);
+		if (newVersion) {
+			awaitVersionGracePeriod();
+		} else if (resumed) {
+			replayJournal(job, state);
+		}
+		status.setStatus(RUNNING);
+		status.setCompletionCount(job.getCompletionCount());
+		status.commit();
+
+		AtomicInteger threadCounter = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+			Thread thread = new Thread(r, "mesh-reindex-worker-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			JsonArray partitions = state.getJsonArray("partitions");
+			for (int i = 0; i < partitions.size(); i++) {
+				JsonObject partition = partitions.getJsonObject(i);
+				if (partition.getBoolean("done", false)) {
+					continue;
+				}
+				reindexPartition(job, status, state, partition, new HashSet<>(indexNames), version, executor);
+			}
+			state.remove("currentPartition");
+			job.setState(state);
+			status.commit();
+
+			replayJournal(job, state);
+			for (String indexName : indexNames) {
+				searchProvider.switchIndexVersion(indexName, version).await();
+			}
+			outbox.clearJournal();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Create all indices and mappings. Existing indices will not be touched.
+	 */
+	private void initIndices() {
+		for (IndexHandler<?> handler : registry.getHandlers()) {
+			handler.init().await();
+		}
+	}
+
+	/**
+	 * Collect the index information of all indices.
+	 *
+	 * @return
+	 */
+	private Map<String, IndexInfo> collectIndices() {
+		Map<String, IndexInfo> indices = new HashMap<>();
+		for (IndexHandler<?> handler : registry.getHandlers()) {
+			indices.putAll(handler.getIndices());
+		}
+		return indices;
+	}
+
+	/**
+	 * Create the new version for the given indices. Indices which have been deleted in the meantime will be omitted. Document changes will be written to
+	 * the current and the new version until the new version is activated. Changes which happened while the job was not running are covered by
+	 * {@link #replayJournal(ReindexJobImpl, JsonObject)}.
+	 *
+	 * @param indexNames
+	 * @param version
+	 */
+	private void createIndexVersions(List<String> indexNames, String version) {
+		Map<String, IndexInfo> indices = collectIndices();
+		for (String indexName : indexNames) {
+			IndexInfo info = indices.get(indexName);
+			if (info != null) {
+				searchProvider.createIndexVersion(info, version).await();
+			}
+		}
+	}
+
+	/**
+	 * Wait until all instances have picked up the newly created index versions.
+	 */
+	private void awaitVersionGracePeriod() {
+		try {
+			Thread.sleep(VERSION_GRACE_PERIOD);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Reindex was interrupted while waiting for the index versions", e);
+		}
+	}
+
+	/**
+	 * Replay the outbox journal entries which were created since the reindex was started (or since the last replay). This adds the changes to the new index
+	 * versions which were processed while the job was not running or before an instance picked up the new versions.
+	 *
+	 * @param job
+	 * @param state
+	 */
+	private void replayJournal(ReindexJobImpl job, JsonObject state) {
+		long since = state.getLong("replayedUntil", state.getLong("startedAt", 0L));
+		long now = System.currentTimeMillis();
+		int replayed = outbox.replayJournal(since);
+		log.info("Replayed {" + replayed + "} journal entries for reindex job {" + job.getUuid() + "}");
+		state.put("replayedUntil", now);
+		job.setState(state);
+	}
+
+	/**
+	 * Determine the partitions of the reindex.
+	 *
+	 * @return
+	 */
+	private JsonArray createPartitions() {
+		JsonArray partitions = new JsonArray();
+		for (IndexHandler<?> handler : registry.getHandlers()) {
+			if (handler == nodeIndexHandler) {
+				for (Project project : boot.get().projectRoot().findAllIt()) {
+					for (Release release : project.getReleaseRoot().findAllIt()) {
+						partitions.add(new JsonObject().put("key", "node:" + project.getName() + ":" + release.getName()).put("elementType", handler
+								.getElementClass().getName()).put("projectUuid", project.getUuid()).put("releaseUuid", release.getUuid()));
+					}
+				}
+			} else {
+				partitions.add(new JsonObject().put("key", handler.getElementClass().getSimpleName()).put("elementType", handler.getElementClass()
+						.getName()));
+			}
+		}
+		return partitions;
+	}
+
+	/**
+	 * Reindex the elements of the partition. The partition checkpoint is updated after each wave of chunks.
+	 *
+	 * @param job
+	 * @param status
+	 * @param state
+	 * @param partition
+	 * @param indexNames
+	 *            Names of the indices which are part of the reindex
+	 * @param version
+	 *            New version of the indices
+	 * @param executor
+	 */
+	private void reindexPartition(ReindexJobImpl job, MigrationStatusHandler status, JsonObject state, JsonObject partition, Set<String> indexNames,
+			String version, ExecutorService executor) {
+		String key = partition.getString("key");
+		IndexHandler<?> handler = handlerForType(partition.getString("elementType"));
+		List<String> uuids = handler == null ? Collections.emptyList() : loadUuids(handler, partition);
+		String checkpoint = partition.getString("checkpoint");
+		if (checkpoint != null) {
+			uuids = uuids.subList(firstIndexAfter(uuids, checkpoint), uuids.size());
+		}
+		log.info("Reindexing partition {" + key + "} with {" + uuids.size() + "} remaining elements");
+		state.put("currentPartition", key);
+
+		long start = System.currentTimeMillis();
+		long processed = 0;
+		int waveSize = CHUNK_SIZE * parallelism;
+		for (int offset = 0; offset < uuids.size(); offset += waveSize) {
+			List<String> wave = uuids.subList(offset, Math.min(offset + waveSize, uuids.size()));
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (int i = 0; i < wave.size(); i += CHUNK_SIZE) {
+				List<String> chunk = wave.subList(i, Math.min(i + CHUNK_SIZE, wave.size()));
+				futures.add(executor.submit(() -> processChunk(handler, partition, chunk, indexNames, version).await(CHUNK_TIMEOUT, TimeUnit.SECONDS)));
+			}
+			for (Future<Boolean> future : futures) {
+				try {
+					if (!future.get()) {
+						throw new RuntimeException("Reindex of a chunk in partition {" + key + "} did not finish within {" + CHUNK_TIMEOUT + "} seconds");
+					}
+				} catch (RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new RuntimeException("Reindex of partition {" + key + "} failed", e);
+				}
+			}
+
+			// Store the checkpoint
+			processed += wave.size();
+			long duration = Math.max(1, System.currentTimeMillis() - start);
+			partition.put("checkpoint", wave.get(wave.size() - 1));
+			long throughput = processed * 1000 / duration;
+			state.put("elementsPerSecond", throughput);
+			job.setState(state);
+			job.setCompletionCount(job.getCompletionCount() + wave.size());
+			status.setCompletionCount(job.getCompletionCount());
+			status.setThroughput(throughput);
+			status.commit();
+		}
+		partition.put("done", true);
+		job.setState(state);
+		status.commit();
+		log.info("Reindex of partition {" + key + "} completed after " + (System.currentTimeMillis() - start) + " [ms]");
+	}
+
+	/**
+	 * Store the documents for the given elements in the new version of their indices. Elements which have been deleted in the meantime are omitted. Any other
+	 * failure will fail the chunk so that the job can be resumed at the last checkpoint. Documents for indices which are not part of the reindex (e.g. indices
+	 * which have been created in the meantime) are not written since these indices don't have a new version.
+	 *
+	 * @param handler
+	 * @param partition
+	 * @param uuids
+	 * @param indexNames
+	 *            Names of the indices which are part of the reindex
+	 * @param version
+	 *            New version of the indices
+	 * @return
+	 */
+	private Completable processChunk(IndexHandler<?> handler, JsonObject partition, List<String> uuids, Set<String> indexNames, String version) {
+		return Completable.defer(() -> {
+			Map<String, Map<String, JsonObject>> documents = db.tx(() -> handler.createDocuments(uuids, partition.getString("projectUuid"), partition
+					.getString("releaseUuid")));
+			List<Completable> obs = new ArrayList<>();
+			for (Map.Entry<String, Map<String, JsonObject>> entry : documents.entrySet()) {
+				String indexName = entry.getKey();
+				if (indexNames.contains(indexName)) {
+					obs.add(searchProvider.storeDocumentVersionBatch(indexName, version, entry.getValue()));
+				} else if (log.isDebugEnabled()) {
+					log.debug("Index {" + indexName + "} is not part of the reindex. Omitting {" + entry.getValue().size() + "} documents.");
+				}
+			}
+			return Completable.merge(obs);
+		});
+	}
+
+	/**
+	 * Load the sorted uuids of all elements of the partition.
+	 *
+	 * @param handler
+	 * @param partition
+	 * @return
+	 */
+	private List<String> loadUuids(IndexHandler<?> handler, JsonObject partition) {
+		List<String> uuids = new ArrayList<>();
+		String projectUuid = partition.getString("projectUuid");
+		if (handler == nodeIndexHandler && projectUuid != null) {
+			Project project = boot.get().projectRoot().findByUuid(projectUuid);
+			if (project != null) {
+				for (Node node : project.getNodeRoot().findAllIt()) {
+					uuids.add(node.getUuid());
+				}
+			}
+		} else {
+			for (MeshCoreVertex<?, ?> element : handler.getRootVertex().findAllIt()) {
+				uuids.add(element.getUuid());
+			}
+		}
+		Collections.sort(uuids);
+		return uuids;
+	}
+
+	/**
+	 * Return the index of the first uuid which is greater than the checkpoint.
+	 *
+	 * @param uuids
+	 *            Sorted uuids
+	 * @param checkpoint
+	 * @return
+	 */
+	private int firstIndexAfter(List<String> uuids, String checkpoint) {
+		int index = Collections.binarySearch(uuids, checkpoint);
+		return index >= 0 ? index + 1 : -(index + 1);
+	}
+
+	private IndexHandler<?> handlerForType(String elementType) {
+		for (IndexHandler<?> handler : registry.getHandlers()) {
+			if (handler.getElementClass().getName().equals(elementType)) {
+				return handler;
+			}
+		}
+		return null;
+	}
+
+}
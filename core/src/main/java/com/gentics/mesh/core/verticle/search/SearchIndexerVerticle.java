@@ -0,0 +1,129 @@
+package com.gentics.mesh.core.verticle.search;
+
+import static com.gentics.mesh.Events.SEARCH_INDEXER_ADDRESS;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.search.impl.SearchOutbox;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.shareddata.Lock;
+
+/**
+ * Dedicated verticle which drains the search outbox and applies the persisted entries to the search index. The verticle is notified once new entries have
+ * been committed. Notifications which are received within a short delay are combined so that the entries of multiple requests can be merged. The outbox is
+ * also checked periodically in order to retry failed entries and to process entries which were left over by stopped instances.
+ */
+@Singleton
+public class SearchIndexerVerticle extends AbstractVerticle {
+
+	private static final Logger log = LoggerFactory.getLogger(SearchIndexerVerticle.class);
+
+	private static final String GLOBAL_INDEXER_LOCK_NAME = "mesh.internal.searchindexerlock";
+
+	/**
+	 * Delay in milliseconds which is used to collect notifications before the outbox will be drained.
+	 */
+	private static final long BATCH_DELAY = 100;
+
+	/**
+	 * Interval in milliseconds in which the outbox will be checked for due entries.
+	 */
+	private static final long POLL_INTERVAL = 5_000;
+
+	/**
+	 * Maximum amount of outbox entries which will be merged into a single window.
+	 */
+	private static final int WINDOW_SIZE = 500;
+
+	private MessageConsumer<Object> indexerConsumer;
+
+	private SearchOutbox outbox;
+
+	private Long periodicTimerId;
+
+	private boolean scheduled = false;
+
+	private boolean stopped = false;
+
+	@Inject
+	public SearchIndexerVerticle(SearchOutbox outbox) {
+		this.outbox = outbox;
+	}
+
+	@Override
+	public void start() throws Exception {
+		if (log.isDebugEnabled()) {
+			log.debug("Starting verticle {" + getClass().getName() + "}");
+		}
+		stopped = false;
+		indexerConsumer = vertx.eventBus().consumer(SEARCH_INDEXER_ADDRESS, message -> {
+			schedule();
+		});
+		periodicTimerId = vertx.setPeriodic(POLL_INTERVAL, th -> {
+			schedule();
+		});
+		super.start();
+	}
+
+	/**
+	 * Schedule the draining of the outbox. Repeated calls within the batch delay will only result in a single run.
+	 */
+	private void schedule() {
+		if (scheduled || stopped) {
+			return;
+		}
+		scheduled = true;
+		vertx.setTimer(BATCH_DELAY, th -> {
+			scheduled = false;
+			drain();
+		});
+	}
+
+	/**
+	 * Drain the outbox. Only a single instance within the cluster will drain the outbox at the same time.
+	 */
+	private void drain() {
+		vertx.sharedData().getLockWithTimeout(GLOBAL_INDEXER_LOCK_NAME, POLL_INTERVAL, rh -> {
+			if (rh.failed()) {
+				// Another instance is currently draining the outbox
+				if (log.isDebugEnabled()) {
+					log.debug("Could not acquire lock {" + GLOBAL_INDEXER_LOCK_NAME + "}", rh.cause());
+				}
+				return;
+			}
+			Lock lock = rh.result();
+			try {
+				int total = 0;
+				int handled;
+				while (!stopped && (handled = outbox.processPending(WINDOW_SIZE)) > 0) {
+					total += handled;
+				}
+				if (total > 0 && log.isDebugEnabled()) {
+					log.debug("Handled {" + total + "} search outbox entries");
+				}
+			} catch (Exception e) {
+				log.error("Error while draining the search outbox", e);
+			} finally {
+				lock.release();
+			}
+		});
+	}
+
+	@Override
+	public void stop() throws Exception {
+		stopped = true;
+		if (indexerConsumer != null) {
+			indexerConsumer.unregister();
+		}
+		if (periodicTimerId != null) {
+			vertx.cancelTimer(periodicTimerId);
+		}
+		super.stop();
+	}
+
+}
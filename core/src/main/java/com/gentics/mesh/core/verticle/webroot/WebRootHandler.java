@@ -14,6 +14,7 @@ import org.apache.commons.lang3.math.NumberUtils;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.core.cache.ResponseCache;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.node.Node;
@@ -111,14 +112,19 @@ public class WebRootHandler {
 					languageTags.add(lastSegment.getLanguageTag());
 					languageTags.addAll(ac.getNodeParameters().getLanguageList());
 					ac.setWebrootResponseType("node");
-					return node.transformToRest(ac, 0, languageTags.toArray(new String[0]));
+					String[] languages = languageTags.toArray(new String[0]);
+					if (!ResponseCache.isCacheable(ac.getNodeParameters())) {
+						return node.transformToRest(ac, 0, languages).map(JsonUtil::toJson);
+					}
+					String key = ResponseCache.composeKey(node, ac.getRelease(node.getProject()).getUuid(), requestUser.getRoleSetId(), etag, lastSegment
+							.getLanguageTag(), ac.query());
+					return Single.just(ResponseCache.getResponse(key, k -> JsonUtil.toJson(node.transformToRestSync(ac, 0, languages))));
 				}
 			}
 
-		}).subscribe(model -> {
-			if (model != null) {
-				ac.send(JsonUtil.toJson(model),
-						HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())));
+		}).subscribe(json -> {
+			if (json != null) {
+				ac.send(json, HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())));
 			}
 		}, ac::fail);
 
@@ -8,6 +8,7 @@ import com.gentics.mesh.auth.MeshAuthHandler;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.schema.handler.SchemaComparator;
 import com.gentics.mesh.core.data.search.SearchQueue;
+import com.gentics.mesh.core.data.search.impl.SearchOutbox;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
 import com.gentics.mesh.core.image.spi.ImageManipulator;
 import com.gentics.mesh.core.link.WebRootLinkReplacer;
@@ -16,6 +17,7 @@ import com.gentics.mesh.core.verticle.migration.micronode.MicronodeMigrationHand
 import com.gentics.mesh.core.verticle.migration.node.NodeMigrationHandler;
 import com.gentics.mesh.core.verticle.migration.release.ReleaseMigrationHandler;
 import com.gentics.mesh.core.verticle.node.BinaryFieldHandler;
+import com.gentics.mesh.core.verticle.search.ReindexHandler;
 import com.gentics.mesh.dagger.module.BindModule;
 import com.gentics.mesh.dagger.module.ConsoleModule;
 import com.gentics.mesh.dagger.module.MeshModule;
@@ -52,6 +54,8 @@ public interface MeshComponent {
 
 	SearchQueue searchQueue();
 
+	SearchOutbox searchOutbox();
+
 	SearchProvider searchProvider();
 
 	BCryptPasswordEncoder passwordEncoder();
@@ -78,6 +82,8 @@ public interface MeshComponent {
 
 	MicronodeMigrationHandler micronodeMigrationHandler();
 
+	ReindexHandler reindexHandler();
+
 	MeshLocalClientImpl meshLocalClientImpl();
 
 	WebRootLinkReplacer webRootLinkReplacer();
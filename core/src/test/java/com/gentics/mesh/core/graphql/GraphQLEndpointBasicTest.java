@@ -1,9 +1,11 @@
 package com.gentics.mesh.core.graphql;
 
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.graphql.GraphQLHandler.PERSISTED_QUERY_NOT_FOUND;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static org.assertj.core.api.Assertions.assertThat;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
@@ -15,6 +17,7 @@ import com.syncleus.ferma.tx.Tx;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.graphql.cache.GraphQLQueryStore;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
@@ -67,4 +70,40 @@ public class GraphQLEndpointBasicTest extends AbstractMeshTest {
 		String uuid = response.getData().getJsonObject("node").getJsonObject("node").getString("uuid");
 		assertThat(uuid).isNotEmpty();
 	}
+
+	@Test
+	public void testPersistedQuery() throws Throwable {
+		String query = "{me{firstname}}";
+		String hash = GraphQLQueryStore.hash(query);
+		JsonObject extensions = new JsonObject().put("persistedQuery", new JsonObject().put("version", 1).put("sha256Hash", hash));
+
+		// The query is not yet known
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest().setExtensions(extensions)));
+		assertEquals(PERSISTED_QUERY_NOT_FOUND, response.getErrors().get(0).getMessage());
+
+		// Register the query
+		response = call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest().setQuery(query).setExtensions(extensions)));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+
+		// Now only send the hash
+		response = call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest().setExtensions(extensions)));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+	}
+
+	@Test
+	public void testPersistedQueryHashMismatch() throws Throwable {
+		JsonObject extensions = new JsonObject().put("persistedQuery", new JsonObject().put("version", 1).put("sha256Hash", "bogus"));
+		GraphQLRequest request = new GraphQLRequest().setQuery("{me{firstname}}").setExtensions(extensions);
+		call(() -> client().graphql(PROJECT_NAME, request), BAD_REQUEST, "graphql_error_persisted_query_hash_mismatch", "bogus");
+	}
+
+	@Test
+	public void testParsedDocumentCache() throws Throwable {
+		long hits = GraphQLQueryStore.getDocumentStats().hitCount();
+		for (int i = 0; i < 3; i++) {
+			GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, "{me{lastname}}"));
+			MeshJSONAssert.assertEquals("{'me':{'lastname':'Doe'}}", response.getData());
+		}
+		assertThat(GraphQLQueryStore.getDocumentStats().hitCount() - hits).isEqualTo(2);
+	}
 }
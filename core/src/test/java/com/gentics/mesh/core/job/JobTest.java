@@ -5,12 +5,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
 
+import com.gentics.mesh.core.data.Release;
 import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.job.JobRoot;
 import com.gentics.mesh.core.data.job.impl.MicronodeMigrationJobImpl;
@@ -77,4 +79,26 @@ public class JobTest extends AbstractMeshTest {
 					ReleaseMigrationJobImpl.class.getName());
 		}
 	}
+
+	@Test
+	public void testJobLocksAndPriorities() {
+		try (Tx tx = tx()) {
+			JobRoot root = boot().jobRoot();
+			Release newRelease = project().getReleaseRoot().create("newrelease", user());
+			Job reindexJob = root.enqueueReindex(user());
+			Job releaseJob = root.enqueueReleaseMigration(user(), newRelease);
+
+			assertThat(releaseJob.getLockNames()).as("Locks of the release migration").containsOnly(Job.LOCK_NAME_PREFIX + "release." + newRelease
+					.getUuid(), Job.LOCK_NAME_PREFIX + "release." + initialReleaseUuid());
+			assertThat(reindexJob.getLockNames()).as("Locks of the reindex").containsExactly(Job.LOCK_NAME_PREFIX + reindexJob.getUuid());
+			assertTrue("The release migration should be preferred over the reindex", releaseJob.getPriority() > reindexJob.getPriority());
+
+			List<String> processable = root.findProcessable().stream().map(Job::getUuid).collect(Collectors.toList());
+			assertThat(processable).containsExactly(reindexJob.getUuid(), releaseJob.getUuid());
+
+			reindexJob.markAsFailed(new Exception("some error"));
+			processable = root.findProcessable().stream().map(Job::getUuid).collect(Collectors.toList());
+			assertThat(processable).as("Failed jobs must not be processed again").containsExactly(releaseJob.getUuid());
+		}
+	}
 }
@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.node;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static com.gentics.mesh.test.ClientHelper.call;
@@ -15,6 +16,7 @@ import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.user.NodeReference;
@@ -86,6 +88,35 @@ public class NodeEndpointETagTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testReadOneAfterChanges() {
+		String folderUuid = tx(() -> folder("news").getUuid());
+		String contentUuid = tx(() -> content("news overview").getUuid());
+
+		// Tag change
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid), etag, true, 304);
+		call(() -> client().addTagToNode(PROJECT_NAME, contentUuid, tx(() -> tag("red").getUuid())));
+		etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid), etag, true, 200);
+
+		// Change of the parent node which affects the breadcrumb
+		NodeUpdateRequest update = new NodeUpdateRequest();
+		update.setLanguage("en");
+		update.setVersion(tx(() -> folder("news").getGraphFieldContainer("en").getVersion().toString()));
+		update.getFields().put("name", FieldUtil.createStringField("Articles"));
+		call(() -> client().updateNode(PROJECT_NAME, folderUuid, update));
+		etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid), etag, true, 200);
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid), etag, true, 304);
+
+		// Permission change of a child which affects the children info
+		String folderEtag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid));
+		try (Tx tx = tx()) {
+			role().revokePermissions(content("news overview"), READ_PERM);
+			tx.success();
+		}
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid), folderEtag, true, 200);
+	}
+
 	@Test
 	public void testReadOne() {
 		Node node = content();
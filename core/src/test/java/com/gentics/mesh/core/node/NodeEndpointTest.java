@@ -668,6 +668,59 @@ public class NodeEndpointTest extends AbstractMeshTest implements BasicRestTestc
 		assertEquals(0, listResponse.getData().size());
 	}
 
+	@Test
+	public void testReadNodesWithCursor() {
+		int perPage = 4;
+		NodeListResponse allNodes = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 1000), new VersioningParametersImpl()
+				.draft()));
+		assertNull("The last page should not contain a cursor", allNodes.getMetainfo().getNextCursor());
+
+		List<String> uuids = new ArrayList<>();
+		NodeListResponse page = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, perPage), new VersioningParametersImpl()
+				.draft()));
+		page.getData().forEach(node -> uuids.add(node.getUuid()));
+		while (page.getMetainfo().getNextCursor() != null) {
+			String cursor = page.getMetainfo().getNextCursor();
+			page = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, perPage).setAfter(cursor), new VersioningParametersImpl()
+					.draft()));
+			assertEquals("The counts should not be determined when using a cursor", -1, page.getMetainfo().getTotalCount());
+			page.getData().forEach(node -> uuids.add(node.getUuid()));
+		}
+		assertEquals("Loading all pages via the cursor should yield the same nodes", allNodes.getData().stream().map(NodeResponse::getUuid).collect(
+				Collectors.toList()), uuids);
+
+		call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, perPage).setAfter("!!invalid!!")), BAD_REQUEST,
+				"error_paging_cursor_invalid", "!!invalid!!");
+	}
+
+	@Test
+	public void testReadNodesWithCountLimit() {
+		long totalCount = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 2), new VersioningParametersImpl().draft()))
+				.getMetainfo().getTotalCount();
+
+		NodeListResponse limited = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 2).setCountLimit(3),
+				new VersioningParametersImpl().draft()));
+		assertEquals(2, limited.getData().size());
+		assertEquals("Only the elements up to the limit should have been counted", 3, limited.getMetainfo().getTotalCount());
+		assertEquals(2, limited.getMetainfo().getPageCount());
+		assertTrue(limited.getMetainfo().getTotalCountLimited());
+		assertNotNull(limited.getMetainfo().getNextCursor());
+
+		NodeListResponse uncounted = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 2).setCountLimit(0),
+				new VersioningParametersImpl().draft()));
+		assertEquals(2, uncounted.getData().size());
+		assertEquals(-1, uncounted.getMetainfo().getTotalCount());
+		assertEquals(-1, uncounted.getMetainfo().getPageCount());
+
+		NodeListResponse exact = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 2).setCountLimit(10000),
+				new VersioningParametersImpl().draft()));
+		assertEquals(totalCount, exact.getMetainfo().getTotalCount());
+		assertNull(exact.getMetainfo().getTotalCountLimited());
+
+		call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 2).setCountLimit(-1)), BAD_REQUEST, "error_count_limit_parameter",
+				"-1");
+	}
+
 	@Test
 	public void testReadNodesWithoutPermissions() throws Exception {
 
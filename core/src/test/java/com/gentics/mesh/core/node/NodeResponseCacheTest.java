@@ -0,0 +1,100 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.cache.ResponseCache;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.etc.config.ResponseCacheOptions;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true)
+public class NodeResponseCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void enableCache() {
+		ResponseCache.init(new ResponseCacheOptions().setEnabled(true));
+	}
+
+	@After
+	public void disableCache() {
+		ResponseCache.init(new ResponseCacheOptions());
+	}
+
+	@Test
+	public void testReadIsCached() {
+		String uuid = tx(() -> content("news overview").getUuid());
+		NodeResponse first = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+
+		long hits = ResponseCache.getStats().hitCount();
+		NodeResponse second = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		assertEquals("The response should have been answered from the cache", hits + 1, ResponseCache.getStats().hitCount());
+		assertEquals(first.getUuid(), second.getUuid());
+		assertEquals(first.getVersion(), second.getVersion());
+
+		long misses = ResponseCache.getStats().missCount();
+		call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new VersioningParametersImpl().draft()));
+		assertEquals("Different parameters must not be answered from the cache", misses + 1, ResponseCache.getStats().missCount());
+	}
+
+	@Test
+	public void testUpdateInvalidatesResponse() {
+		String uuid = tx(() -> content("news overview").getUuid());
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+
+		NodeUpdateRequest update = new NodeUpdateRequest();
+		update.setLanguage("en");
+		update.setVersion(response.getVersion());
+		update.getFields().put("teaser", FieldUtil.createStringField("updated teaser"));
+		call(() -> client().updateNode(PROJECT_NAME, uuid, update));
+
+		NodeResponse updated = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		assertEquals("updated teaser", updated.getFields().getStringField("teaser").getString());
+	}
+
+	@Test
+	public void testReadParentAfterChildUpdate() {
+		String folderUuid = tx(() -> folder("news").getUuid());
+		String contentUuid = tx(() -> content("news overview").getUuid());
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid));
+
+		NodeUpdateRequest update = new NodeUpdateRequest();
+		update.setLanguage("en");
+		update.setVersion(tx(() -> folder("news").getGraphFieldContainer("en").getVersion().toString()));
+		update.getFields().put("name", FieldUtil.createStringField("Articles"));
+		call(() -> client().updateNode(PROJECT_NAME, folderUuid, update));
+
+		NodeResponse content = call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid));
+		assertEquals("The breadcrumb should contain the new name of the parent", "Articles", content.getBreadcrumb().getFirst().getDisplayName());
+	}
+
+	@Test
+	public void testUnrelatedChangeKeepsResponse() {
+		String contentUuid = tx(() -> content("news overview").getUuid());
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid));
+
+		// Changing a node outside of the ancestors must not invalidate the response
+		String folderUuid = tx(() -> folder("products").getUuid());
+		NodeUpdateRequest update = new NodeUpdateRequest();
+		update.setLanguage("en");
+		update.setVersion(tx(() -> folder("products").getGraphFieldContainer("en").getVersion().toString()));
+		update.getFields().put("name", FieldUtil.createStringField("Goods"));
+		call(() -> client().updateNode(PROJECT_NAME, folderUuid, update));
+
+		long hits = ResponseCache.getStats().hitCount();
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid));
+		assertEquals("The response should still have been answered from the cache", hits + 1, ResponseCache.getStats().hitCount());
+	}
+
+}
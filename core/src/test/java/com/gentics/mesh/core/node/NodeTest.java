@@ -24,6 +24,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import com.syncleus.ferma.tx.Tx;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.GraphFieldContainer;
@@ -44,6 +45,7 @@ import com.gentics.mesh.core.rest.SortOrder;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.error.InvalidArgumentException;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
@@ -485,6 +487,48 @@ public class NodeTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testMigrateReleaseInChunks() throws InvalidArgumentException {
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		options.setChunkSize(2).setWorkerCount(3);
+		try (Tx tx = tx()) {
+			Project project = project();
+			Release initialRelease = project.getInitialRelease();
+			SchemaContainerVersion folderSchema = schemaContainer("folder").getLatestVersion();
+
+			// 1. create folders with two subfolders each
+			Map<Node, List<Node>> folders = new HashMap<>();
+			for (int i = 0; i < 5; i++) {
+				Node folder = project.getBaseNode().create(user(), folderSchema, project);
+				folder.createGraphFieldContainer(english(), initialRelease, user()).createString("name").setString("Folder " + i);
+				List<Node> subFolders = new ArrayList<>();
+				for (int n = 0; n < 2; n++) {
+					Node subFolder = folder.create(user(), folderSchema, project);
+					subFolder.createGraphFieldContainer(english(), initialRelease, user()).createString("name").setString("SubFolder " + i + "." + n);
+					subFolders.add(subFolder);
+				}
+				folders.put(folder, subFolders);
+			}
+
+			// 2. create a new release and migrate the nodes
+			Release newRelease = project.getReleaseRoot().create("newrelease", user());
+			meshDagger().releaseMigrationHandler().migrateRelease(newRelease, null);
+
+			// 3. assert the structure and the containers of the new release
+			assertTrue("The release should be marked as migrated", newRelease.isMigrated());
+			for (Map.Entry<Node, List<Node>> entry : folders.entrySet()) {
+				Node folder = entry.getKey();
+				assertThat(folder).as("folder").hasOnlyChildren(newRelease, entry.getValue().toArray(new Node[0]));
+				assertThat(folder.getGraphFieldContainers(newRelease, ContainerType.DRAFT)).as("draft containers of the folder").hasSize(1);
+				for (Node subFolder : entry.getValue()) {
+					assertThat(subFolder.getGraphFieldContainers(newRelease, ContainerType.DRAFT)).as("draft containers of the subfolder").hasSize(1);
+				}
+			}
+		} finally {
+			options.setChunkSize(MigrationOptions.DEFAULT_CHUNK_SIZE).setWorkerCount(MigrationOptions.DEFAULT_WORKER_COUNT);
+		}
+	}
+
 	@Test
 	public void testDeletePublished() throws InvalidArgumentException {
 		try (Tx tx = tx()) {
@@ -0,0 +1,103 @@
+package com.gentics.mesh.core.role;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static com.gentics.mesh.test.TestSize.PROJECT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.data.Role;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.syncleus.ferma.tx.Tx;
+
+@MeshTestSetting(useElasticsearch = false, testSize = PROJECT, startServer = false)
+public class PermissionStoreTest extends AbstractMeshTest {
+
+	@Test
+	public void testDeniedPermissionIsCached() {
+		try (Tx tx = tx()) {
+			User user = user();
+			Role role = role();
+			Node node = folder("news");
+			role.revokePermissions(node, UPDATE_PERM);
+
+			long misses = PermissionStore.getElementPermissionStats().missCount();
+			assertFalse(user.hasPermission(node, UPDATE_PERM));
+			assertFalse(user.hasPermission(node, UPDATE_PERM));
+			assertEquals("The denied permission should have been answered from the cache", 1, PermissionStore.getElementPermissionStats().missCount()
+					- misses);
+
+			role.grantPermissions(node, UPDATE_PERM);
+			assertTrue("The granted permission should be visible right away", user.hasPermission(node, UPDATE_PERM));
+		}
+	}
+
+	@Test
+	public void testReadIncludesReadPublished() {
+		try (Tx tx = tx()) {
+			Node node = folder("news");
+			role().revokePermissions(node, READ_PUBLISHED_PERM);
+			assertTrue(user().hasPermission(node, READ_PERM));
+			assertTrue(user().hasPermission(node, READ_PUBLISHED_PERM));
+		}
+	}
+
+	@Test
+	public void testTargetedInvalidation() {
+		try (Tx tx = tx()) {
+			User user = user();
+			Node news = folder("news");
+			Node deals = folder("deals");
+			assertTrue(user.hasPermission(news, READ_PERM));
+			assertTrue(user.hasPermission(deals, READ_PERM));
+
+			role().revokePermissions(news, READ_PERM);
+			assertNull("The permissions of the changed element should have been invalidated", PermissionStore.ELEMENT_PERMISSIONS.getIfPresent(String
+					.valueOf(news.getId())));
+			assertNotNull("The permissions of other elements should be kept", PermissionStore.ELEMENT_PERMISSIONS.getIfPresent(String.valueOf(deals
+					.getId())));
+			assertFalse(user.hasPermission(news, READ_PERM));
+
+			group().removeRole(role());
+			assertNull("The roles of the user should have been invalidated", PermissionStore.USER_ROLES.getIfPresent(String.valueOf(user.getId())));
+			assertNotNull("The permissions of the elements should be kept", PermissionStore.ELEMENT_PERMISSIONS.getIfPresent(String.valueOf(deals
+					.getId())));
+			assertFalse(user.hasPermission(deals, READ_PERM));
+
+			group().addRole(role());
+			assertTrue(user.hasPermission(deals, READ_PERM));
+		}
+	}
+
+	@Test
+	public void testRoleSetIsShared() {
+		try (Tx tx = tx()) {
+			User otherUser = boot().userRoot().create("other", user());
+			group().addUser(otherUser);
+			Node node = folder("news");
+
+			assertTrue(user().hasPermission(node, READ_PERM));
+			assertTrue(otherUser.hasPermission(node, READ_PERM));
+			assertSame("Users with the same roles should share the role set", PermissionStore.USER_ROLES.getIfPresent(String.valueOf(user().getId())),
+					PermissionStore.USER_ROLES.getIfPresent(String.valueOf(otherUser.getId())));
+
+			Set<Object> granted = otherUser.hasPermissions(Arrays.asList(node.getId(), folder("deals").getId()), READ_PERM);
+			assertEquals(2, granted.size());
+		}
+	}
+
+}
@@ -17,6 +17,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,6 +26,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.ContainerType;
@@ -63,6 +66,7 @@ import com.gentics.mesh.core.rest.schema.impl.SchemaModelImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.impl.PublishParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
@@ -337,6 +341,60 @@ public class NodeMigrationEndpointTest extends AbstractMeshTest {
 		assertThat(status).listsAll(COMPLETED).hasInfos(1).containsJobs(jobUuid);
 	}
 
+	@Test
+	public void testStartSchemaMigrationInChunks() throws Throwable {
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		options.setChunkSize(3).setWorkerCount(4);
+		String fieldName = "changedfield";
+		int nodeCount = 10;
+		SchemaContainer container;
+		SchemaContainerVersion versionB;
+		List<Node> nodes = new ArrayList<>();
+		String jobUuid;
+
+		try {
+			try (Tx tx = tx()) {
+				container = createDummySchemaWithChanges(fieldName, false);
+				versionB = container.getLatestVersion();
+				SchemaContainerVersion versionA = versionB.getPreviousVersion();
+
+				User user = user();
+				project().getLatestRelease().assignSchemaVersion(user, versionA);
+
+				// create nodes with two languages based on the old schema
+				Node parentNode = folder("2015");
+				for (int i = 0; i < nodeCount; i++) {
+					Node node = parentNode.create(user, versionA, project());
+					node.createGraphFieldContainer(english(), project().getLatestRelease(), user).createString(fieldName).setString("content " + i);
+					node.createGraphFieldContainer(german(), project().getLatestRelease(), user).createString(fieldName).setString("inhalt " + i);
+					nodes.add(node);
+				}
+
+				jobUuid = project().getLatestRelease().assignSchemaVersion(user, versionB).getUuid();
+				tx.success();
+			}
+
+			triggerAndWaitForJob(jobUuid);
+		} finally {
+			options.setChunkSize(MigrationOptions.DEFAULT_CHUNK_SIZE).setWorkerCount(MigrationOptions.DEFAULT_WORKER_COUNT);
+		}
+
+		try (Tx tx = tx()) {
+			for (int i = 0; i < nodeCount; i++) {
+				Node node = nodes.get(i);
+				assertThat(node).as("Migrated Node").isOf(container).hasTranslation("en").hasTranslation("de");
+				assertThat(node.getGraphFieldContainer("en")).as("Migrated field container").isOf(versionB).hasVersion("0.2");
+				assertThat(node.getGraphFieldContainer("en").getString(fieldName).getString()).isEqualTo("modified content " + i);
+				assertThat(node.getGraphFieldContainer("de")).as("Migrated field container").isOf(versionB).hasVersion("0.2");
+				assertThat(node.getGraphFieldContainer("de").getString(fieldName).getString()).isEqualTo("modified inhalt " + i);
+			}
+		}
+
+		JobListResponse status = call(() -> client().findJobs());
+		assertThat(status).listsAll(COMPLETED).hasInfos(1).containsJobs(jobUuid);
+		assertEquals("All containers should have been counted", nodeCount * 2, status.getData().get(0).getCompletionCount());
+	}
+
 	@Test
 	public void testMigrateAddRawField() throws Throwable {
 
@@ -385,6 +443,37 @@ public class NodeMigrationEndpointTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testMigrateAddedFieldWithoutScript() throws Throwable {
+		String nodeUuid = contentUuid();
+		String schemaUuid = tx(() -> schemaContainer("content").getUuid());
+		NodeResponse draftBefore = call(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid, new VersioningParametersImpl().draft()));
+		NodeResponse publishedBefore = call(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid, new VersioningParametersImpl().published()));
+
+		// Adding a field does not require any migration script
+		waitForJobs(() -> {
+			SchemaUpdateRequest request = tx(() -> JsonUtil.readValue(schemaContainer("content").getLatestVersion().getJson(),
+					SchemaUpdateRequest.class));
+			request.addField(FieldUtil.createStringFieldSchema("subtitle"));
+			call(() -> client().updateSchema(schemaUuid, request));
+		}, COMPLETED, 1);
+
+		NodeResponse draftAfter = call(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid, new VersioningParametersImpl().draft()));
+		NodeResponse publishedAfter = call(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid, new VersioningParametersImpl().published()));
+		for (Tuple<NodeResponse, NodeResponse> pair : Arrays.asList(Tuple.tuple(draftBefore, draftAfter), Tuple.tuple(publishedBefore,
+				publishedAfter))) {
+			NodeResponse before = pair.v1();
+			NodeResponse after = pair.v2();
+			assertNotEquals("The container should have been migrated to the new schema version", before.getSchema().getVersion(), after.getSchema()
+					.getVersion());
+			assertEquals(before.getFields().getStringField("title").getString(), after.getFields().getStringField("title").getString());
+			assertEquals(before.getFields().getHtmlField("content").getHTML(), after.getFields().getHtmlField("content").getHTML());
+			assertEquals(before.getDisplayName(), after.getDisplayName());
+			assertEquals(before.getPath(), after.getPath());
+			assertNull(after.getFields().getStringField("subtitle"));
+		}
+	}
+
 	@Test
 	public void testMigrateAgain() throws Throwable {
 		String fieldName = "changedfield";
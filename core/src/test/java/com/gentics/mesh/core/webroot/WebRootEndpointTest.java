@@ -474,6 +474,43 @@ public class WebRootEndpointTest extends AbstractMeshTest {
 		});
 	}
 
+	@Test
+	public void testReadMovedNodeForRelease() {
+		String initialPath = "/News/2015";
+		String movedPath = "/Products/2015";
+
+		// 1. create new release and migrate node
+		db().tx(() -> {
+			Release newRelease = project().getReleaseRoot().create("newrelease", user());
+			meshDagger().releaseMigrationHandler().migrateRelease(newRelease, null);
+		});
+
+		// 2. Assert the unchanged path in the migrated release
+		db().tx(() -> {
+			WebRootResponse restNode = call(() -> client().webroot(PROJECT_NAME, initialPath, new VersioningParametersImpl().draft()));
+			assertThat(restNode.getNodeResponse()).is(folder("2015")).hasLanguage("en");
+		});
+
+		// 3. move the node in the new release
+		String uuid = db().tx(() -> folder("2015").getUuid());
+		String targetUuid = db().tx(() -> folder("products").getUuid());
+		call(() -> client().moveNode(PROJECT_NAME, uuid, targetUuid));
+
+		// 4. Assert the moved path in the new release and the old path in the initial release
+		db().tx(() -> {
+			WebRootResponse restNode = call(() -> client().webroot(PROJECT_NAME, movedPath, new VersioningParametersImpl().draft()));
+			assertThat(restNode.getNodeResponse()).is(folder("2015")).hasLanguage("en");
+			call(() -> client().webroot(PROJECT_NAME, initialPath, new VersioningParametersImpl().draft()), NOT_FOUND, "node_not_found_for_path",
+					initialPath);
+
+			String initialReleaseUuid = project().getInitialRelease().getUuid();
+			restNode = call(() -> client().webroot(PROJECT_NAME, initialPath, new VersioningParametersImpl().draft().setRelease(initialReleaseUuid)));
+			assertThat(restNode.getNodeResponse()).is(folder("2015")).hasLanguage("en");
+			call(() -> client().webroot(PROJECT_NAME, movedPath, new VersioningParametersImpl().draft().setRelease(initialReleaseUuid)), NOT_FOUND,
+					"node_not_found_for_path", movedPath);
+		});
+	}
+
 	/**
 	 * Update the node slug field for the latest release.
 	 * 
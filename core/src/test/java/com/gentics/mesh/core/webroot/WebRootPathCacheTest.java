@@ -0,0 +1,82 @@
+package com.gentics.mesh.core.webroot;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.cache.PathCache;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true)
+public class WebRootPathCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testPathIsCached() {
+		String uuid = db().tx(() -> content("news overview").getUuid());
+		assertEquals("/News/News%20Overview.en.html", renderLink(uuid));
+
+		long misses = PathCache.getMissCount();
+		long hits = PathCache.getHitCount();
+		assertEquals("/News/News%20Overview.en.html", renderLink(uuid));
+		assertEquals("The path should have been answered from the cache", misses, PathCache.getMissCount());
+		assertEquals(hits + 1, PathCache.getHitCount());
+	}
+
+	@Test
+	public void testSegmentChangeInvalidatesPaths() {
+		String uuid = db().tx(() -> content("news overview").getUuid());
+		assertEquals("/News/News%20Overview.en.html", renderLink(uuid));
+
+		String folderUuid = db().tx(() -> folder("news").getUuid());
+		NodeUpdateRequest update = new NodeUpdateRequest();
+		update.setLanguage("en");
+		update.setVersion(db().tx(() -> folder("news").getGraphFieldContainer("en").getVersion().toString()));
+		update.getFields().put("slug", FieldUtil.createStringField("Articles"));
+		call(() -> client().updateNode(PROJECT_NAME, folderUuid, update));
+
+		assertEquals("The paths of the children should reflect the new segment", "/Articles/News%20Overview.en.html", renderLink(uuid));
+		call(() -> client().webroot(PROJECT_NAME, "/Articles/News%20Overview.en.html", new VersioningParametersImpl().draft()));
+	}
+
+	@Test
+	public void testUnrelatedChangeKeepsPaths() {
+		String uuid = db().tx(() -> content("news overview").getUuid());
+		assertEquals("/News/News%20Overview.en.html", renderLink(uuid));
+
+		// Changing a field which is not the segment field must not invalidate the paths of the children
+		String folderUuid = db().tx(() -> folder("news").getUuid());
+		NodeUpdateRequest update = new NodeUpdateRequest();
+		update.setLanguage("en");
+		update.setVersion(db().tx(() -> folder("news").getGraphFieldContainer("en").getVersion().toString()));
+		update.getFields().put("name", FieldUtil.createStringField("News Archive"));
+		call(() -> client().updateNode(PROJECT_NAME, folderUuid, update));
+
+		long misses = PathCache.getMissCount();
+		assertEquals("/News/News%20Overview.en.html", renderLink(uuid));
+		assertEquals("The path should still have been answered from the cache", misses, PathCache.getMissCount());
+	}
+
+	@Test
+	public void testMoveInvalidatesPath() {
+		String uuid = db().tx(() -> content("news overview").getUuid());
+		assertEquals("/News/News%20Overview.en.html", renderLink(uuid));
+
+		String targetUuid = db().tx(() -> folder("2015").getUuid());
+		call(() -> client().moveNode(PROJECT_NAME, uuid, targetUuid));
+		assertEquals("/News/2015/News%20Overview.en.html", renderLink(uuid));
+	}
+
+	private String renderLink(String uuid) {
+		return call(() -> client().resolveLinks("{{mesh.link('" + uuid + "', 'en')}}", new NodeParametersImpl().setResolveLinks(LinkType.SHORT)));
+	}
+
+}
@@ -167,6 +167,24 @@ public class LinkRendererTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testMixedLinksIntoBuffer() {
+		try (Tx tx = tx()) {
+			Node newsNode = content("news overview");
+			String uuid = newsNode.getUuid();
+			String missingUuid = UUIDUtil.randomUUID();
+			final String content = "<a href=\"{{mesh.link('" + uuid + "', 'de')}}\">{{mesh.link('" + missingUuid + "')}}</a>{{mesh.link('" + uuid
+					+ "')}}{{mesh.link('" + uuid + "', 'de')}}";
+			InternalActionContext ac = mockActionContext();
+			StringBuilder output = new StringBuilder("prefix:");
+			replacer.replace(ac, project().getLatestRelease().getUuid(), ContainerType.DRAFT, content, LinkType.SHORT, "dummy", null, output);
+
+			assertEquals("Check rendered content",
+					"prefix:<a href=\"/Neuigkeiten/News%20Overview.de.html\">/error/404</a>/News/News%20Overview.en.html/Neuigkeiten/News%20Overview.de.html",
+					output.toString());
+		}
+	}
+
 	@Test
 	public void testInvalidLinks() {
 		try (Tx tx = tx()) {
@@ -0,0 +1,76 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.test.TestSize.PROJECT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+import rx.Completable;
+
+@MeshTestSetting(useElasticsearch = true, testSize = PROJECT, startServer = false)
+public class BulkIndexerTest extends AbstractMeshTest {
+
+	private static final String INDEX_NAME = "bulktest";
+
+	@Test
+	public void testMergeUpdateIntoStore() {
+		SearchProvider provider = searchProvider();
+		Completable.merge(provider.storeDocument(INDEX_NAME, "doc1", new JsonObject().put("name", "first").put("count", 1)), provider.updateDocument(
+				INDEX_NAME, "doc1", new JsonObject().put("count", 2), true)).await();
+
+		Map<String, Object> document = provider.getDocument(INDEX_NAME, "doc1").toBlocking().value();
+		assertNotNull("The document should have been stored", document);
+		assertEquals("first", document.get("name"));
+		assertEquals("The partial update should have been merged into the stored document", 2, document.get("count"));
+	}
+
+	@Test
+	public void testLastActionWins() {
+		SearchProvider provider = searchProvider();
+		provider.storeDocument(INDEX_NAME, "doc2", new JsonObject().put("name", "initial")).await();
+
+		Completable.merge(provider.storeDocument(INDEX_NAME, "doc2", new JsonObject().put("name", "changed")), provider.deleteDocument(INDEX_NAME,
+				"doc2")).await();
+		assertNull("The document should have been deleted", provider.getDocument(INDEX_NAME, "doc2").toBlocking().value());
+
+		Completable.merge(provider.deleteDocument(INDEX_NAME, "doc2"), provider.storeDocument(INDEX_NAME, "doc2", new JsonObject().put("name",
+				"restored"))).await();
+		Map<String, Object> document = provider.getDocument(INDEX_NAME, "doc2").toBlocking().value();
+		assertNotNull("The document should have been stored again", document);
+		assertEquals("restored", document.get("name"));
+	}
+
+	@Test
+	public void testUpdateMissingDocument() {
+		SearchProvider provider = searchProvider();
+		provider.storeDocument(INDEX_NAME, "doc3", new JsonObject().put("name", "other")).await();
+		provider.updateDocument(INDEX_NAME, "missing", new JsonObject().put("name", "bogus"), true).await();
+		assertNull(provider.getDocument(INDEX_NAME, "missing").toBlocking().value());
+	}
+
+	@Test
+	public void testStoreManyDocuments() {
+		SearchProvider provider = searchProvider();
+		int total = 2500;
+		Map<String, JsonObject> documents = new HashMap<>();
+		for (int i = 0; i < total; i++) {
+			documents.put("batch" + i, new JsonObject().put("name", "document" + i));
+		}
+		provider.storeDocumentBatch(INDEX_NAME, documents).await();
+		for (int i = 0; i < total; i += 500) {
+			Map<String, Object> document = provider.getDocument(INDEX_NAME, "batch" + i).toBlocking().value();
+			assertNotNull("The document {batch" + i + "} should have been stored", document);
+			assertEquals("document" + i, document.get("name"));
+		}
+	}
+
+}
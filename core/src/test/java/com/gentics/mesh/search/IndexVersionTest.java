@@ -0,0 +1,59 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.search.impl.ElasticSearchProvider.composeVersionIndexName;
+import static com.gentics.mesh.search.impl.ElasticSearchProvider.resolveIndexName;
+import static com.gentics.mesh.test.TestSize.PROJECT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.search.index.IndexInfo;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(useElasticsearch = true, testSize = PROJECT, startServer = false)
+public class IndexVersionTest extends AbstractMeshTest {
+
+	private static final String INDEX_NAME = "versiontest";
+
+	@Test
+	public void testSwitchIndexVersion() {
+		SearchProvider provider = searchProvider();
+		IndexInfo info = new IndexInfo(INDEX_NAME, null, new JsonObject());
+		provider.createIndex(info).await();
+		provider.storeDocument(INDEX_NAME, "doc1", new JsonObject().put("name", "old")).await();
+
+		provider.createIndexVersion(info, "2").await();
+		String versionIndexName = composeVersionIndexName(INDEX_NAME, "2");
+		provider.storeDocument(INDEX_NAME, "doc2", new JsonObject().put("name", "new")).await();
+		assertNotNull("The change should have been applied to the active version", provider.getDocument(INDEX_NAME, "doc2").toBlocking().value());
+		assertNotNull("The change should have been applied to the new version", provider.getDocument(versionIndexName, "doc2").toBlocking().value());
+		assertNull("The new version has not yet been populated", provider.getDocument(versionIndexName, "doc1").toBlocking().value());
+		assertNotNull("The active version should still serve the document", provider.getDocument(INDEX_NAME, "doc1").toBlocking().value());
+
+		provider.storeDocument(INDEX_NAME, "doc1", new JsonObject().put("name", "reindexed")).await();
+		provider.switchIndexVersion(INDEX_NAME, "2").await();
+
+		Map<String, Object> document = provider.getDocument(INDEX_NAME, "doc1").toBlocking().value();
+		assertNotNull(document);
+		assertEquals("reindexed", document.get("name"));
+
+		// Changes must no longer be written twice
+		provider.storeDocument(INDEX_NAME, "doc3", new JsonObject().put("name", "after")).await();
+		assertNotNull(provider.getDocument(INDEX_NAME, "doc3").toBlocking().value());
+	}
+
+	@Test
+	public void testResolveIndexName() {
+		assertEquals(INDEX_NAME, resolveIndexName(composeVersionIndexName(INDEX_NAME, "1502112020000")));
+		assertEquals(INDEX_NAME, resolveIndexName(INDEX_NAME));
+		assertEquals("node-version-draft", resolveIndexName("node-version-draft"));
+	}
+
+}
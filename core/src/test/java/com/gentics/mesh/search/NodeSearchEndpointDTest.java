@@ -187,6 +187,56 @@ public class NodeSearchEndpointDTest extends AbstractNodeSearchEndpointTest {
 		}
 	}
 
+	@Test
+	public void testSearchPaging() throws Exception {
+		try (Tx tx = tx()) {
+			String releaseUuid = project().getLatestRelease().getUuid();
+			int numAdditionalNodes = 9;
+			addMicronodeField();
+			User user = user();
+			Language english = english();
+			Node concorde = content("concorde");
+
+			Project project = concorde.getProject();
+			Node parentNode = concorde.getParentNode(releaseUuid);
+			SchemaContainerVersion schemaVersion = concorde.getSchemaContainer().getLatestVersion();
+
+			for (int i = 0; i < numAdditionalNodes; i++) {
+				Node node = parentNode.create(user, schemaVersion, project);
+				NodeGraphFieldContainer fieldContainer = node.createGraphFieldContainer(english, node.getProject().getLatestRelease(), user);
+				fieldContainer.createString("name").setString("Name_" + i);
+				MicronodeGraphField vcardField = fieldContainer.createMicronode("vcard", microschemaContainers().get("vcard").getLatestVersion());
+				vcardField.getMicronode().createString("firstName").setString("Mickey");
+				vcardField.getMicronode().createString("lastName").setString("Mouse");
+				role().grantPermissions(node, GraphPermission.READ_PERM);
+			}
+			recreateIndices();
+		}
+
+		// Only the hits of the requested page should be returned. The total count is provided by Elasticsearch.
+		NodeListResponse response = call(() -> client().searchNodes(PROJECT_NAME, getSimpleQuery("Mickey"), new PagingParametersImpl().setPage(2)
+				.setPerPage(3), new VersioningParametersImpl().draft()));
+		assertEquals("Check returned search results", 3, response.getData().size());
+		assertEquals("Check total search results", 10, response.getMetainfo().getTotalCount());
+		assertEquals("Check page count", 4, response.getMetainfo().getPageCount());
+		assertEquals("Check current page", 2, response.getMetainfo().getCurrentPage());
+
+		response = call(() -> client().searchNodes(PROJECT_NAME, getSimpleQuery("Mickey"), new PagingParametersImpl().setPage(4).setPerPage(3),
+				new VersioningParametersImpl().draft()));
+		assertEquals("The last page should only contain the remaining hit", 1, response.getData().size());
+		assertEquals("Check total search results", 10, response.getMetainfo().getTotalCount());
+
+		// The paging of the query takes precedence over the paging parameters
+		String query = new JsonObject(getSimpleQuery("Mickey")).put("from", 4).put("size", 2).toString();
+		response = call(() -> client().searchNodes(PROJECT_NAME, query, new PagingParametersImpl().setPage(1).setPerPage(3),
+				new VersioningParametersImpl().draft()));
+		assertEquals("Check returned search results", 2, response.getData().size());
+		assertEquals("Check total search results", 10, response.getMetainfo().getTotalCount());
+		assertEquals("Check page count", 5, response.getMetainfo().getPageCount());
+		assertEquals("Check current page", 3, response.getMetainfo().getCurrentPage());
+		assertEquals("Check per page", 2, response.getMetainfo().getPerPage());
+	}
+
 	/**
 	 * Tests if all tags are in the node response when searching for a node.
 	 * 
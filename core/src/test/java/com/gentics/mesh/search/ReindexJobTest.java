@@ -0,0 +1,83 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.COMPLETED;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.job.Job;
+import com.gentics.mesh.core.data.job.impl.ReindexJobImpl;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.syncleus.ferma.tx.Tx;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = false)
+public class ReindexJobTest extends AbstractMeshTest {
+
+	@Test
+	public void testReindex() {
+		dummySearchProvider().reset();
+		try (Tx tx = tx()) {
+			Job job = boot().jobRoot().enqueueReindex(user());
+			job.process();
+			assertEquals(COMPLETED, job.getStatus());
+			assertTrue("The elements should have been counted", job.getCompletionCount() > 0);
+
+			JobResponse response = job.transformToRestSync(mockActionContext(), 0);
+			assertEquals(response.getProperties().get("partitions"), response.getProperties().get("completedPartitions"));
+
+			String userDocument = User.composeIndexName() + "-" + User.composeDocumentId(user().getUuid());
+			assertTrue("The user should have been indexed", dummySearchProvider().getStoreEvents().containsKey(userDocument));
+			assertTrue("The nodes should have been indexed", dummySearchProvider().getStoreEvents().keySet().stream().anyMatch(key -> key
+					.startsWith("node-")));
+		}
+	}
+
+	@Test
+	public void testResumeReindex() {
+		try (Tx tx = tx()) {
+			ReindexJobImpl job = (ReindexJobImpl) boot().jobRoot().enqueueReindex(user());
+			job.process();
+
+			List<String> userUuids = new ArrayList<>();
+			for (User user : boot().userRoot().findAllIt()) {
+				userUuids.add(user.getUuid());
+			}
+			Collections.sort(userUuids);
+			String lastUuid = userUuids.get(userUuids.size() - 1);
+			String checkpoint = userUuids.get(userUuids.size() - 2);
+
+			// Pretend that the reindex stopped before the last user was handled
+			JsonObject state = job.getState();
+			JsonArray partitions = state.getJsonArray("partitions");
+			for (int i = 0; i < partitions.size(); i++) {
+				JsonObject partition = partitions.getJsonObject(i);
+				if (User.class.getName().equals(partition.getString("elementType"))) {
+					partition.put("done", false).put("checkpoint", checkpoint);
+				}
+			}
+			job.setState(state);
+			job.resetJob();
+
+			assertEquals("The unfinished job should be returned", job.getUuid(), boot().jobRoot().enqueueReindex(user()).getUuid());
+
+			dummySearchProvider().reset();
+			job.process();
+			assertEquals(COMPLETED, job.getStatus());
+			assertEquals("Only the remaining user should have been indexed", 1, dummySearchProvider().getStoreEvents().size());
+			assertTrue(dummySearchProvider().getStoreEvents().containsKey(User.composeIndexName() + "-" + User.composeDocumentId(lastUuid)));
+		}
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.CREATE_INDEX;
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.DELETE_ACTION;
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.STORE_ACTION;
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.UPDATE_ROLE_PERM_ACTION;
+import static com.gentics.mesh.test.TestSize.PROJECT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.search.SearchQueueBatch;
+import com.gentics.mesh.core.data.search.SearchQueueEntryAction;
+import com.gentics.mesh.core.data.search.impl.SearchOutbox;
+import com.gentics.mesh.etc.config.ElasticSearchOptions;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.syncleus.ferma.tx.Tx;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(useElasticsearch = false, testSize = PROJECT, startServer = false)
+public class SearchOutboxTest extends AbstractMeshTest {
+
+	@Test
+	public void testCoalesce() {
+		JsonObject store = updateEntry(STORE_ACTION, "uuid1");
+		JsonObject other = updateEntry(STORE_ACTION, "uuid2");
+		JsonObject perm = updateEntry(UPDATE_ROLE_PERM_ACTION, "uuid1");
+		JsonObject delete = updateEntry(DELETE_ACTION, "uuid1");
+		JsonObject createIndex = new JsonObject().put("action", CREATE_INDEX.getName()).put("indexName", "index");
+
+		List<JsonObject> result = SearchOutbox.coalesce(Arrays.asList(store, other, store.copy(), perm, createIndex, createIndex.copy()));
+		assertEquals("Repeated stores should be merged and index entries should be kept", Arrays.asList(other, store, createIndex, createIndex),
+				result);
+
+		assertEquals("The last action should win", Arrays.asList(delete), SearchOutbox.coalesce(Arrays.asList(store, delete)));
+		assertEquals("The last action should win", Arrays.asList(store), SearchOutbox.coalesce(Arrays.asList(delete, store)));
+		assertEquals("The store should replace the permission update", Arrays.asList(store), SearchOutbox.coalesce(Arrays.asList(perm, store)));
+	}
+
+	@Test
+	public void testWaitForIndex() {
+		SearchOutbox outbox = meshDagger().searchOutbox();
+		long initialSize = outbox.size();
+		SearchQueueBatch batch;
+		try (Tx tx = tx()) {
+			batch = createBatch();
+			batch.store(content());
+			tx.success();
+		}
+		assertEquals("The entry should have been persisted in the outbox", initialSize + 1, outbox.size());
+
+		dummySearchProvider().reset();
+		batch.processSync();
+		assertFalse("The node should have been stored", dummySearchProvider().getStoreEvents().isEmpty());
+		assertEquals("The processed entry should have been removed from the outbox", initialSize, outbox.size());
+	}
+
+	@Test
+	public void testProcessPending() {
+		ElasticSearchOptions options = Mesh.mesh().getOptions().getSearchOptions();
+		options.setWaitForIndex(false);
+		try {
+			SearchOutbox outbox = meshDagger().searchOutbox();
+			long initialSize = outbox.size();
+			SearchQueueBatch batch;
+			try (Tx tx = tx()) {
+				batch = createBatch();
+				batch.store(content());
+				batch.store(content());
+				tx.success();
+			}
+
+			dummySearchProvider().reset();
+			batch.processSync();
+			assertTrue("The entries should be handled by the search indexer", dummySearchProvider().getStoreEvents().isEmpty());
+			assertEquals(initialSize + 2, outbox.size());
+
+			assertEquals("Both entries should have been handled", 2, outbox.processPending(100));
+			assertFalse("The node should have been stored", dummySearchProvider().getStoreEvents().isEmpty());
+			assertEquals("The processed entries should have been removed from the outbox", initialSize, outbox.size());
+			assertEquals("No further entries should be due", 0, outbox.processPending(100));
+		} finally {
+			options.setWaitForIndex(true);
+		}
+	}
+
+	private JsonObject updateEntry(SearchQueueEntryAction action, String uuid) {
+		JsonObject context = new JsonObject().put("projectUuid", "project").put("releaseUuid", "release");
+		return new JsonObject().put("action", action.getName()).put("elementUuid", uuid).put("elementType", "node").put("context", context);
+	}
+
+}
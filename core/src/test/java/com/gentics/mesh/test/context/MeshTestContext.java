@@ -27,6 +27,8 @@ import com.gentics.mesh.etc.config.ElasticSearchOptions;
 import com.gentics.mesh.etc.config.HttpServerConfig;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLQueryStore;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaStore;
 import com.gentics.mesh.impl.MeshFactoryImpl;
 import com.gentics.mesh.rest.RestAPIVerticle;
 import com.gentics.mesh.rest.client.MeshRestClient;
@@ -263,6 +265,8 @@ public class MeshTestContext extends TestWatcher {
 		// FileUtils.deleteDirectory(new File(Mesh.mesh().getOptions().getSearchOptions().getDirectory()));
 		// }
 		PermissionStore.invalidate();
+		GraphQLSchemaStore.invalidate();
+		GraphQLQueryStore.invalidate();
 	}
 
 	public TestDataProvider getData() {
@@ -334,6 +338,8 @@ public class MeshTestContext extends TestWatcher {
 			searchOptions.setDirectory(null);
 		}
 		searchOptions.setHttpEnabled(settings.startESServer());
+		// The tests expect that the search index has been updated once the request completes
+		searchOptions.setWaitForIndex(true);
 		options.setSearchOptions(searchOptions);
 		Mesh.mesh(options);
 		return options;
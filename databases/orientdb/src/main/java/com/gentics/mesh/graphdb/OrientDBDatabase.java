@@ -19,11 +19,14 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
@@ -40,6 +43,7 @@ import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.graphdb.spi.AbstractDatabase;
 import com.gentics.mesh.graphdb.spi.FieldType;
+import com.gentics.mesh.graphdb.spi.TxHooks;
 import com.gentics.mesh.util.DateUtils;
 import com.hazelcast.core.HazelcastInstance;
 import com.orientechnologies.common.concur.ONeedRetryException;
@@ -556,6 +560,34 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return orientBaseGraph.getVertices(classOfVertex.getSimpleName(), fieldNames, fieldValues).iterator();
 	}
 
+	@Override
+	public Map<Object, Vertex> getVertices(Class<?> classOfVertex, String fieldName, Collection<?> fieldValues) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		Map<Object, Vertex> vertices = new HashMap<>();
+		OrientVertexType vertexType = orientBaseGraph.getVertexType(classOfVertex.getSimpleName());
+		if (vertexType != null) {
+			// The involved indices also contain the indices of the super classes
+			Set<OIndex<?>> indices = vertexType.getInvolvedIndexes(fieldName);
+			if (!indices.isEmpty()) {
+				// Iterate over the index entries for all values at once
+				OIndexCursor cursor = indices.iterator().next().iterateEntries(fieldValues, false);
+				Entry<Object, OIdentifiable> entry;
+				while ((entry = cursor.nextEntry()) != null) {
+					vertices.put(entry.getKey(), orientBaseGraph.getVertex(entry.getValue()));
+				}
+				return vertices;
+			}
+		}
+		// Fall back to individual lookups if no index could be found
+		for (Object fieldValue : fieldValues) {
+			Iterator<Vertex> it = getVertices(classOfVertex, new String[] { fieldName }, new Object[] { fieldValue });
+			if (it.hasNext()) {
+				vertices.put(fieldValue, it.next());
+			}
+		}
+		return vertices;
+	}
+
 	@Override
 	public <T extends MeshVertex> Iterator<? extends T> getVerticesForType(Class<T> classOfVertex) {
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
@@ -564,6 +596,39 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return fermaGraph.frameExplicit(rawIt, classOfVertex);
 	}
 
+	@Override
+	public Iterator<Vertex> getVerticesUpTo(Class<?> classOfVertex, String fieldName, Object maxValue) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		OrientVertexType vertexType = orientBaseGraph.getVertexType(classOfVertex.getSimpleName());
+		if (vertexType == null) {
+			return Collections.emptyIterator();
+		}
+		for (OIndex<?> index : vertexType.getInvolvedIndexes(fieldName)) {
+			if (index.supportsOrderedIterations()) {
+				OIndexCursor cursor = index.iterateEntriesMinor(maxValue, true, true);
+				return new Iterator<Vertex>() {
+
+					@Override
+					public boolean hasNext() {
+						return cursor.hasNext();
+					}
+
+					@Override
+					public Vertex next() {
+						return orientBaseGraph.getVertex(cursor.next());
+					}
+				};
+			}
+		}
+		throw new RuntimeException("No sorted index for field {" + fieldName + "} of vertex type {" + classOfVertex.getSimpleName() + "} found");
+	}
+
+	@Override
+	public long countVertices(Class<?> classOfVertex) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		return orientBaseGraph.getRawGraph().countClass(classOfVertex.getSimpleName());
+	}
+
 	/**
 	 * Unwrap the current thread local graph.
 	 * 
@@ -695,6 +760,8 @@ public class OrientDBDatabase extends AbstractDatabase {
 			return OType.STRING;
 		case INTEGER:
 			return OType.INTEGER;
+		case LONG:
+			return OType.LONG;
 		case BOOLEAN:
 			return OType.BOOLEAN;
 		case STRING_SET:
@@ -756,6 +823,32 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	}
 
+	@Override
+	public void addSortedVertexIndex(Class<?> clazzOfVertices, String fieldKey, FieldType fieldType) {
+		String name = clazzOfVertices.getSimpleName();
+		String indexName = name + "_" + fieldKey.toLowerCase();
+		if (log.isDebugEnabled()) {
+			log.debug("Adding sorted vertex index {" + indexName + "} for class {" + clazzOfVertices.getName() + "}");
+		}
+		OrientGraphNoTx noTx = factory.getNoTx();
+		try {
+			OrientVertexType v = noTx.getVertexType(name);
+			if (v == null) {
+				throw new RuntimeException("Vertex type {" + name + "} is unknown. Can't create index {" + indexName + "}");
+			}
+			if (v.getProperty(fieldKey) == null) {
+				v.createProperty(fieldKey, convertType(fieldType));
+			}
+			if (v.getClassIndex(indexName) == null) {
+				// The sb-tree index supports ordered iterations
+				v.createIndex(indexName, OClass.INDEX_TYPE.NOTUNIQUE.toString(), null, new ODocument().fields("ignoreNullValues", true),
+						new String[] { fieldKey });
+			}
+		} finally {
+			noTx.shutdown();
+		}
+	}
+
 	@Override
 	public <T extends MeshElement> T findVertex(String fieldKey, Object fieldValue, Class<T> clazz) {
 		FramedGraph graph = Tx.getActive().getGraph();
@@ -815,7 +908,33 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	@Override
 	public Tx tx() {
-		return new OrientDBTx(factory, resolver);
+		OrientDBTx tx = new OrientDBTx(factory, resolver) {
+
+			@Override
+			public void close() {
+				boolean success = isSuccess();
+				boolean committed = false;
+				try {
+					if (success) {
+						try {
+							TxHooks.beforeCommit(getGraph());
+						} catch (RuntimeException e) {
+							// Roll back the transaction
+							failure();
+							super.close();
+							throw e;
+						}
+					}
+					super.close();
+					committed = success;
+				} finally {
+					// The hooks of a failed commit are discarded since the transaction will be retried
+					TxHooks.end(committed);
+				}
+			}
+		};
+		TxHooks.begin();
+		return tx;
 	}
 
 	@Override
@@ -873,6 +992,23 @@ public class OrientDBDatabase extends AbstractDatabase {
 		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
 	}
 
+	@Override
+	public <T> T readTx(TxAction<T> txHandler) {
+		// Conflicts are only detected when committing. The transaction is not committed and thus no retry is needed.
+		try (Tx tx = tx()) {
+			return txHandler.handle(tx);
+		} catch (GenericRestException e) {
+			// Don't log. Just throw it along so that others can handle it
+			throw e;
+		} catch (RuntimeException e) {
+			log.error("Error handling read transaction", e);
+			throw e;
+		} catch (Exception e) {
+			log.error("Error handling read transaction", e);
+			throw new RuntimeException("Transaction error", e);
+		}
+	}
+
 	@Override
 	public void backupGraph(String backupDirectory) throws IOException {
 		if (log.isDebugEnabled()) {
@@ -263,6 +263,7 @@ public class MeshDockerServer<SELF extends MeshDockerServer<SELF>> extends Gener
 		options.getClusterOptions().setVertxPort(8600);
 		options.getAuthenticationOptions().setKeystorePassword(UUIDUtil.randomUUID());
 		options.getSearchOptions().setHttpEnabled(true);
+		options.getSearchOptions().setWaitForIndex(true);
 		return OptionsLoader.getYAMLMapper().writeValueAsString(options);
 	}
 
@@ -0,0 +1,417 @@
+package com.gentics.mesh.search.impl;
+
+import static com.gentics.mesh.search.SearchProvider.DEFAULT_TYPE;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.elasticsearch.ExceptionsHelper;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequestBuilder;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequestBuilder;
+import org.elasticsearch.action.update.UpdateRequestBuilder;
+import org.elasticsearch.client.Client;
+import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
+import org.elasticsearch.rest.RestStatus;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import rx.Completable;
+import rx.CompletableSubscriber;
+
+/**
+ * The bulk indexer collects the document actions (store, update, delete) and sends them to elasticsearch using a single bulk request per window. A window is
+ * flushed once it reached the current bulk size or once the flush interval passed.
+ *
+ * Actions which affect the same document are collapsed as long as they have not yet been sent. The last store or delete action wins and partial updates are
+ * merged into the pending document. Only a single request per document will be in flight at the same time in order to retain the order of the actions.
+ *
+ * The bulk size is adapted to the load of elasticsearch. Rejected actions (429 - Too many requests) are retried with an increasing delay and the bulk size is
+ * reduced. The size is increased again once bulk requests succeed.
+ */
+public class BulkIndexer {
+
+	private static final Logger log = LoggerFactory.getLogger(BulkIndexer.class);
+
+	/**
+	 * Smallest bulk size which will be used when elasticsearch rejects requests.
+	 */
+	private static final int MIN_BULK_SIZE = 10;
+
+	/**
+	 * Maximum amount of bulk requests which may be in flight at the same time.
+	 */
+	private static final int MAX_CONCURRENT_REQUESTS = 2;
+
+	/**
+	 * Amount of retries for rejected actions.
+	 */
+	private static final int MAX_RETRIES = 8;
+
+	private static final long MAX_RETRY_DELAY = 10_000;
+
+	private final Client client;
+
+	private final int maxBulkSize;
+
+	private final long flushInterval;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final Map<String, BulkAction> pending = new LinkedHashMap<>();
+
+	private final Set<String> inFlight = new HashSet<>();
+
+	private int bulkSize;
+
+	private int requestsInFlight = 0;
+
+	private ScheduledFuture<?> flushTask;
+
+	/**
+	 * Create a new bulk indexer.
+	 *
+	 * @param client
+	 *            Elasticsearch client
+	 * @param maxBulkSize
+	 *            Maximum amount of actions per bulk request
+	 * @param flushInterval
+	 *            Interval in milliseconds after which pending actions will be sent
+	 */
+	public BulkIndexer(Client client, int maxBulkSize, long flushInterval) {
+		this.client = client;
+		this.maxBulkSize = Math.max(1, maxBulkSize);
+		this.flushInterval = flushInterval;
+		this.bulkSize = this.maxBulkSize;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "mesh-search-bulk-indexer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Store the document. Pending actions of the document will be replaced.
+	 *
+	 * @param index
+	 * @param id
+	 * @param document
+	 * @return Completable which completes once the document has been indexed
+	 */
+	public Completable store(String index, String id, JsonObject document) {
+		return submit(new BulkAction(ActionType.STORE, index, id, document, false));
+	}
+
+	/**
+	 * Partially update the document. The partial document will be merged into pending store or update actions of the document.
+	 *
+	 * @param index
+	 * @param id
+	 * @param partial
+	 * @param ignoreMissingDocumentError
+	 * @return Completable which completes once the document has been updated
+	 */
+	public Completable update(String index, String id, JsonObject partial, boolean ignoreMissingDocumentError) {
+		return submit(new BulkAction(ActionType.UPDATE, index, id, partial, ignoreMissingDocumentError));
+	}
+
+	/**
+	 * Delete the document. Pending actions of the document will be replaced.
+	 *
+	 * @param index
+	 * @param id
+	 * @return Completable which completes once the document has been deleted
+	 */
+	public Completable delete(String index, String id) {
+		return submit(new BulkAction(ActionType.DELETE, index, id, null, true));
+	}
+
+	/**
+	 * Send all pending actions and stop the scheduler.
+	 */
+	public void close() {
+		synchronized (this) {
+			while (!pending.isEmpty() && requestsInFlight < MAX_CONCURRENT_REQUESTS && sendNext()) {
+				// Send all remaining windows
+			}
+		}
+		scheduler.shutdown();
+	}
+
+	/**
+	 * Return the current bulk size.
+	 *
+	 * @return
+	 */
+	public synchronized int getBulkSize() {
+		return bulkSize;
+	}
+
+	private Completable submit(BulkAction action) {
+		return Completable.create(sub -> {
+			action.subscribers.add(sub);
+			enqueue(action);
+		});
+	}
+
+	private synchronized void enqueue(BulkAction action) {
+		BulkAction existing = pending.get(action.key);
+		if (existing != null) {
+			existing.collapse(action);
+		} else {
+			pending.put(action.key, action);
+		}
+		if (pending.size() >= bulkSize) {
+			flush();
+		} else if (flushTask == null) {
+			flushTask = scheduler.schedule(this::onFlushTimer, flushInterval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private synchronized void onFlushTimer() {
+		flushTask = null;
+		flush();
+	}
+
+	/**
+	 * Send the pending actions as long as the limit of concurrent requests has not been reached. Remaining actions will be sent once a request completes.
+	 */
+	private synchronized void flush() {
+		while (!pending.isEmpty() && requestsInFlight < MAX_CONCURRENT_REQUESTS) {
+			if (!sendNext()) {
+				break;
+			}
+		}
+		if (!pending.isEmpty() && flushTask == null && requestsInFlight == 0) {
+			// Only actions of documents which are currently in flight remain. Check again later.
+			flushTask = scheduler.schedule(this::onFlushTimer, flushInterval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Send the next window of pending actions.
+	 *
+	 * @return false if no action could be sent
+	 */
+	private boolean sendNext() {
+		List<BulkAction> actions = new ArrayList<>();
+		Iterator<BulkAction> it = pending.values().iterator();
+		while (it.hasNext() && actions.size() < bulkSize) {
+			BulkAction action = it.next();
+			if (inFlight.contains(action.key) || action.notBefore > System.currentTimeMillis()) {
+				continue;
+			}
+			it.remove();
+			inFlight.add(action.key);
+			actions.add(action);
+		}
+		if (actions.isEmpty()) {
+			return false;
+		}
+		requestsInFlight++;
+		execute(actions);
+		return true;
+	}
+
+	private void execute(List<BulkAction> actions) {
+		long start = System.currentTimeMillis();
+		BulkRequestBuilder bulk = client.prepareBulk();
+		// Refresh the affected shards so that the changes are searchable once the actions complete.
+		bulk.setRefresh(true);
+		for (BulkAction action : actions) {
+			switch (action.type) {
+			case STORE:
+				IndexRequestBuilder indexRequest = client.prepareIndex(action.index, DEFAULT_TYPE, action.id);
+				indexRequest.setSource(action.document.toString());
+				bulk.add(indexRequest);
+				break;
+			case UPDATE:
+				UpdateRequestBuilder updateRequest = client.prepareUpdate(action.index, DEFAULT_TYPE, action.id);
+				updateRequest.setDoc(action.document.toString());
+				bulk.add(updateRequest);
+				break;
+			case DELETE:
+				bulk.add(client.prepareDelete(action.index, DEFAULT_TYPE, action.id));
+				break;
+			}
+		}
+
+		bulk.execute(new ActionListener<BulkResponse>() {
+
+			@Override
+			public void onResponse(BulkResponse response) {
+				if (log.isDebugEnabled()) {
+					log.debug("Finished bulk request with {" + actions.size() + "} actions. Duration " + (System.currentTimeMillis() - start) + "[ms]");
+				}
+				List<BulkAction> rejected = new ArrayList<>();
+				BulkItemResponse[] items = response.getItems();
+				for (int i = 0; i < actions.size(); i++) {
+					BulkAction action = actions.get(i);
+					BulkItemResponse item = i < items.length ? items[i] : null;
+					if (item == null || !item.isFailed()) {
+						action.complete();
+						continue;
+					}
+					RestStatus status = item.getFailure().getStatus();
+					if (status == RestStatus.TOO_MANY_REQUESTS) {
+						rejected.add(action);
+					} else if (status == RestStatus.NOT_FOUND && action.ignoreMissingDocumentError) {
+						action.complete();
+					} else {
+						log.error("Bulk action {" + action.type + "} for document {" + action.id + "} in index {" + action.index + "} failed. " + item
+								.getFailureMessage());
+						action.fail(item.getFailure().getCause());
+					}
+				}
+				onRequestDone(actions, rejected);
+			}
+
+			@Override
+			public void onFailure(Throwable e) {
+				if (ExceptionsHelper.unwrapCause(e) instanceof EsRejectedExecutionException) {
+					onRequestDone(actions, actions);
+				} else {
+					log.error("Bulk request with {" + actions.size() + "} actions failed. Duration " + (System.currentTimeMillis() - start) + "[ms]", e);
+					for (BulkAction action : actions) {
+						action.fail(e);
+					}
+					onRequestDone(actions, new ArrayList<>());
+				}
+			}
+		});
+	}
+
+	/**
+	 * Release the documents of the completed request, adapt the bulk size and requeue the rejected actions.
+	 *
+	 * @param actions
+	 *            Actions of the request
+	 * @param rejected
+	 *            Actions which were rejected by elasticsearch and need to be retried
+	 */
+	private synchronized void onRequestDone(List<BulkAction> actions, List<BulkAction> rejected) {
+		requestsInFlight--;
+		for (BulkAction action : actions) {
+			inFlight.remove(action.key);
+		}
+		if (rejected.isEmpty()) {
+			// Slowly increase the bulk size again
+			bulkSize = Math.min(maxBulkSize, bulkSize + Math.max(1, bulkSize / 10));
+		} else {
+			bulkSize = Math.max(Math.min(MIN_BULK_SIZE, maxBulkSize), bulkSize / 2);
+			log.warn("Elasticsearch rejected {" + rejected.size() + "} bulk actions. Reducing bulk size to {" + bulkSize + "}");
+			long now = System.currentTimeMillis();
+			for (BulkAction action : rejected) {
+				if (++action.retries > MAX_RETRIES) {
+					action.fail(new EsRejectedExecutionException("Bulk action for document {" + action.id + "} was rejected " + action.retries
+							+ " times"));
+					continue;
+				}
+				action.notBefore = now + Math.min(MAX_RETRY_DELAY, flushInterval << action.retries);
+				// Newer actions for the same document supersede the rejected action
+				BulkAction newer = pending.remove(action.key);
+				if (newer != null) {
+					action.collapse(newer);
+				}
+				pending.put(action.key, action);
+			}
+		}
+		if (!pending.isEmpty()) {
+			if (rejected.isEmpty()) {
+				flush();
+			} else if (flushTask == null) {
+				flushTask = scheduler.schedule(this::onFlushTimer, Math.min(MAX_RETRY_DELAY, flushInterval << 1), TimeUnit.MILLISECONDS);
+			}
+		}
+	}
+
+	private enum ActionType {
+		STORE, UPDATE, DELETE
+	}
+
+	/**
+	 * Pending action for a single document. The action holds the subscribers of all actions which were collapsed into it.
+	 */
+	private static class BulkAction {
+
+		private final String key;
+
+		private final String index;
+
+		private final String id;
+
+		private final List<CompletableSubscriber> subscribers = new ArrayList<>();
+
+		private ActionType type;
+
+		private JsonObject document;
+
+		private boolean ignoreMissingDocumentError;
+
+		private int retries = 0;
+
+		private long notBefore = 0;
+
+		BulkAction(ActionType type, String index, String id, JsonObject document, boolean ignoreMissingDocumentError) {
+			this.key = index + "/" + id;
+			this.type = type;
+			this.index = index;
+			this.id = id;
+			this.document = document;
+			this.ignoreMissingDocumentError = ignoreMissingDocumentError;
+		}
+
+		/**
+		 * Collapse the newer action into this action.
+		 *
+		 * @param newer
+		 */
+		void collapse(BulkAction newer) {
+			subscribers.addAll(newer.subscribers);
+			if (newer.type != ActionType.UPDATE) {
+				type = newer.type;
+				document = newer.document;
+				ignoreMissingDocumentError = newer.ignoreMissingDocumentError;
+				return;
+			}
+			switch (type) {
+			case STORE:
+				// The partial update is applied to the pending document
+				document = document.copy().mergeIn(newer.document, true);
+				break;
+			case UPDATE:
+				document = document.copy().mergeIn(newer.document, true);
+				ignoreMissingDocumentError = ignoreMissingDocumentError && newer.ignoreMissingDocumentError;
+				break;
+			case DELETE:
+				// The document will be deleted. The update would not find the document.
+				break;
+			}
+		}
+
+		void complete() {
+			for (CompletableSubscriber sub : subscribers) {
+				sub.onCompleted();
+			}
+		}
+
+		void fail(Throwable e) {
+			for (CompletableSubscriber sub : subscribers) {
+				sub.onError(e);
+			}
+		}
+	}
+
+}
@@ -6,11 +6,17 @@ import static org.elasticsearch.client.Requests.refreshRequest;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.FileUtils;
 import org.elasticsearch.action.ActionListener;
@@ -18,31 +24,29 @@ import org.elasticsearch.action.admin.cluster.health.ClusterHealthResponse;
 import org.elasticsearch.action.admin.cluster.node.info.NodesInfoResponse;
 import org.elasticsearch.action.admin.indices.create.CreateIndexRequestBuilder;
 import org.elasticsearch.action.admin.indices.create.CreateIndexResponse;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequestBuilder;
+import org.elasticsearch.action.admin.indices.alias.get.GetAliasesResponse;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexResponse;
+import org.elasticsearch.action.admin.indices.exists.indices.IndicesExistsResponse;
+import org.elasticsearch.action.admin.indices.get.GetIndexResponse;
 import org.elasticsearch.action.admin.indices.template.delete.DeleteIndexTemplateResponse;
 import org.elasticsearch.action.admin.indices.template.put.PutIndexTemplateRequestBuilder;
 import org.elasticsearch.action.admin.indices.template.put.PutIndexTemplateResponse;
-import org.elasticsearch.action.bulk.BulkRequestBuilder;
-import org.elasticsearch.action.bulk.BulkResponse;
-import org.elasticsearch.action.delete.DeleteResponse;
 import org.elasticsearch.action.deletebyquery.DeleteByQueryAction;
 import org.elasticsearch.action.deletebyquery.DeleteByQueryRequestBuilder;
 import org.elasticsearch.action.deletebyquery.DeleteByQueryResponse;
 import org.elasticsearch.action.get.GetResponse;
-import org.elasticsearch.action.index.IndexRequestBuilder;
-import org.elasticsearch.action.index.IndexResponse;
 import org.elasticsearch.action.search.SearchRequestBuilder;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.search.SearchType;
-import org.elasticsearch.action.update.UpdateRequestBuilder;
-import org.elasticsearch.action.update.UpdateResponse;
 import org.elasticsearch.client.Client;
+import org.elasticsearch.client.IndicesAdminClient;
 import org.elasticsearch.cluster.health.ClusterHealthStatus;
+import org.elasticsearch.cluster.metadata.AliasMetaData;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.settings.Settings.Builder;
 import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.IndexNotFoundException;
-import org.elasticsearch.index.engine.DocumentMissingException;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.indices.IndexAlreadyExistsException;
 import org.elasticsearch.node.Node;
@@ -51,6 +55,7 @@ import org.elasticsearch.plugin.discovery.multicast.MulticastDiscoveryPlugin;
 import org.elasticsearch.plugins.Plugin;
 import org.elasticsearch.search.SearchHit;
 
+import com.carrotsearch.hppc.cursors.ObjectObjectCursor;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
 import com.gentics.mesh.etc.config.ClusterOptions;
@@ -75,12 +80,40 @@ public class ElasticSearchProvider implements SearchProvider {
 
 	private static final Logger log = LoggerFactory.getLogger(ElasticSearchProvider.class);
 
+	/**
+	 * Separator between the index name and the version of the physical index. The index name itself is used as alias for the active version.
+	 */
+	public static final String VERSION_SEPARATOR = "-v";
+
+	/**
+	 * Suffix of the alias which marks the version of an index that is currently being built. The alias is stored within elasticsearch and is thus visible
+	 * to all instances of the cluster and survives restarts.
+	 */
+	public static final String PENDING_ALIAS_SUFFIX = "-pending";
+
+	private static final String INITIAL_INDEX_VERSION = "1";
+
+	/**
+	 * Amount of attempts for the alias update which activates a new version of an index which was created before the introduction of index versions.
+	 */
+	private static final int ALIAS_SWITCH_ATTEMPTS = 5;
+
 	private Client client;
 
 	private Node node;
 
 	private MeshOptions options;
 
+	private BulkIndexer bulkIndexer;
+
+	/**
+	 * Index versions which are currently being built (index name -> physical index name). Document changes are also applied to these versions. The map is
+	 * loaded from the pending aliases and periodically refreshed so that versions which were created by other instances are picked up.
+	 */
+	private volatile Map<String, String> pendingVersions = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService pendingVersionsRefresher;
+
 	public ElasticSearchProvider() {
 	}
 
@@ -166,6 +199,21 @@ public class ElasticSearchProvider implements SearchProvider {
 		node.start();
 		client = node.client();
 		waitForCluster(client, 45);
+		bulkIndexer = new BulkIndexer(client, searchOptions.getBulkLimit(), searchOptions.getBulkFlushInterval());
+		// The pending versions must be known before the first document is written
+		refreshPendingVersions();
+		pendingVersionsRefresher = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "mesh-search-pending-versions");
+			thread.setDaemon(true);
+			return thread;
+		});
+		pendingVersionsRefresher.scheduleWithFixedDelay(() -> {
+			try {
+				refreshPendingVersions();
+			} catch (Exception e) {
+				log.error("Could not refresh the pending index versions", e);
+			}
+		}, PENDING_VERSIONS_REFRESH_INTERVAL, PENDING_VERSIONS_REFRESH_INTERVAL, TimeUnit.MILLISECONDS);
 		if (log.isDebugEnabled()) {
 			log.debug("Waited for elasticsearch shard: " + (System.currentTimeMillis() - start) + "[ms]");
 		}
@@ -236,10 +284,19 @@ public class ElasticSearchProvider implements SearchProvider {
 	@Override
 	public void clear() {
 		client.admin().indices().prepareDelete("_all").execute().actionGet();
+		pendingVersions = new ConcurrentHashMap<>();
 	}
 
 	@Override
 	public void stop() {
+		if (pendingVersionsRefresher != null) {
+			pendingVersionsRefresher.shutdownNow();
+			pendingVersionsRefresher = null;
+		}
+		if (bulkIndexer != null) {
+			bulkIndexer.close();
+			bulkIndexer = null;
+		}
 		if (client != null) {
 			client.close();
 		}
@@ -261,20 +318,193 @@ public class ElasticSearchProvider implements SearchProvider {
 	public Completable createIndex(IndexInfo info) {
 		String indexName = info.getIndexName();
 		Scheduler scheduler = RxHelper.blockingScheduler(Mesh.vertx());
+		return indexExists(indexName).flatMapCompletable(exists -> {
+			if (exists) {
+				return Completable.complete();
+			}
+			// The index name is an alias for the physical index. This way the index can later be switched to a new version.
+			return createPhysicalIndex(info, composeVersionIndexName(indexName, INITIAL_INDEX_VERSION), true);
+		}).observeOn(scheduler);
+	}
+
+	@Override
+	public Completable createIndexVersion(IndexInfo info, String version) {
+		String indexName = info.getIndexName();
+		String versionIndexName = composeVersionIndexName(indexName, version);
+		return createPhysicalIndex(info, versionIndexName, false).andThen(Completable.fromAction(() -> {
+			// Mark the version as pending so that all instances apply the document changes to it
+			getSearchClient().admin().indices().prepareAliases().addAlias(versionIndexName, composePendingAliasName(indexName)).get();
+			pendingVersions.put(indexName, versionIndexName);
+			log.info("Index {" + indexName + "} version {" + versionIndexName + "} will receive all document changes until it gets activated");
+		}));
+	}
+
+	@Override
+	public boolean hasPendingIndexVersions() {
+		return !pendingVersions.isEmpty();
+	}
+
+	/**
+	 * Load the pending versions of all indices from the pending aliases.
+	 */
+	private void refreshPendingVersions() {
+		Map<String, String> versions = new ConcurrentHashMap<>();
+		GetAliasesResponse response = getSearchClient().admin().indices().prepareGetAliases("*" + PENDING_ALIAS_SUFFIX).get();
+		for (ObjectObjectCursor<String, List<AliasMetaData>> entry : response.getAliases()) {
+			for (AliasMetaData alias : entry.value) {
+				String aliasName = alias.alias();
+				versions.put(aliasName.substring(0, aliasName.length() - PENDING_ALIAS_SUFFIX.length()), entry.key);
+			}
+		}
+		pendingVersions = versions;
+	}
+
+	/**
+	 * Compose the name of the alias which marks the pending version of the index.
+	 * 
+	 * @param indexName
+	 * @return
+	 */
+	public static String composePendingAliasName(String indexName) {
+		return indexName + PENDING_ALIAS_SUFFIX;
+	}
+
+	@Override
+	public Completable switchIndexVersion(String indexName, String version) {
+		String versionIndexName = composeVersionIndexName(indexName, version);
+		String pendingAliasName = composePendingAliasName(indexName);
+		return Completable.fromAction(() -> {
+			IndicesAdminClient admin = getSearchClient().admin().indices();
+			List<String> previousIndices = new ArrayList<>();
+			try {
+				GetIndexResponse response = admin.prepareGetIndex().setIndices(indexName).get();
+				for (String index : response.getIndices()) {
+					if (!index.equals(versionIndexName)) {
+						previousIndices.add(index);
+					}
+				}
+			} catch (IndexNotFoundException e) {
+				if (!admin.prepareAliasesExist(pendingAliasName).setIndices(versionIndexName).get().exists()) {
+					// The index was deleted while the version was built
+					log.info("Index {" + indexName + "} no longer exists. Removing version {" + versionIndexName + "}");
+					pendingVersions.remove(indexName, versionIndexName);
+					admin.prepareDelete(versionIndexName).get();
+					return;
+				}
+				// A previous switch already removed the index which was created before the introduction of index versions
+			}
+
+			// The new version must be searchable before it replaces the active index
+			admin.prepareRefresh(versionIndexName).get();
+			ClusterHealthResponse health = getSearchClient().admin().cluster().prepareHealth(versionIndexName).setWaitForYellowStatus().setTimeout(
+					TimeValue.timeValueSeconds(30)).get();
+			if (health.isTimedOut() || health.getStatus() == ClusterHealthStatus.RED) {
+				throw new RuntimeException("Version {" + versionIndexName + "} of index {" + indexName + "} is not available. Status {" + health
+						.getStatus() + "}");
+			}
+
+			IndicesAliasesRequestBuilder aliases = admin.prepareAliases().addAlias(versionIndexName, indexName).removeAlias(versionIndexName,
+					pendingAliasName);
+			if (previousIndices.remove(indexName)) {
+				// Indices which were created before the introduction of index versions can't be replaced atomically since the alias name is taken. The
+				// pending alias is kept until the new version has been activated so that a failed switch will be completed when the job is resumed.
+				log.warn("Index {" + indexName + "} is not an alias. The index will be deleted before version {" + versionIndexName + "} is activated");
+				admin.prepareDelete(indexName).get();
+				addAliasesWithRetry(aliases, indexName);
+			} else {
+				for (String index : previousIndices) {
+					aliases.removeAlias(index, indexName);
+				}
+				aliases.get();
+			}
+			pendingVersions.remove(indexName, versionIndexName);
+			if (!previousIndices.isEmpty()) {
+				admin.prepareDelete(previousIndices.toArray(new String[previousIndices.size()])).get();
+			}
+			log.info("Switched index {" + indexName + "} to version {" + versionIndexName + "}");
+		});
+	}
+
+	/**
+	 * Execute the alias request and retry it a few times if it fails. This is used after the index which occupied the alias name has been deleted.
+	 * 
+	 * @param aliases
+	 * @param indexName
+	 */
+	private void addAliasesWithRetry(IndicesAliasesRequestBuilder aliases, String indexName) {
+		for (int attempt = 1;; attempt++) {
+			try {
+				aliases.get();
+				return;
+			} catch (RuntimeException e) {
+				if (attempt >= ALIAS_SWITCH_ATTEMPTS) {
+					log.error("Could not activate the new version of index {" + indexName + "}. The switch will be retried when the job is resumed.", e);
+					throw e;
+				}
+				log.warn("Activating the new version of index {" + indexName + "} failed. Retrying.", e);
+				try {
+					Thread.sleep(1000L * attempt);
+				} catch (InterruptedException e1) {
+					Thread.currentThread().interrupt();
+					throw e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check whether an index or an alias with the given name exists.
+	 * 
+	 * @param indexName
+	 * @return
+	 */
+	private Single<Boolean> indexExists(String indexName) {
+		return Single.create(sub -> {
+			getSearchClient().admin().indices().prepareExists(indexName).execute(new ActionListener<IndicesExistsResponse>() {
+
+				@Override
+				public void onResponse(IndicesExistsResponse response) {
+					sub.onSuccess(response.isExists());
+				}
+
+				@Override
+				public void onFailure(Throwable e) {
+					sub.onError(e);
+				}
+			});
+		});
+	}
+
+	/**
+	 * Create the physical index which holds the documents of the index.
+	 * 
+	 * @param info
+	 *            Index information
+	 * @param physicalName
+	 *            Name of the physical index
+	 * @param addAlias
+	 *            Whether to reference the physical index via the alias of the index name
+	 * @return
+	 */
+	private Completable createPhysicalIndex(IndexInfo info, String physicalName, boolean addAlias) {
+		String indexName = info.getIndexName();
 		return Completable.create(sub -> {
 			if (log.isDebugEnabled()) {
-				log.debug("Creating ES Index {" + indexName + "}");
+				log.debug("Creating ES Index {" + physicalName + "} for index {" + indexName + "}");
 			}
-			CreateIndexRequestBuilder createIndexRequestBuilder = getSearchClient().admin().indices().prepareCreate(indexName);
+			CreateIndexRequestBuilder createIndexRequestBuilder = getSearchClient().admin().indices().prepareCreate(physicalName);
 
 			JsonObject json = createIndexSettings(info);
+			if (addAlias) {
+				json.put("aliases", new JsonObject().put(indexName, new JsonObject()));
+			}
 			createIndexRequestBuilder.setSource(json.encodePrettily());
 			createIndexRequestBuilder.execute(new ActionListener<CreateIndexResponse>() {
 
 				@Override
 				public void onResponse(CreateIndexResponse response) {
 					if (log.isDebugEnabled()) {
-						log.debug("Create index {" + indexName + "}response: {" + response.toString() + "}");
+						log.debug("Create index {" + physicalName + "}response: {" + response.toString() + "}");
 					}
 					sub.onCompleted();
 				}
@@ -285,12 +515,37 @@ public class ElasticSearchProvider implements SearchProvider {
 						sub.onCompleted();
 					} else {
 						sub.onError(e);
-						log.error("Error while creating index {" + indexName + "}", e);
+						log.error("Error while creating index {" + physicalName + "}", e);
 					}
 				}
 
 			});
-		}).observeOn(scheduler);
+		});
+	}
+
+	/**
+	 * Compose the name of the physical index for the given index version.
+	 * 
+	 * @param indexName
+	 * @param version
+	 * @return
+	 */
+	public static String composeVersionIndexName(String indexName, String version) {
+		return indexName + VERSION_SEPARATOR + version;
+	}
+
+	/**
+	 * Return the index name for the physical index name.
+	 * 
+	 * @param physicalName
+	 * @return
+	 */
+	public static String resolveIndexName(String physicalName) {
+		int pos = physicalName.lastIndexOf(VERSION_SEPARATOR);
+		if (pos > 0 && physicalName.substring(pos + VERSION_SEPARATOR.length()).matches("[0-9]+")) {
+			return physicalName.substring(0, pos);
+		}
+		return physicalName;
 	}
 
 	@Override
@@ -317,62 +572,36 @@ public class ElasticSearchProvider implements SearchProvider {
 
 	@Override
 	public Completable deleteDocument(String index, String uuid) {
-		return Completable.create(sub -> {
+		return Completable.defer(() -> {
 			if (log.isDebugEnabled()) {
 				log.debug("Deleting document {" + uuid + "} from index {" + index + "}.");
 			}
-			getSearchClient().prepareDelete(index, DEFAULT_TYPE, uuid).execute().addListener(new ActionListener<DeleteResponse>() {
-				@Override
-				public void onResponse(DeleteResponse response) {
-					if (log.isDebugEnabled()) {
-						log.debug("Deleted object {" + uuid + "} from index {" + index + "}");
-					}
-					sub.onCompleted();
-				}
-
-				@Override
-				public void onFailure(Throwable e) {
-					if (e instanceof DocumentMissingException) {
-						sub.onCompleted();
-					} else {
-						log.error("Could not delete object {" + uuid + "} from index {" + index + "}");
-						sub.onError(e);
-					}
-				}
-			});
+			Completable delete = bulkIndexer.delete(index, uuid);
+			String version = pendingVersions.get(index);
+			if (version != null) {
+				delete = delete.mergeWith(bulkIndexer.delete(version, uuid));
+			}
+			return delete;
 		});
 	}
 
 	@Override
 	public Completable updateDocument(String index, String uuid, JsonObject document, boolean ignoreMissingDocumentError) {
 		Scheduler scheduler = RxHelper.blockingScheduler(Mesh.vertx());
-		return Completable.create(sub -> {
+		return Completable.defer(() -> {
 			long start = System.currentTimeMillis();
 			if (log.isDebugEnabled()) {
 				log.debug("Updating object {" + uuid + ":" + DEFAULT_TYPE + "} to index.");
 			}
-			UpdateRequestBuilder builder = getSearchClient().prepareUpdate(index, DEFAULT_TYPE, uuid);
-			builder.setDoc(document.toString());
-			builder.execute().addListener(new ActionListener<UpdateResponse>() {
-
-				@Override
-				public void onResponse(UpdateResponse response) {
-					if (log.isDebugEnabled()) {
-						log.debug("Update object {" + uuid + ":" + DEFAULT_TYPE + "} to index. Duration " + (System.currentTimeMillis() - start)
-								+ "[ms]");
-					}
-					sub.onCompleted();
-				}
-
-				@Override
-				public void onFailure(Throwable e) {
-					if (ignoreMissingDocumentError && e instanceof DocumentMissingException) {
-						sub.onCompleted();
-					} else {
-						log.error("Updating object {" + uuid + ":" + DEFAULT_TYPE + "} to index failed. Duration " + (System.currentTimeMillis()
-								- start) + "[ms]", e);
-						sub.onError(e);
-					}
+			Completable update = bulkIndexer.update(index, uuid, document, ignoreMissingDocumentError);
+			String version = pendingVersions.get(index);
+			if (version != null) {
+				// The document may not yet have been added to the new version
+				update = update.mergeWith(bulkIndexer.update(version, uuid, document, true));
+			}
+			return update.doOnCompleted(() -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Update object {" + uuid + ":" + DEFAULT_TYPE + "} to index. Duration " + (System.currentTimeMillis() - start) + "[ms]");
 				}
 			});
 		}).observeOn(scheduler);
@@ -383,67 +612,61 @@ public class ElasticSearchProvider implements SearchProvider {
 		if (documents.isEmpty()) {
 			return Completable.complete();
 		}
-		return Completable.create(sub -> {
+		return Completable.defer(() -> {
 			long start = System.currentTimeMillis();
-
-			BulkRequestBuilder bulk = getSearchClient().prepareBulk();
-
-			// Add index requests for each document to the bulk request
+			List<Completable> actions = new ArrayList<>();
+			String version = pendingVersions.get(index);
 			for (Map.Entry<String, JsonObject> entry : documents.entrySet()) {
-				String documentId = entry.getKey();
-				JsonObject document = entry.getValue();
-				IndexRequestBuilder indexRequestBuilder = getSearchClient().prepareIndex(index, DEFAULT_TYPE, documentId);
-				indexRequestBuilder.setSource(document.toString());
-				bulk.add(indexRequestBuilder);
+				actions.add(bulkIndexer.store(index, entry.getKey(), entry.getValue()));
+				if (version != null) {
+					actions.add(bulkIndexer.store(version, entry.getKey(), entry.getValue()));
+				}
 			}
-
-			bulk.execute().addListener(new ActionListener<BulkResponse>() {
-				@Override
-				public void onResponse(BulkResponse response) {
-					if (log.isDebugEnabled()) {
-						log.debug("Finished bulk  store request on index {" + index + ":" + DEFAULT_TYPE + "}. Duration " + (System
-								.currentTimeMillis() - start) + "[ms]");
-					}
-					sub.onCompleted();
+			return Completable.merge(actions).doOnCompleted(() -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Finished bulk  store request on index {" + index + ":" + DEFAULT_TYPE + "}. Duration " + (System.currentTimeMillis()
+							- start) + "[ms]");
 				}
+			});
+		});
+	}
 
-				@Override
-				public void onFailure(Throwable e) {
-					log.error("Bulk store on index {" + index + ":" + DEFAULT_TYPE + "} to index failed. Duration " + (System.currentTimeMillis()
-							- start) + "[ms]", e);
-					sub.onError(e);
+	@Override
+	public Completable storeDocumentVersionBatch(String index, String version, Map<String, JsonObject> documents) {
+		if (documents.isEmpty()) {
+			return Completable.complete();
+		}
+		return Completable.defer(() -> {
+			long start = System.currentTimeMillis();
+			String versionIndexName = composeVersionIndexName(index, version);
+			List<Completable> actions = new ArrayList<>();
+			for (Map.Entry<String, JsonObject> entry : documents.entrySet()) {
+				actions.add(bulkIndexer.store(versionIndexName, entry.getKey(), entry.getValue()));
+			}
+			return Completable.merge(actions).doOnCompleted(() -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Finished bulk store request on index version {" + versionIndexName + ":" + DEFAULT_TYPE + "}. Duration " + (System
+							.currentTimeMillis() - start) + "[ms]");
 				}
-
 			});
 		});
 	}
 
 	@Override
 	public Completable storeDocument(String index, String uuid, JsonObject document) {
-		return Completable.create(sub -> {
+		return Completable.defer(() -> {
 			long start = System.currentTimeMillis();
 			if (log.isDebugEnabled()) {
 				log.debug("Adding object {" + uuid + ":" + DEFAULT_TYPE + "} to index {" + index + "}");
 			}
-			IndexRequestBuilder builder = getSearchClient().prepareIndex(index, DEFAULT_TYPE, uuid);
-
-			builder.setSource(document.toString());
-			builder.execute().addListener(new ActionListener<IndexResponse>() {
-
-				@Override
-				public void onResponse(IndexResponse response) {
-					if (log.isDebugEnabled()) {
-						log.debug("Added object {" + uuid + ":" + DEFAULT_TYPE + "} to index. Duration " + (System.currentTimeMillis() - start)
-								+ "[ms]");
-					}
-					sub.onCompleted();
-				}
-
-				@Override
-				public void onFailure(Throwable e) {
-					log.error("Adding object {" + uuid + ":" + DEFAULT_TYPE + "} to index failed. Duration " + (System.currentTimeMillis() - start)
-							+ "[ms]", e);
-					sub.onError(e);
+			Completable store = bulkIndexer.store(index, uuid, document);
+			String version = pendingVersions.get(index);
+			if (version != null) {
+				store = store.mergeWith(bulkIndexer.store(version, uuid, document));
+			}
+			return store.doOnCompleted(() -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Added object {" + uuid + ":" + DEFAULT_TYPE + "} to index. Duration " + (System.currentTimeMillis() - start) + "[ms]");
 				}
 			});
 		});
@@ -532,7 +755,7 @@ public class ElasticSearchProvider implements SearchProvider {
 					}
 					// Invoke the deletion for each found document
 					for (SearchHit hit : response.getHits()) {
-						obs.add(deleteDocument(hit.getIndex(), hit.getId()));
+						obs.add(deleteDocument(resolveIndexName(hit.getIndex()), hit.getId()));
 					}
 					Completable.merge(obs).await();
 
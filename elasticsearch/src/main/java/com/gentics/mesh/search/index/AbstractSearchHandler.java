@@ -1,12 +1,15 @@
 package com.gentics.mesh.search.index;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -23,11 +26,13 @@ import org.elasticsearch.client.Client;
 import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.rest.BytesRestResponse;
 import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.SearchHits;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.data.page.impl.PageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.search.IndexHandler;
@@ -41,22 +46,19 @@ import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.json.MeshJsonException;
 import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.search.MeshRestChannel;
+import com.gentics.mesh.search.MeshSearchHit;
 import com.gentics.mesh.search.SearchHandler;
 import com.gentics.mesh.search.SearchProvider;
-import com.gentics.mesh.util.Tuple;
 import com.syncleus.ferma.tx.Tx;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
-import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
-import io.vertx.rx.java.ObservableFuture;
-import io.vertx.rx.java.RxHelper;
 import rx.Observable;
-import rx.Single;
 import rx.functions.Func0;
 
 /**
@@ -68,6 +70,11 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractSearchHandler.class);
 
+	/**
+	 * Amount of hits which Elasticsearch returns if the query does not specify a size.
+	 */
+	private static final int DEFAULT_QUERY_SIZE = 10;
+
 	protected Database db;
 
 	protected SearchProvider searchProvider;
@@ -106,9 +113,11 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 
 		JsonObject newQuery = new JsonObject()
 			.put("bool", new JsonObject()
-				.put("filter", new JsonObject()
-					.put("terms", new JsonObject()
-						.put("_roleUuids", roleUuids)
+				.put("filter", new JsonArray()
+					.add(new JsonObject()
+						.put("terms", new JsonObject()
+							.put("_roleUuids", roleUuids)
+						)
 					)
 				)
 			);
@@ -120,11 +129,134 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			userJson.put("query", newQuery);
 		}
 
-		if (userJson.getLong("size") == null) {
-			userJson.put("size", Integer.MAX_VALUE);
+		return userJson;
+	}
+
+	/**
+	 * Apply the paging parameters to the prepared search query. This way Elasticsearch will only return the hits of the requested page and only those hits
+	 * need to be resolved against the graph. A paging which was already defined within the query via from/size takes precedence over the paging parameters.
+	 * 
+	 * @param query
+	 *            Prepared search query
+	 * @param pagingInfo
+	 * @return Paging which describes the hits which will be returned by Elasticsearch
+	 */
+	protected PagingParameters applyPaging(JsonObject query, PagingParameters pagingInfo) {
+		if (query.containsKey("from") || query.containsKey("size")) {
+			long from = query.getLong("from", 0L);
+			int size = query.getInteger("size", DEFAULT_QUERY_SIZE);
+			int page = size == 0 ? 1 : (int) (from / size) + 1;
+			return new PagingParametersImpl(page, size);
 		}
+		long from = (long) (pagingInfo.getPage() - 1) * pagingInfo.getPerPage();
+		query.put("from", from);
+		query.put("size", pagingInfo.getPerPage());
+		return pagingInfo;
+	}
 
-		return userJson;
+	/**
+	 * Add a filter to the prepared search query which only matches documents of the given languages. Documents which are not language specific (e.g. users
+	 * or tags) will not be affected by the filter.
+	 * 
+	 * @param query
+	 *            Prepared search query
+	 * @param languageTags
+	 *            Requested languages
+	 * @return
+	 */
+	protected JsonObject applyLanguageFilter(JsonObject query, List<String> languageTags) {
+		JsonObject boolQuery = query.getJsonObject("query", new JsonObject()).getJsonObject("bool");
+		if (languageTags == null || languageTags.isEmpty() || boolQuery == null) {
+			return query;
+		}
+		JsonObject languageFilter = new JsonObject()
+			.put("bool", new JsonObject()
+				.put("should", new JsonArray()
+					.add(new JsonObject()
+						.put("terms", new JsonObject()
+							.put("language", new JsonArray(languageTags))
+						)
+					)
+					.add(new JsonObject()
+						.put("bool", new JsonObject()
+							.put("must_not", new JsonObject()
+								.put("exists", new JsonObject()
+									.put("field", "language")
+								)
+							)
+						)
+					)
+				)
+			);
+		boolQuery.getJsonArray("filter").add(languageFilter);
+		return query;
+	}
+
+	/**
+	 * Return the permissions of which at least one must be granted in order to include an element in the search result.
+	 * 
+	 * @param ac
+	 * @return
+	 */
+	protected GraphPermission[] getReadPermissions(InternalActionContext ac) {
+		return new GraphPermission[] { READ_PERM };
+	}
+
+	/**
+	 * Resolve the elements for the given search hits. All elements are located using a single lookup of the uuid index and the permissions of the found
+	 * elements are checked in a single pass. Hits for which no element could be found or for which none of the permissions is granted are omitted.
+	 * 
+	 * @param ac
+	 * @param root
+	 *            Root vertex which contains the elements
+	 * @param hits
+	 * @param permissions
+	 *            Permissions of which at least one must be granted. No permissions will be checked if no permission was specified.
+	 * @return Resolved hits in the order of the search hits
+	 */
+	protected List<MeshSearchHit<T>> resolveHits(InternalActionContext ac, RootVertex<T> root, SearchHits hits, GraphPermission... permissions) {
+		List<MeshSearchHit<T>> searchHits = new ArrayList<>();
+		Set<String> uuids = new HashSet<>();
+		for (SearchHit hit : hits) {
+			String id = hit.getId();
+			int pos = id.indexOf("-");
+
+			String language = pos > 0 ? id.substring(pos + 1) : null;
+			String uuid = pos > 0 ? id.substring(0, pos) : id;
+			searchHits.add(new MeshSearchHit<>(uuid, language));
+			uuids.add(uuid);
+		}
+
+		// Locate all elements at once
+		Map<String, T> elements = root.findByUuids(uuids);
+
+		// Check the permissions of all found elements at once
+		Set<Object> pending = elements.values().stream().map(element -> element.getId()).collect(Collectors.toSet());
+		Set<Object> granted = new HashSet<>();
+		if (permissions.length == 0) {
+			granted.addAll(pending);
+		}
+		for (GraphPermission permission : permissions) {
+			pending.removeAll(granted);
+			if (pending.isEmpty()) {
+				break;
+			}
+			granted.addAll(ac.getUser().hasPermissions(pending, permission));
+		}
+
+		List<MeshSearchHit<T>> resolvedHits = new ArrayList<>();
+		for (MeshSearchHit<T> hit : searchHits) {
+			T element = elements.get(hit.uuid);
+			if (element == null) {
+				log.error("Object could not be found for uuid {" + hit.uuid + "} in root vertex {" + root.getRootLabel() + "}");
+			} else if (granted.contains(element.getId())) {
+				hit.element = element;
+				resolvedHits.add(hit);
+			} else if (log.isDebugEnabled()) {
+				log.debug("Omitting element {" + hit.uuid + "} from the search result since the needed permission is not granted");
+			}
+		}
+		return resolvedHits;
 	}
 
 	@Override
@@ -140,6 +272,10 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		SearchRequestBuilder builder = null;
 		try {
 			JsonObject query = prepareSearchQuery(ac, searchQuery);
+			// Raw queries return all hits unless a size was specified
+			if (query.getLong("size") == null) {
+				query.put("size", Integer.MAX_VALUE);
+			}
 			builder = client.prepareSearch(indices.toArray(new String[indices.size()])).setSource(query.toString());
 		} catch (Exception e) {
 			ac.fail(new GenericRestException(BAD_REQUEST, "search_query_not_parsable", e));
@@ -189,9 +325,13 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		}
 
 		Set<String> indices = indexHandler.getSelectedIndices(ac);
+		List<String> requestedLanguageTags = ac.getNodeParameters().getLanguageList();
 		SearchRequestBuilder builder = null;
+		PagingParameters paging;
 		try {
 			JsonObject query = prepareSearchQuery(ac, searchQuery);
+			applyLanguageFilter(query, requestedLanguageTags);
+			paging = applyPaging(query, pagingInfo);
 			builder = client.prepareSearch(indices.toArray(new String[indices.size()])).setSource(query.toString());
 		} catch (Exception e) {
 			ac.fail(new GenericRestException(BAD_REQUEST, "search_query_not_parsable", e));
@@ -203,88 +343,41 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			@Override
 			public void onResponse(SearchResponse response) {
 				db.tx(() -> {
-					List<ObservableFuture<Tuple<T, String>>> obs = new ArrayList<>();
-					List<String> requestedLanguageTags = ac.getNodeParameters().getLanguageList();
-
-					for (SearchHit hit : response.getHits()) {
-
-						String id = hit.getId();
-						int pos = id.indexOf("-");
-
-						String language = pos > 0 ? id.substring(pos + 1) : null;
-						String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-						ObservableFuture<Tuple<T, String>> obsResult = RxHelper.observableFuture();
-						obs.add(obsResult);
-
-						// Locate the node
-						T element = rootVertex.call().findByUuid(uuid);
-						if (element == null) {
-							log.error("Object could not be found for uuid {" + uuid + "} in root vertex {" + rootVertex.call().getRootLabel() + "}");
-							obsResult.toHandler().handle(Future.succeededFuture());
-						} else {
-							obsResult.toHandler().handle(Future.succeededFuture(Tuple.tuple(element, language)));
+					// The hits only contain the requested page
+					List<MeshSearchHit<T>> hits = resolveHits(ac, rootVertex.call(), response.getHits(), getReadPermissions(ac));
+					List<Observable<RM>> obsList = new ArrayList<>();
+					for (MeshSearchHit<T> hit : hits) {
+						// Check whether the language matches up
+						boolean matchesRequestedLang = hit.language == null || requestedLanguageTags == null || requestedLanguageTags.isEmpty()
+								|| requestedLanguageTags.contains(hit.language);
+						if (matchesRequestedLang) {
+							// Transform node and add it to the list of nodes
+							obsList.add(hit.element.transformToRest(ac, 0, hit.language).toObservable());
 						}
-
 					}
 
-					Observable.merge(obs).collect(() -> {
-						return new ArrayList<Tuple<T, String>>();
+					// Set meta information to the rest response
+					long totalCount = response.getHits().getTotalHits();
+					PagingMetaInfo metainfo = new PagingMetaInfo();
+					int totalPages = 0;
+					if (paging.getPerPage() != 0) {
+						totalPages = (int) Math.ceil(totalCount / (double) paging.getPerPage());
+					}
+					// Cap totalpages to 1
+					totalPages = totalPages == 0 ? 1 : totalPages;
+					metainfo.setTotalCount(totalCount);
+					metainfo.setCurrentPage(paging.getPage());
+					metainfo.setPageCount(totalPages);
+					metainfo.setPerPage(paging.getPerPage());
+					listResponse.setMetainfo(metainfo);
+
+					// Transform the elements in parallel and populate the response data in the order of the hits. Afterwards send the response.
+					Observable.from(obsList).concatMapEager(obs -> obs).collect(() -> {
+						return listResponse.getData();
 					}, (x, y) -> {
-						if (y == null) {
-							return;
-						}
-						// Check whether the language matches up
-						boolean matchesRequestedLang = y.v2() == null || requestedLanguageTags == null || requestedLanguageTags.isEmpty()
-								|| requestedLanguageTags.contains(y.v2());
-						if (y != null && matchesRequestedLang) {
-							x.add(y);
-						}
-					}).subscribe(list -> {
-						// Internally we start with page 0
-						int page = pagingInfo.getPage() - 1;
-
-						int low = page * pagingInfo.getPerPage();
-						int upper = low + pagingInfo.getPerPage() - 1;
-
-						int n = 0;
-						List<Single<RM>> transformedElements = new ArrayList<>();
-						for (Tuple<T, String> objectAndLanguageTag : list) {
-
-							// Only transform elements that we want to list in our resultset
-							if (n >= low && n <= upper) {
-								// Transform node and add it to the list of nodes
-								transformedElements.add(objectAndLanguageTag.v1().transformToRest(ac, 0, objectAndLanguageTag.v2()));
-							}
-							n++;
-						}
-
-						// Set meta information to the rest response
-						PagingMetaInfo metainfo = new PagingMetaInfo();
-						int totalPages = 0;
-						if (pagingInfo.getPerPage() != 0) {
-							totalPages = (int) Math.ceil(list.size() / (double) pagingInfo.getPerPage());
-						}
-						// Cap totalpages to 1
-						totalPages = totalPages == 0 ? 1 : totalPages;
-						metainfo.setTotalCount(list.size());
-						metainfo.setCurrentPage(pagingInfo.getPage());
-						metainfo.setPageCount(totalPages);
-						metainfo.setPerPage(pagingInfo.getPerPage());
-						listResponse.setMetainfo(metainfo);
-
-						List<Observable<RM>> obsList = transformedElements.stream().map(ele -> ele.toObservable()).collect(Collectors.toList());
-						// Populate the response data with the transformed elements and send the response
-						Observable.concat(Observable.from(obsList)).collect(() -> {
-							return listResponse.getData();
-						}, (x, y) -> {
-							x.add(y);
-						}).subscribe(itemList -> {
-							ac.send(JsonUtil.toJson(listResponse), OK);
-						}, error -> {
-							ac.fail(error);
-						});
-
+						x.add(y);
+					}).subscribe(itemList -> {
+						ac.send(JsonUtil.toJson(listResponse), OK);
 					}, error -> {
 						log.error("Error while processing search response items", error);
 						ac.fail(error);
@@ -341,8 +434,10 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		}
 
 		SearchRequestBuilder builder = null;
+		PagingParameters paging;
 		try {
 			JsonObject queryJson = prepareSearchQuery(ac, query);
+			paging = applyPaging(queryJson, pagingInfo);
 			Set<String> indices = indexHandler.getSelectedIndices(ac);
 			builder = client.prepareSearch(indices.toArray(new String[indices.size()])).setSource(queryJson.toString());
 		} catch (Exception e) {
@@ -356,18 +451,19 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			public void onResponse(SearchResponse response) {
 				Page<? extends T> page = db.tx(() -> {
 					List<T> elementList = new ArrayList<T>();
-					for (SearchHit hit : response.getHits()) {
-						String id = hit.getId();
-						int pos = id.indexOf("-");
-						String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-						// Locate the node
-						T element = indexHandler.getRootVertex().findByUuid(uuid);
-						if (element != null) {
-							elementList.add(element);
-						}
+					for (MeshSearchHit<T> hit : resolveHits(ac, indexHandler.getRootVertex(), response.getHits(), permissions)) {
+						elementList.add(hit.element);
+					}
+					// The hits only contain the requested page. The total count is provided by Elasticsearch.
+					long totalCount = response.getHits().getTotalHits();
+					long totalPages = 0;
+					if (paging.getPerPage() != 0) {
+						totalPages = (long) Math.ceil(totalCount / (double) paging.getPerPage());
 					}
-					Page<? extends T> elementPage = Page.applyPaging(elementList, pagingInfo);
+					// Cap totalpages to 1
+					totalPages = totalPages == 0 ? 1 : totalPages;
+					Page<? extends T> elementPage = new PageImpl<>(elementList, totalCount, paging.getPage(), totalPages, paging.getPerPage());
+					elementPage.setUnfilteredSearchCount(totalCount);
 					return elementPage;
 				});
 				future.complete(page);
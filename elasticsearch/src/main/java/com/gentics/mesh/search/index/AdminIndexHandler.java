@@ -1,5 +1,6 @@
 package com.gentics.mesh.search.index;
 
+import static com.gentics.mesh.Events.JOB_WORKER_ADDRESS;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.rest.Messages.message;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
@@ -8,30 +9,28 @@ import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
-import com.gentics.mesh.core.data.search.IndexHandler;
+import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.rest.search.SearchStatusResponse;
 import com.gentics.mesh.graphdb.spi.Database;
-import com.gentics.mesh.search.IndexHandlerRegistry;
-import com.gentics.mesh.search.SearchProvider;
 
+import dagger.Lazy;
 import rx.Observable;
 import rx.Single;
 
 @Singleton
 public class AdminIndexHandler {
 
-	private IndexHandlerRegistry registry;
-
 	private Database db;
 
-	private SearchProvider searchProvider;
+	private Lazy<BootstrapInitializer> boot;
 
 	@Inject
-	public AdminIndexHandler(Database db, SearchProvider searchProvider, IndexHandlerRegistry registry) {
+	public AdminIndexHandler(Database db, Lazy<BootstrapInitializer> boot) {
 		this.db = db;
-		this.searchProvider = searchProvider;
-		this.registry = registry;
+		this.boot = boot;
 	}
 
 	public void handleStatus(InternalActionContext ac) {
@@ -41,23 +40,30 @@ public class AdminIndexHandler {
 		}).subscribe(message -> ac.send(message, OK), ac::fail);
 	}
 
+	/**
+	 * Enqueue a reindex job. The job will be processed by the job worker unless requests should wait for the search index. The job is processed directly in
+	 * this case.
+	 * 
+	 * @param ac
+	 */
 	public void handleReindex(InternalActionContext ac) {
+		boolean waitForIndex = Mesh.mesh().getOptions().getSearchOptions().isWaitForIndex();
 		db.asyncTx(() -> {
 			if (ac.getUser().hasAdminRole()) {
-				searchProvider.clear();
-
-				// Iterate over all index handlers update the index
-				for (IndexHandler<?> handler : registry.getHandlers()) {
-					// Create all indices and mappings
-					handler.init().await();
-					searchProvider.refreshIndex();
-					handler.reindexAll().await();
+				Job job = boot.get().jobRoot().enqueueReindex(ac.getUser());
+				if (waitForIndex) {
+					job.process();
 				}
 				return Single.just(message(ac, "search_admin_reindex_invoked"));
 			} else {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
-		}).subscribe(message -> ac.send(message, OK), ac::fail);
+		}).subscribe(message -> {
+			if (!waitForIndex) {
+				Mesh.vertx().eventBus().send(JOB_WORKER_ADDRESS, null);
+			}
+			ac.send(message, OK);
+		}, ac::fail);
 	}
 
 }
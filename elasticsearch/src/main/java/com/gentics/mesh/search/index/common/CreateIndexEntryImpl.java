@@ -10,8 +10,10 @@ import com.gentics.mesh.core.data.search.SearchQueueEntryAction;
 import com.gentics.mesh.core.data.search.context.GenericEntryContext;
 import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
 import com.gentics.mesh.core.rest.schema.Schema;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.search.index.entry.AbstractEntry;
 
+import io.vertx.core.json.JsonObject;
 import rx.Completable;
 
 /**
@@ -62,6 +64,18 @@ public class CreateIndexEntryImpl extends AbstractEntry<GenericEntryContext> imp
 		return context;
 	}
 
+	@Override
+	public JsonObject toJson() {
+		JsonObject json = new JsonObject();
+		json.put("action", getElementAction().getName());
+		json.put("indexName", indexName);
+		json.put("elementType", indexHandler.getElementClass().getName());
+		if (schema != null) {
+			json.put("schema", new JsonObject(JsonUtil.toJson(schema)));
+		}
+		return json;
+	}
+
 	@Override
 	public String toString() {
 		return "Create Index Entry - indexName: " + getIndexName() + " handler: " + indexHandler.getClass().getSimpleName();
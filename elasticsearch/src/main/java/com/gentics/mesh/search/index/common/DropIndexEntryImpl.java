@@ -8,6 +8,7 @@ import com.gentics.mesh.core.data.search.DropIndexEntry;
 import com.gentics.mesh.core.data.search.context.GenericEntryContext;
 import com.gentics.mesh.search.index.entry.AbstractEntry;
 
+import io.vertx.core.json.JsonObject;
 import rx.Completable;
 
 /**
@@ -41,6 +42,14 @@ public class DropIndexEntryImpl extends AbstractEntry<GenericEntryContext> imple
 		return handler.dropIndex(this);
 	}
 
+	@Override
+	public JsonObject toJson() {
+		JsonObject json = new JsonObject();
+		json.put("action", getElementAction().getName());
+		json.put("indexName", indexName);
+		return json;
+	}
+
 	@Override
 	public String toString() {
 		return "Drop Entry - indexName: " + getIndexName() + " for handler: " + handler.getClass().getSimpleName();
@@ -1,10 +1,13 @@
 package com.gentics.mesh.search.index.entry;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.STORE_ACTION;
 import static com.gentics.mesh.search.SearchProvider.DEFAULT_TYPE;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -16,6 +19,7 @@ import com.gentics.mesh.core.data.search.IndexHandler;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
+import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.search.SearchProvider;
@@ -23,6 +27,7 @@ import com.gentics.mesh.search.index.MappingProvider;
 import com.gentics.mesh.search.index.Transformer;
 import com.syncleus.ferma.tx.Tx;
 
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import rx.Completable;
@@ -98,10 +103,45 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 			if (log.isDebugEnabled()) {
 				log.debug("Stored object in index.");
 			}
-			searchProvider.refreshIndex();
 		});
 	}
 
+	@Override
+	public Map<String, Map<String, JsonObject>> createDocuments(List<String> uuids, String projectUuid, String releaseUuid) {
+		Map<String, Map<String, JsonObject>> documents = new HashMap<>();
+		for (String uuid : uuids) {
+			T element = getRootVertex().findByUuid(uuid);
+			if (element == null) {
+				// The element has been deleted in the meantime
+				if (log.isDebugEnabled()) {
+					log.debug("Element {" + uuid + "} no longer exists. Omitting its documents.");
+				}
+				continue;
+			}
+			// Each entry needs its own context since the handlers may modify it
+			GenericEntryContextImpl context = new GenericEntryContextImpl();
+			context.setProjectUuid(projectUuid);
+			context.setReleaseUuid(releaseUuid);
+			addDocuments(documents, element, new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION));
+		}
+		return documents;
+	}
+
+	/**
+	 * Add the documents of the element to the given map of documents.
+	 * 
+	 * @param documents
+	 *            Documents grouped by their index name and their document id
+	 * @param element
+	 * @param entry
+	 *            Entry which provides the context of the documents
+	 */
+	protected void addDocuments(Map<String, Map<String, JsonObject>> documents, T element, UpdateDocumentEntry entry) {
+		String indexName = composeIndexNameFromEntry(entry);
+		String documentId = composeDocumentIdFromEntry(entry);
+		documents.computeIfAbsent(indexName, k -> new HashMap<>()).put(documentId, getTransformer().toDocument(element));
+	}
+
 	@Override
 	public Completable updatePermission(UpdateDocumentEntry entry) {
 		String uuid = entry.getElementUuid();
@@ -115,7 +155,6 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 				if (log.isDebugEnabled()) {
 					log.debug("Updated object in index.");
 				}
-				searchProvider.refreshIndex();
 			});
 		}
 	}
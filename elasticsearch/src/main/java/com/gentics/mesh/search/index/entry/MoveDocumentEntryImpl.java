@@ -8,6 +8,7 @@ import com.gentics.mesh.core.data.search.MoveDocumentEntry;
 import com.gentics.mesh.core.data.search.context.MoveEntryContext;
 import com.gentics.mesh.search.index.node.NodeIndexHandler;
 
+import io.vertx.core.json.JsonObject;
 import rx.Completable;
 
 /**
@@ -33,4 +34,15 @@ public class MoveDocumentEntryImpl extends AbstractEntry<MoveEntryContext> imple
 		}
 	}
 
+	@Override
+	public JsonObject toJson() {
+		JsonObject json = new JsonObject();
+		json.put("action", getElementAction().getName());
+		json.put("releaseUuid", context.getReleaseUuid());
+		json.put("containerType", context.getContainerType().getCode());
+		json.put("oldContainerUuid", context.getOldContainer().getUuid());
+		json.put("newContainerUuid", context.getNewContainer().getUuid());
+		return json;
+	}
+
 }
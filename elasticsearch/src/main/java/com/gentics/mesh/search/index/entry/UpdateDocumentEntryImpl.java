@@ -9,6 +9,7 @@ import com.gentics.mesh.core.data.search.SearchQueueEntryAction;
 import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
 import com.gentics.mesh.core.data.search.context.GenericEntryContext;
 
+import io.vertx.core.json.JsonObject;
 import rx.Completable;
 
 /**
@@ -31,9 +32,21 @@ public class UpdateDocumentEntryImpl extends AbstractEntry<GenericEntryContext>
 	 * @param action
 	 */
 	public UpdateDocumentEntryImpl(IndexHandler<?> indexHandler, IndexableElement element, GenericEntryContext context, SearchQueueEntryAction action) {
+		this(indexHandler, element.getUuid(), context, action);
+	}
+
+	/**
+	 * Create a new batch entry for the element with the given uuid.
+	 * 
+	 * @param indexHandler
+	 * @param elementUuid
+	 * @param context
+	 * @param action
+	 */
+	public UpdateDocumentEntryImpl(IndexHandler<?> indexHandler, String elementUuid, GenericEntryContext context, SearchQueueEntryAction action) {
 		super(action);
 		this.context = context;
-		this.elementUuid = element.getUuid();
+		this.elementUuid = elementUuid;
 		this.indexHandler = indexHandler;
 	}
 
@@ -65,6 +78,24 @@ public class UpdateDocumentEntryImpl extends AbstractEntry<GenericEntryContext>
 		return context;
 	}
 
+	@Override
+	public JsonObject toJson() {
+		JsonObject json = new JsonObject();
+		json.put("action", getElementAction().getName());
+		json.put("elementUuid", elementUuid);
+		json.put("elementType", indexHandler.getElementClass().getName());
+		JsonObject contextJson = new JsonObject();
+		contextJson.put("projectUuid", context.getProjectUuid());
+		contextJson.put("releaseUuid", context.getReleaseUuid());
+		if (context.getContainerType() != null) {
+			contextJson.put("containerType", context.getContainerType().getCode());
+		}
+		contextJson.put("languageTag", context.getLanguageTag());
+		contextJson.put("schemaContainerVersionUuid", context.getSchemaContainerVersionUuid());
+		json.put("context", contextJson);
+		return json;
+	}
+
 	@Override
 	public String toString() {
 		return "Update Entry {" + getElementAction() + "} for {" + elementUuid + "} and handler {" + indexHandler.getClass().getSimpleName()
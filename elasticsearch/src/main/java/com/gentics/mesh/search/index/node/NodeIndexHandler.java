@@ -6,9 +6,11 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.SearchProvider.DEFAULT_TYPE;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -176,9 +178,8 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 				store(obs, node, context);
 			}
 
-			// Now merge all store actions and refresh the affected indices
-			return Observable.from(obs).map(x -> x.toObservable()).flatMap(x -> x).distinct()
-					.doOnNext(indexName -> searchProvider.refreshIndex(indexName)).toCompletable();
+			// Now merge all store actions. The affected indices are refreshed by the bulk requests.
+			return Observable.from(obs).map(x -> x.toObservable()).flatMap(x -> x).toCompletable();
 		});
 	}
 
@@ -300,6 +301,61 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 		return searchProvider.storeDocument(indexName, documentId, doc).andThen(Single.just(indexName));
 	}
 
+	/**
+	 * Generate the documents for the draft and published containers of the given nodes and store them in the indices of the release. The documents are
+	 * grouped by their index so that each index is updated using a single batch. The documents are generated right away and this method must thus be invoked
+	 * within a transaction.
+	 * 
+	 * @param projectUuid
+	 * @param releaseUuid
+	 * @param nodes
+	 * @return Completable which is completed once all documents have been stored
+	 */
+	public Completable storeNodes(String projectUuid, String releaseUuid, List<? extends Node> nodes) {
+		Map<String, Map<String, JsonObject>> documentsPerIndex = new HashMap<>();
+		for (Node node : nodes) {
+			addDocuments(documentsPerIndex, node, projectUuid, releaseUuid);
+		}
+		List<Completable> actions = new ArrayList<>();
+		for (Map.Entry<String, Map<String, JsonObject>> entry : documentsPerIndex.entrySet()) {
+			actions.add(searchProvider.storeDocumentBatch(entry.getKey(), entry.getValue()));
+		}
+		return Completable.merge(actions);
+	}
+
+	@Override
+	protected void addDocuments(Map<String, Map<String, JsonObject>> documents, Node node, UpdateDocumentEntry entry) {
+		String projectUuid = node.getProject().getUuid();
+		String releaseUuid = entry.getContext().getReleaseUuid();
+		if (releaseUuid == null) {
+			for (Release release : node.getProject().getReleaseRoot().findAllIt()) {
+				addDocuments(documents, node, projectUuid, release.getUuid());
+			}
+		} else {
+			addDocuments(documents, node, projectUuid, releaseUuid);
+		}
+	}
+
+	/**
+	 * Add the documents for the draft and published containers of the node in the given release to the map of documents.
+	 * 
+	 * @param documents
+	 *            Documents grouped by their index name and their document id
+	 * @param node
+	 * @param projectUuid
+	 * @param releaseUuid
+	 */
+	private void addDocuments(Map<String, Map<String, JsonObject>> documents, Node node, String projectUuid, String releaseUuid) {
+		for (ContainerType type : Arrays.asList(DRAFT, PUBLISHED)) {
+			for (NodeGraphFieldContainer container : node.getGraphFieldContainers(releaseUuid, type)) {
+				String indexName = NodeGraphFieldContainer.composeIndexName(projectUuid, releaseUuid, container.getSchemaContainerVersion().getUuid(),
+						type);
+				String documentId = NodeGraphFieldContainer.composeDocumentId(node.getUuid(), container.getLanguage().getLanguageTag());
+				documents.computeIfAbsent(indexName, k -> new HashMap<>()).put(documentId, transformer.toDocument(container, releaseUuid, type));
+			}
+		}
+	}
+
 	@Override
 	public GraphPermission getReadPermission(InternalActionContext ac) {
 		switch (ContainerType.forVersion(ac.getVersioningParameters().getVersion())) {
@@ -339,7 +395,6 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 				if (log.isDebugEnabled()) {
 					log.debug("Updated object in index.");
 				}
-				searchProvider.refreshIndex(list.stream().toArray(String[]::new));
 			}).toCompletable();
 		}
 	}
@@ -1,5 +1,6 @@
 package com.gentics.mesh.search.index.node;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.Set;
@@ -63,6 +64,15 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 		this.boot = boot;
 	}
 
+	@Override
+	protected GraphPermission[] getReadPermissions(InternalActionContext ac) {
+		// Published contents may also be read using the read published permission. The check will also grant access if the read permission is set.
+		if (ContainerType.forVersion(ac.getVersioningParameters().getVersion()) == ContainerType.PUBLISHED) {
+			return new GraphPermission[] { READ_PUBLISHED_PERM };
+		}
+		return super.getReadPermissions(ac);
+	}
+
 	/**
 	 * Invoke the given query and return a page of node containers.
 	 * 
@@ -21,6 +21,7 @@ import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
 
+import io.vertx.core.json.JsonObject;
 import rx.Completable;
 
 /**
@@ -70,6 +71,12 @@ public class TagIndexHandler extends AbstractIndexHandler<Tag> {
 		return Tag.composeIndexName(entry.getContext().getProjectUuid());
 	}
 
+	@Override
+	protected void addDocuments(Map<String, Map<String, JsonObject>> documents, Tag tag, UpdateDocumentEntry entry) {
+		entry.getContext().setProjectUuid(tag.getProject().getUuid());
+		super.addDocuments(documents, tag, entry);
+	}
+
 	@Override
 	public Completable store(Tag tag, UpdateDocumentEntry entry) {
 		entry.getContext().setProjectUuid(tag.getProject().getUuid());
@@ -21,6 +21,7 @@ import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
 
+import io.vertx.core.json.JsonObject;
 import rx.Completable;
 
 @Singleton
@@ -62,6 +63,12 @@ public class TagFamilyIndexHandler extends AbstractIndexHandler<TagFamily> {
 		return TagFamily.composeIndexName(entry.getContext().getProjectUuid());
 	}
 
+	@Override
+	protected void addDocuments(Map<String, Map<String, JsonObject>> documents, TagFamily tagFamily, UpdateDocumentEntry entry) {
+		entry.getContext().setProjectUuid(tagFamily.getProject().getUuid());
+		super.addDocuments(documents, tagFamily, entry);
+	}
+
 	@Override
 	public Completable store(TagFamily tagFamily, UpdateDocumentEntry entry) {
 		entry.getContext().setProjectUuid(tagFamily.getProject().getUuid());
@@ -0,0 +1,124 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.gentics.mesh.graphql.GraphQLResponseWriter;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaStore;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true)
+public class GraphQLEndpointPerformanceTest extends AbstractMeshTest {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLEndpointPerformanceTest.class);
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	private static final String SMALL_QUERY = "{ me { username } }";
+
+	private static final String NODES_QUERY = "{ nodes(perPage: 100) { elements { uuid parent { uuid } breadcrumb { uuid } tags { elements { name } } editor { username } creator { username } } } }";
+
+	@Test
+	public void testSmallQuery() {
+		// Measure the query overhead when the schema must be built for every query
+		loggingStopWatch(logger, "graphql.small-query-uncached-schema", 500, (step) -> {
+			GraphQLSchemaStore.invalidate();
+			call(() -> client().graphqlQuery(PROJECT_NAME, SMALL_QUERY));
+		});
+
+		// Now measure the overhead when the cached schema can be used
+		loggingStopWatch(logger, "graphql.small-query-cached-schema", 500, (step) -> {
+			call(() -> client().graphqlQuery(PROJECT_NAME, SMALL_QUERY));
+		});
+	}
+
+	@Test
+	public void testNodesQuery() {
+		// The parents, breadcrumbs, tags and editors of all nodes of the page will be loaded in batches
+		loggingStopWatch(logger, "graphql.nodes-query", 200, (step) -> {
+			call(() -> client().graphqlQuery(PROJECT_NAME, NODES_QUERY));
+		});
+	}
+
+	@Test
+	public void testResponseSerialization() {
+		Map<String, Object> data = createLargeResult(1000);
+		int steps = 200;
+
+		// The previous approach serialized the result into a string, parsed it again and serialized the response object
+		long allocated = allocatedBytes();
+		loggingStopWatch(logger, "graphql.response-serialization-json-object", steps, (step) -> {
+			JsonObject response = new JsonObject();
+			response.put("data", new JsonObject(JsonUtil.toJson(data)));
+			response.toString();
+		});
+		logAllocation("graphql.response-serialization-json-object", allocatedBytes() - allocated, steps);
+
+		// Now write the result directly into the buffer
+		allocated = allocatedBytes();
+		loggingStopWatch(logger, "graphql.response-serialization-streaming", steps, (step) -> {
+			GraphQLResponseWriter.write(null, data);
+		});
+		logAllocation("graphql.response-serialization-streaming", allocatedBytes() - allocated, steps);
+	}
+
+	/**
+	 * Create a result which resembles the result of a query for a large content page.
+	 * 
+	 * @param size
+	 *            Amount of nodes within the page
+	 * @return
+	 */
+	private Map<String, Object> createLargeResult(int size) {
+		List<Object> elements = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			Map<String, Object> fields = new HashMap<>();
+			fields.put("slug", "content_" + i + ".html");
+			fields.put("title", "Title of content " + i);
+			fields.put("teaser", "Teaser of content " + i);
+			fields.put("content", "<p>Some longer content of content " + i + " which contains some markup.</p>");
+			Map<String, Object> node = new HashMap<>();
+			node.put("uuid", String.format("%032d", i));
+			node.put("version", "1.0");
+			node.put("isPublished", true);
+			node.put("fields", fields);
+			elements.add(node);
+		}
+		Map<String, Object> nodes = new HashMap<>();
+		nodes.put("totalCount", size);
+		nodes.put("elements", elements);
+		Map<String, Object> data = new HashMap<>();
+		data.put("nodes", nodes);
+		return data;
+	}
+
+	private long allocatedBytes() {
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private void logAllocation(String name, long allocatedBytes, int steps) {
+		double perStepInKb = allocatedBytes / (double) steps / 1024;
+		logger.log(name + ".allocated-kb", perStepInKb);
+		logger.flush();
+		log.info("[" + name + "] Allocated per step: " + perStepInKb + " [KB]");
+	}
+
+}
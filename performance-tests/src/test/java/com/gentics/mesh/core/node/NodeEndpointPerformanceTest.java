@@ -4,6 +4,11 @@ import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+import static com.gentics.mesh.test.util.MeshAssert.assertSuccess;
+import static com.gentics.mesh.test.util.MeshAssert.latchFor;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -15,6 +20,7 @@ import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.impl.NavigationParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.rest.client.MeshResponse;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.performance.StopWatchLogger;
@@ -60,6 +66,30 @@ public class NodeEndpointPerformanceTest extends AbstractMeshTest {
 		});
 	}
 
+	@Test
+	public void testReadChildren() {
+		addNodes();
+		String uuid = db().tx(() -> folder("news").getUuid());
+		loggingStopWatch(logger, "node.read-children-25", 200, (step) -> {
+			call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl().setPerPage(25)));
+		});
+	}
+
+	@Test
+	public void testReadSingleConcurrent() {
+		String uuid = db().tx(() -> folder("news").getUuid());
+		loggingStopWatch(logger, "node.read-by-uuid-concurrent-10", 500, (step) -> {
+			List<MeshResponse<NodeResponse>> futures = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				futures.add(client().findNodeByUuid(PROJECT_NAME, uuid).invoke());
+			}
+			for (MeshResponse<NodeResponse> future : futures) {
+				latchFor(future);
+				assertSuccess(future);
+			}
+		});
+	}
+
 	@Test
 	public void testReadSingle() {
 		String uuid = db().tx(() -> folder("news").getUuid());
@@ -0,0 +1,109 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.TestSize.FULL;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.data.Language;
+import com.gentics.mesh.core.data.Release;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.schema.RemoveFieldChange;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.core.data.schema.impl.RemoveFieldChangeImpl;
+import com.gentics.mesh.core.data.schema.impl.SchemaContainerImpl;
+import com.gentics.mesh.core.data.schema.impl.SchemaContainerVersionImpl;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.core.rest.schema.impl.SchemaModelImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+import com.syncleus.ferma.tx.Tx;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = false)
+public class NodeMigrationPerformanceTest extends AbstractMeshTest {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeMigrationPerformanceTest.class);
+
+	private static final int CONTAINER_COUNT = 100_000;
+
+	private static final int BATCH_SIZE = 1000;
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	@Test
+	public void testMigrateRenamedField() {
+		SchemaContainerVersion versionA;
+		SchemaContainerVersion versionB;
+		try (Tx tx = tx()) {
+			SchemaContainer container = tx.getGraph().addFramedVertex(SchemaContainerImpl.class);
+			boot().schemaContainerRoot().addSchemaContainer(user(), container);
+			versionA = createVersion(container, "1.0", FieldUtil.createStringFieldSchema("oldname"));
+			versionB = createVersion(container, "2.0", FieldUtil.createStringFieldSchema("newname"));
+
+			// The removed field is renamed by the script
+			RemoveFieldChange change = tx.getGraph().addFramedVertex(RemoveFieldChangeImpl.class);
+			change.setFieldName("oldname");
+			change.setCustomMigrationScript(
+					"function migrate(node, fieldname, convert) {node.fields['newname'] = node.fields[fieldname]; delete node.fields[fieldname]; return node;}");
+			change.setPreviousContainerVersion(versionA);
+			change.setNextSchemaContainerVersion(versionB);
+			versionA.setNextVersion(versionB);
+			container.setLatestVersion(versionB);
+
+			project().getLatestRelease().assignSchemaVersion(user(), versionA);
+			tx.success();
+		}
+
+		for (int i = 0; i < CONTAINER_COUNT; i += BATCH_SIZE) {
+			int offset = i;
+			try (Tx tx = tx()) {
+				User user = user();
+				Language english = english();
+				Release release = project().getLatestRelease();
+				Node parentNode = folder("2015");
+				for (int n = offset; n < offset + BATCH_SIZE; n++) {
+					Node node = parentNode.create(user, versionA, project());
+					node.createGraphFieldContainer(english, release, user).createString("oldname").setString("value " + n);
+				}
+				tx.success();
+			}
+		}
+
+		try (Tx tx = tx()) {
+			project().getLatestRelease().assignSchemaVersion(user(), versionB);
+			tx.success();
+		}
+
+		try (Tx tx = tx()) {
+			long start = System.currentTimeMillis();
+			meshDagger().nodeMigrationHandler().migrateNodes(project(), project().getLatestRelease(), versionA, versionB, null).await();
+			long duration = System.currentTimeMillis() - start;
+			logger.log("node.migrate-rename-100k", duration);
+			logger.flush();
+			log.info("[node.migrate-rename-100k] Took: " + duration + " [ms]");
+			log.info("[node.migrate-rename-100k] Avg container: " + ((double) duration / CONTAINER_COUNT) + " [ms]");
+		}
+	}
+
+	private SchemaContainerVersion createVersion(SchemaContainer container, String version, FieldSchema field) {
+		SchemaModel schema = new SchemaModelImpl();
+		schema.setName("migratedSchema");
+		schema.setVersion(version);
+		schema.addField(field);
+		schema.validate();
+
+		SchemaContainerVersion containerVersion = Tx.getActive().getGraph().addFramedVertex(SchemaContainerVersionImpl.class);
+		containerVersion.setName("migratedSchema");
+		containerVersion.setSchema(schema);
+		containerVersion.setSchemaContainer(container);
+		return containerVersion;
+	}
+
+}
@@ -16,6 +16,7 @@ import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -128,4 +129,48 @@ public class NodeSearchPerformanceTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testSearchPageSizes() throws Exception {
+		try (Tx tx = db().tx()) {
+			recreateIndices();
+		}
+
+		String uuid = db().tx(() -> folder("news").getUuid());
+		int total = 1000;
+		for (int i = 0; i < total; i++) {
+			NodeCreateRequest request = new NodeCreateRequest();
+			request.setLanguage("en");
+			request.setParentNodeUuid(uuid);
+			request.setSchema(new SchemaReferenceImpl().setName("content"));
+			request.getFields().put("name", FieldUtil.createStringField("someNode_" + i));
+			request.getFields().put("content", FieldUtil.createHtmlField("someContent"));
+			call(() -> client().createNode(PROJECT_NAME, request));
+			if (i % 100 == 0) {
+				log.info("Created " + i + " of " + total + " nodes.");
+			}
+		}
+
+		String json = "{";
+		json += "				\"sort\" : {";
+		json += "			      \"created\" : {\"order\" : \"asc\"}";
+		json += "			    },";
+		json += "			    \"query\":{";
+		json += "			        \"bool\" : {";
+		json += "			            \"must\" : {";
+		json += "			                \"term\" : { \"schema.name.raw\" : \"content\" }";
+		json += "			            }";
+		json += "			        }";
+		json += "			    }";
+		json += "			}";
+
+		String search = json;
+		for (int perPage : new int[] { 25, 100, 1000 }) {
+			loggingStopWatch(logger, "node.search-page-size-" + perPage, 100, (step) -> {
+				NodeListResponse response = call(() -> client().searchNodes(PROJECT_NAME, search, new PagingParametersImpl().setPerPage(perPage),
+						new VersioningParametersImpl().draft()));
+				assertEquals(perPage, response.getData().size());
+			});
+		}
+	}
+
 }
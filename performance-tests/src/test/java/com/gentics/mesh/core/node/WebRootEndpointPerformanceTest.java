@@ -0,0 +1,71 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true)
+public class WebRootEndpointPerformanceTest extends AbstractMeshTest {
+
+	private static final int WIDTH = 1000;
+
+	private static final int DEPTH = 4;
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	private String createFolder(String parentUuid, String slug) {
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNodeUuid(parentUuid);
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.getFields().put("name", FieldUtil.createStringField(slug));
+		request.getFields().put("slug", FieldUtil.createStringField(slug));
+		NodeResponse response = call(() -> client().createNode(PROJECT_NAME, request));
+		call(() -> client().publishNode(PROJECT_NAME, response.getUuid()));
+		return response.getUuid();
+	}
+
+	/**
+	 * Create a deep path in which each level contains many siblings.
+	 *
+	 * @return Path to the deepest folder
+	 */
+	private String addNodes() {
+		String parentUuid = db().tx(() -> project().getBaseNode().getUuid());
+		StringBuilder path = new StringBuilder();
+		for (int level = 0; level < DEPTH; level++) {
+			for (int i = 0; i < WIDTH / DEPTH; i++) {
+				createFolder(parentUuid, "sibling_" + level + "_" + i);
+			}
+			String slug = "level_" + level;
+			parentUuid = createFolder(parentUuid, slug);
+			path.append("/").append(slug);
+		}
+		return path.toString();
+	}
+
+	@Test
+	public void testResolveDeepPath() {
+		String path = addNodes();
+		loggingStopWatch(logger, "webroot.resolve-deep-path-draft", 1000, (step) -> {
+			call(() -> client().webroot(PROJECT_NAME, path, new VersioningParametersImpl().draft()));
+		});
+
+		loggingStopWatch(logger, "webroot.resolve-deep-path-published", 1000, (step) -> {
+			call(() -> client().webroot(PROJECT_NAME, path, new VersioningParametersImpl().published()));
+		});
+	}
+
+}
@@ -24,6 +24,14 @@ public class PagingMetaInfo {
 	@JsonPropertyDescription("Number of all elements which could be found.")
 	private long totalCount;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates that the counting stopped at the count limit. The total count and page count are lower bounds in this case.")
+	private Boolean totalCountLimited;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Cursor which can be used to load the next page via the after parameter. The cursor is only set if there is a next page. The total count and page count are set to -1 if the page was loaded using a cursor or if the counting was disabled.")
+	private String nextCursor;
+
 	public PagingMetaInfo() {
 	}
 
@@ -111,4 +119,45 @@ public class PagingMetaInfo {
 		return this;
 	}
 
+	/**
+	 * Check whether the counting stopped at the count limit.
+	 * 
+	 * @return True if the total count is only a lower bound, otherwise null
+	 */
+	public Boolean getTotalCountLimited() {
+		return totalCountLimited;
+	}
+
+	/**
+	 * Set the flag which indicates that the counting stopped at the count limit.
+	 * 
+	 * @param totalCountLimited
+	 * @return Fluent API
+	 */
+	public PagingMetaInfo setTotalCountLimited(Boolean totalCountLimited) {
+		this.totalCountLimited = totalCountLimited;
+		return this;
+	}
+
+	/**
+	 * Return the cursor of the next page.
+	 * 
+	 * @return Cursor or null if there is no next page
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * Set the cursor of the next page.
+	 * 
+	 * @param nextCursor
+	 *            Cursor of the next page
+	 * @return Fluent API
+	 */
+	public PagingMetaInfo setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+		return this;
+	}
+
 }
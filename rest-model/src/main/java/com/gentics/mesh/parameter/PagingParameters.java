@@ -9,6 +9,8 @@ public interface PagingParameters extends ParameterProvider {
 	public static final String PER_PAGE_PARAMETER_KEY = "perPage";
 	public static final String SORT_BY_PARAMETER_KEY = "sortBy";
 	public static final String SORT_ORDER_PARAMETER_KEY = "order";
+	public static final String AFTER_PARAMETER_KEY = "after";
+	public static final String COUNT_LIMIT_PARAMETER_KEY = "countLimit";
 
 	public static final int DEFAULT_PAGE = 1;
 	public static final int DEFAULT_PAGE_SIZE = 25;
@@ -55,6 +57,48 @@ public interface PagingParameters extends ParameterProvider {
 		return this;
 	}
 
+	/**
+	 * Return the cursor after which the page should start. The cursor of the next page is contained in the paging meta info of a list response.
+	 * 
+	 * @return Cursor or null if no cursor was set
+	 */
+	default String getAfter() {
+		return getParameter(AFTER_PARAMETER_KEY);
+	}
+
+	/**
+	 * Set the cursor after which the page should start. The page parameter will be ignored if a cursor has been set.
+	 * 
+	 * @param cursor
+	 *            Cursor of the next page
+	 * @return Fluent API
+	 */
+	default PagingParameters setAfter(String cursor) {
+		setParameter(AFTER_PARAMETER_KEY, cursor);
+		return this;
+	}
+
+	/**
+	 * Return the limit up to which the elements should be counted. A limit of zero disables the counting.
+	 * 
+	 * @return Count limit or null if all elements should be counted
+	 */
+	default Integer getCountLimit() {
+		return NumberUtils.toInteger(getParameter(COUNT_LIMIT_PARAMETER_KEY), null);
+	}
+
+	/**
+	 * Set the limit up to which the elements should be counted.
+	 * 
+	 * @param countLimit
+	 *            Count limit. Zero disables the counting.
+	 * @return Fluent API
+	 */
+	default PagingParameters setCountLimit(int countLimit) {
+		setParameter(COUNT_LIMIT_PARAMETER_KEY, String.valueOf(countLimit));
+		return this;
+	}
+
 	/**
 	 * Return the sort by parameter value.
 	 * 
@@ -1,11 +1,16 @@
 package com.gentics.mesh.graphql;
 
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static graphql.GraphQL.newGraphQL;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -14,9 +19,11 @@ import javax.inject.Singleton;
 import com.syncleus.ferma.tx.Tx;
 import com.gentics.mesh.core.rest.error.PermissionException;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLQueryStore;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaStore;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.BatchLoaders;
 import com.gentics.mesh.graphql.type.QueryTypeProvider;
-import com.gentics.mesh.json.JsonUtil;
 
 import graphql.ExceptionWhileDataFetching;
 import graphql.ExecutionInput;
@@ -24,6 +31,7 @@ import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
 import graphql.language.SourceLocation;
+import graphql.schema.GraphQLSchema;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -34,6 +42,8 @@ public class GraphQLHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GraphQLHandler.class);
 
+	public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+
 	@Inject
 	public QueryTypeProvider typeProvider;
 
@@ -55,14 +65,30 @@ public class GraphQLHandler {
 		try (Tx tx = db.tx()) {
 			JsonObject queryJson = new JsonObject(body);
 			String query = queryJson.getString("query");
-			GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc.getProject())).build();
+			String persistedQueryHash = extractPersistedQueryHash(queryJson);
+			if (persistedQueryHash != null) {
+				query = handlePersistedQuery(persistedQueryHash, query);
+			}
+			if (query == null && persistedQueryHash != null) {
+				JsonObject response = new JsonObject();
+				JsonObject error = new JsonObject().put("message", PERSISTED_QUERY_NOT_FOUND).put("type", PERSISTED_QUERY_NOT_FOUND);
+				error.put("extensions", new JsonObject().put("code", "PERSISTED_QUERY_NOT_FOUND"));
+				response.put("errors", new JsonArray().add(error));
+				gc.send(response.toString(), OK);
+				return;
+			}
+			GraphQLSchema schema = GraphQLSchemaStore.getSchema(gc.getProject(), gc.getRelease(), typeProvider::getRootSchema);
+			GraphQL graphQL = newGraphQL(schema).preparsedDocumentProvider(GraphQLQueryStore.documentProvider(schema)).build();
 			ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(query).context(gc).variables(extractVariables(queryJson))
 					.build();
-			ExecutionResult result = graphQL.execute(executionInput);
+			CompletableFuture<ExecutionResult> future = graphQL.executeAsync(executionInput);
+			// Resolve the elements which were collected by the batch loaders level by level until the query has been executed
+			BatchLoaders.dispatchUntilDone(gc.getDataLoaderRegistry(), future);
+			ExecutionResult result = future.join();
 			List<GraphQLError> errors = result.getErrors();
-			JsonObject response = new JsonObject();
-			addErrors(errors, response);
+			JsonArray jsonErrors = null;
 			if (!errors.isEmpty()) {
+				jsonErrors = toJsonErrors(errors);
 				log.warn("Encountered {" + errors.size() + "} errors while executing query {" + query + "}");
 				if (log.isDebugEnabled()) {
 					for (GraphQLError error : errors) {
@@ -74,13 +100,51 @@ public class GraphQLHandler {
 					}
 				}
 			}
-			if (result.getData() != null) {
-				Map<String, Object> data = (Map<String, Object>) result.getData();
-				response.put("data", new JsonObject(JsonUtil.toJson(data)));
-			}
-			gc.send(response.toString(), OK);
+			// Write the result directly into the response buffer
+			gc.send(GraphQLResponseWriter.write(jsonErrors, result.getData()), OK, APPLICATION_JSON_UTF8);
+		}
+
+	}
+
+	/**
+	 * Extract the SHA-256 hash of a persisted query from the <code>extensions.persistedQuery.sha256Hash</code> property of the request.
+	 *
+	 * @param request
+	 *            The request body
+	 * @return Lowercase hash or null if the request does not reference a persisted query
+	 */
+	private String extractPersistedQueryHash(JsonObject request) {
+		JsonObject extensions = request.getJsonObject("extensions");
+		if (extensions == null) {
+			return null;
+		}
+		JsonObject persistedQuery = extensions.getJsonObject("persistedQuery");
+		if (persistedQuery == null) {
+			return null;
 		}
+		String hash = persistedQuery.getString("sha256Hash");
+		return hash == null ? null : hash.toLowerCase();
+	}
 
+	/**
+	 * Resolve the persisted query. Requests which contain both the query and the hash will be stored so that subsequent requests can reference the query
+	 * by its hash.
+	 *
+	 * @param hash
+	 *            SHA-256 hash of the query
+	 * @param query
+	 *            Query which was sent along with the hash or null if only the hash was sent
+	 * @return Query or null if the referenced persisted query could not be found
+	 */
+	private String handlePersistedQuery(String hash, String query) {
+		if (query == null) {
+			return GraphQLQueryStore.getPersistedQuery(hash);
+		}
+		if (!hash.equals(GraphQLQueryStore.hash(query))) {
+			throw error(BAD_REQUEST, "graphql_error_persisted_query_hash_mismatch", hash);
+		}
+		GraphQLQueryStore.storePersistedQuery(hash, query);
+		return query;
 	}
 
 	/**
@@ -100,48 +164,51 @@ public class GraphQLHandler {
 	}
 
 	/**
-	 * Add the listed errors to the response.
+	 * Transform the listed errors into the JSON errors of the response.
 	 * 
 	 * @param errors
-	 * @param response
+	 * @return
 	 */
-	private void addErrors(List<GraphQLError> errors, JsonObject response) {
-		if (!errors.isEmpty()) {
-			JsonArray jsonErrors = new JsonArray();
-			response.put("errors", jsonErrors);
-			for (GraphQLError error : errors) {
-				JsonObject jsonError = new JsonObject();
-				if (error instanceof ExceptionWhileDataFetching) {
-					ExceptionWhileDataFetching dataError = (ExceptionWhileDataFetching) error;
-					if (dataError.getException() instanceof PermissionException) {
-						PermissionException restException = (PermissionException) dataError.getException();
-						// TODO translate error
-						// TODO add i18n parameters
-						jsonError.put("message", restException.getI18nKey());
-						jsonError.put("type", restException.getType());
-						jsonError.put("elementId", restException.getElementId());
-						jsonError.put("elementType", restException.getElementType());
-					} else {
-						log.error("Error while fetching data.", dataError.getException());
-						jsonError.put("message", dataError.getMessage());
-						jsonError.put("type", dataError.getErrorType());
-					}
+	private JsonArray toJsonErrors(List<GraphQLError> errors) {
+		JsonArray jsonErrors = new JsonArray();
+		for (GraphQLError error : errors) {
+			JsonObject jsonError = new JsonObject();
+			if (error instanceof ExceptionWhileDataFetching) {
+				ExceptionWhileDataFetching dataError = (ExceptionWhileDataFetching) error;
+				Throwable exception = dataError.getException();
+				// Errors of batched fetchers are wrapped by the future
+				if (exception instanceof CompletionException && exception.getCause() != null) {
+					exception = exception.getCause();
+				}
+				if (exception instanceof PermissionException) {
+					PermissionException restException = (PermissionException) exception;
+					// TODO translate error
+					// TODO add i18n parameters
+					jsonError.put("message", restException.getI18nKey());
+					jsonError.put("type", restException.getType());
+					jsonError.put("elementId", restException.getElementId());
+					jsonError.put("elementType", restException.getElementType());
 				} else {
-					jsonError.put("message", error.getMessage());
-					jsonError.put("type", error.getErrorType());
-					if (error.getLocations() != null && !error.getLocations().isEmpty()) {
-						JsonArray errorLocations = new JsonArray();
-						jsonError.put("locations", errorLocations);
-						for (SourceLocation location : error.getLocations()) {
-							JsonObject errorLocation = new JsonObject();
-							errorLocation.put("line", location.getLine());
-							errorLocation.put("column", location.getColumn());
-							errorLocations.add(errorLocation);
-						}
+					log.error("Error while fetching data.", exception);
+					jsonError.put("message", dataError.getMessage());
+					jsonError.put("type", dataError.getErrorType());
+				}
+			} else {
+				jsonError.put("message", error.getMessage());
+				jsonError.put("type", error.getErrorType());
+				if (error.getLocations() != null && !error.getLocations().isEmpty()) {
+					JsonArray errorLocations = new JsonArray();
+					jsonError.put("locations", errorLocations);
+					for (SourceLocation location : error.getLocations()) {
+						JsonObject errorLocation = new JsonObject();
+						errorLocation.put("line", location.getLine());
+						errorLocation.put("column", location.getColumn());
+						errorLocations.add(errorLocation);
 					}
 				}
-				jsonErrors.add(jsonError);
 			}
+			jsonErrors.add(jsonError);
 		}
+		return jsonErrors;
 	}
 }
@@ -0,0 +1,59 @@
+package com.gentics.mesh.graphql;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Writer which serializes the result of a GraphQL query directly into a response buffer. The result data is written using a streaming generator of the
+ * default mapper. This way no intermediate JSON string or {@link io.vertx.core.json.JsonObject} needs to be created for the (possibly large) result.
+ */
+public final class GraphQLResponseWriter {
+
+	private GraphQLResponseWriter() {
+	}
+
+	/**
+	 * Write the GraphQL response into a new buffer.
+	 *
+	 * @param errors
+	 *            Errors which should be added to the response or null if no errors occurred
+	 * @param data
+	 *            Result data of the query or null if the query did not return any data
+	 * @return Buffer which contains the JSON response
+	 */
+	public static Buffer write(JsonArray errors, Object data) {
+		ByteBuf byteBuf = Unpooled.buffer();
+		try (OutputStream out = new ByteBufOutputStream(byteBuf)) {
+			try (JsonGenerator gen = JsonUtil.getMapper().getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+				gen.writeStartObject();
+				if (errors != null) {
+					gen.writeFieldName("errors");
+					gen.writeObject(errors);
+				}
+				if (data != null) {
+					gen.writeFieldName("data");
+					gen.writeObject(data);
+				}
+				gen.writeEndObject();
+			}
+		} catch (IOException e) {
+			byteBuf.release();
+			throw error(INTERNAL_SERVER_ERROR, "graphql_error_writing_response", e);
+		}
+		return Buffer.buffer(byteBuf);
+	}
+
+}
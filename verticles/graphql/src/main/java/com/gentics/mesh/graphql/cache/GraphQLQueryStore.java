@@ -0,0 +1,149 @@
+package com.gentics.mesh.graphql.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.gentics.mesh.util.FileUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.schema.GraphQLSchema;
+
+/**
+ * Central LRU cache for parsed and validated GraphQL documents and for persisted queries.
+ *
+ * Parsed documents are keyed by the SHA-256 hash of the query and the identity of the GraphQL schema against which the document was validated. Persisted
+ * queries map the SHA-256 hash of a query to the query itself. This way clients only need to send the full query once and can afterwards reference it by
+ * its hash.
+ */
+public final class GraphQLQueryStore {
+
+	public static final Cache<DocumentKey, PreparsedDocumentEntry> DOCUMENT_CACHE = Caffeine.newBuilder().maximumSize(1_000).recordStats().build();
+
+	public static final Cache<String, String> PERSISTED_QUERY_CACHE = Caffeine.newBuilder().maximumSize(10_000).recordStats().build();
+
+	/**
+	 * Return a document provider which will load parsed and validated documents for the given schema from the cache.
+	 *
+	 * @param schema
+	 *            Schema against which the documents will be validated
+	 * @return
+	 */
+	public static PreparsedDocumentProvider documentProvider(GraphQLSchema schema) {
+		return (query, computeFunction) -> {
+			if (query == null) {
+				return computeFunction.apply(query);
+			}
+			return DOCUMENT_CACHE.get(new DocumentKey(schema, hash(query)), k -> computeFunction.apply(query));
+		};
+	}
+
+	/**
+	 * Return the persisted query for the given hash.
+	 *
+	 * @param hash
+	 *            SHA-256 hash of the query
+	 * @return Found query or null if the query is not known
+	 */
+	public static String getPersistedQuery(String hash) {
+		return PERSISTED_QUERY_CACHE.getIfPresent(hash);
+	}
+
+	/**
+	 * Store the query so that it can be referenced via the hash in subsequent requests.
+	 *
+	 * @param hash
+	 *            SHA-256 hash of the query
+	 * @param query
+	 */
+	public static void storePersistedQuery(String hash, String query) {
+		PERSISTED_QUERY_CACHE.put(hash, query);
+	}
+
+	/**
+	 * Return the hit and miss statistics of the parsed document cache.
+	 *
+	 * @return
+	 */
+	public static CacheStats getDocumentStats() {
+		return DOCUMENT_CACHE.stats();
+	}
+
+	/**
+	 * Return the hit and miss statistics of the persisted query cache.
+	 *
+	 * @return
+	 */
+	public static CacheStats getPersistedQueryStats() {
+		return PERSISTED_QUERY_CACHE.stats();
+	}
+
+	/**
+	 * Remove all parsed documents which were validated against the given schema.
+	 *
+	 * @param schema
+	 */
+	public static void invalidate(GraphQLSchema schema) {
+		DOCUMENT_CACHE.asMap().keySet().removeIf(key -> key.schema == schema);
+	}
+
+	/**
+	 * Invalidate all cached documents and persisted queries.
+	 */
+	public static void invalidate() {
+		DOCUMENT_CACHE.invalidateAll();
+		PERSISTED_QUERY_CACHE.invalidateAll();
+	}
+
+	/**
+	 * Generate the hex encoded SHA-256 hash of the given query.
+	 *
+	 * @param query
+	 * @return
+	 */
+	public static String hash(String query) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			return FileUtils.bytesToHex(md.digest(query.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("Could not hash GraphQL query", e);
+		}
+	}
+
+	/**
+	 * Key for cached documents. The schema is compared by identity since the document was validated against this specific instance.
+	 */
+	public static final class DocumentKey {
+
+		private final GraphQLSchema schema;
+
+		private final String queryHash;
+
+		public DocumentKey(GraphQLSchema schema, String queryHash) {
+			this.schema = schema;
+			this.queryHash = queryHash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof DocumentKey)) {
+				return false;
+			}
+			DocumentKey other = (DocumentKey) obj;
+			return schema == other.schema && queryHash.equals(other.queryHash);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(schema) + queryHash.hashCode();
+		}
+	}
+
+}
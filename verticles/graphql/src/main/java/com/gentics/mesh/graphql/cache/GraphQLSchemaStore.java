@@ -0,0 +1,173 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.Events.EVENT_MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.Events.EVENT_PROJECT_UPDATED;
+import static com.gentics.mesh.Events.EVENT_RELEASE_UPDATED;
+import static com.gentics.mesh.Events.EVENT_SCHEMA_UPDATED;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.Release;
+import com.gentics.mesh.core.data.schema.MicroschemaContainer;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import graphql.schema.GraphQLSchema;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for compiled GraphQL schemas. Building the schema requires the creation of all types for the schemas and microschemas of a project and
+ * is thus too expensive to be done for every query. The cache key contains the project, the release and the uuids of all schema and microschema versions
+ * which were used to generate the types. A changed schema will thus never be served from a stale entry even if an update event was missed.
+ */
+public final class GraphQLSchemaStore {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLSchemaStore.class);
+
+	public static final Cache<SchemaKey, GraphQLSchema> SCHEMA_CACHE = Caffeine.newBuilder().maximumSize(100).expireAfterAccess(30, TimeUnit.MINUTES)
+			.removalListener((SchemaKey key, GraphQLSchema schema, RemovalCause cause) -> {
+				// Documents which were validated against the removed schema can no longer be used
+				GraphQLQueryStore.invalidate(schema);
+			}).build();
+
+	/**
+	 * Return the cached GraphQL schema for the given project and release. The schema will be created using the provided function if no matching schema
+	 * could be found.
+	 *
+	 * @param project
+	 *            Project for which the schema should be loaded
+	 * @param release
+	 *            Release for which the schema should be loaded
+	 * @param builder
+	 *            Function which will be invoked to build the schema if it was not yet cached
+	 * @return Found or created schema
+	 */
+	public static GraphQLSchema getSchema(Project project, Release release, Function<Project, GraphQLSchema> builder) {
+		SchemaKey key = createCacheKey(project, release);
+		return SCHEMA_CACHE.get(key, k -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Creating GraphQL schema for project {" + k.projectUuid + "} and release {" + k.releaseUuid + "}");
+			}
+			return builder.apply(project);
+		});
+	}
+
+	/**
+	 * Register the event handlers which are used to invalidate the cache. The events will also be received if they were sent by other instances in the
+	 * cluster.
+	 */
+	public static void registerEventHandler() {
+		EventBus eb = Mesh.vertx().eventBus();
+		eb.consumer(EVENT_SCHEMA_UPDATED, e -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing GraphQL schema store due to received event from {" + e.address() + "}");
+			}
+			invalidate();
+		});
+		eb.consumer(EVENT_MICROSCHEMA_UPDATED, e -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing GraphQL schema store due to received event from {" + e.address() + "}");
+			}
+			invalidate();
+		});
+		eb.consumer(EVENT_PROJECT_UPDATED, (Message<JsonObject> e) -> {
+			String uuid = extractUuid(e);
+			if (uuid == null) {
+				invalidate();
+			} else {
+				SCHEMA_CACHE.asMap().keySet().removeIf(key -> key.projectUuid.equals(uuid));
+			}
+		});
+		eb.consumer(EVENT_RELEASE_UPDATED, (Message<JsonObject> e) -> {
+			String uuid = extractUuid(e);
+			if (uuid == null) {
+				invalidate();
+			} else {
+				SCHEMA_CACHE.asMap().keySet().removeIf(key -> key.releaseUuid.equals(uuid));
+			}
+		});
+	}
+
+	/**
+	 * Invalidate all cached schemas.
+	 */
+	public static void invalidate() {
+		SCHEMA_CACHE.invalidateAll();
+	}
+
+	private static String extractUuid(Message<JsonObject> message) {
+		JsonObject body = message.body();
+		return body == null ? null : body.getString("uuid");
+	}
+
+	/**
+	 * Create the cache key for the given project and release.
+	 *
+	 * @param project
+	 * @param release
+	 * @return
+	 */
+	private static SchemaKey createCacheKey(Project project, Release release) {
+		List<String> versions = new ArrayList<>();
+		for (SchemaContainer container : project.getSchemaContainerRoot().findAllIt()) {
+			versions.add(container.getLatestVersion().getUuid());
+		}
+		for (MicroschemaContainer container : project.getMicroschemaContainerRoot().findAllIt()) {
+			versions.add(container.getLatestVersion().getUuid());
+		}
+		Collections.sort(versions);
+		return new SchemaKey(project.getUuid(), release.getUuid(), versions);
+	}
+
+	/**
+	 * Key for cached schemas.
+	 */
+	public static final class SchemaKey {
+
+		private final String projectUuid;
+
+		private final String releaseUuid;
+
+		private final List<String> versionUuids;
+
+		private final int hash;
+
+		public SchemaKey(String projectUuid, String releaseUuid, List<String> versionUuids) {
+			this.projectUuid = projectUuid;
+			this.releaseUuid = releaseUuid;
+			this.versionUuids = versionUuids;
+			this.hash = Objects.hash(projectUuid, releaseUuid, versionUuids);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof SchemaKey)) {
+				return false;
+			}
+			SchemaKey other = (SchemaKey) obj;
+			return projectUuid.equals(other.projectUuid) && releaseUuid.equals(other.releaseUuid) && versionUuids.equals(other.versionUuids);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+}
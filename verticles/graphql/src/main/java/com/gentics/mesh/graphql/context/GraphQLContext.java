@@ -1,9 +1,15 @@
 package com.gentics.mesh.graphql.context;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.graphql.dataloader.BatchLoaders;
 
 /**
  * Extended context for GraphQL handling.
@@ -21,4 +27,36 @@ public interface GraphQLContext extends InternalActionContext {
 	 */
 	<T extends MeshCoreVertex<?, ?>> T requiresPerm(T vertex, GraphPermission... permission);
 
+	/**
+	 * Variant of {@link #requiresPerm(MeshCoreVertex, GraphPermission...)} which will queue the permission check in the batch loader for the permission.
+	 * The permission check will be done once the loaders of the current execution level are dispatched. Checking the
+	 * {@link GraphPermission#READ_PUBLISHED_PERM} will also grant access if the {@link GraphPermission#READ_PERM} was granted.
+	 * 
+	 * @param vertex
+	 *            Element to be checked
+	 * @param permission
+	 *            Either {@link GraphPermission#READ_PERM} or {@link GraphPermission#READ_PUBLISHED_PERM}
+	 * @return Future which yields the provided element or fails with a {@link PermissionException}
+	 */
+	<T extends MeshCoreVertex<?, ?>> CompletableFuture<T> requiresPermAsync(T vertex, GraphPermission permission);
+
+	/**
+	 * Return the registry which contains the batch loaders of this context. The registry will be created on first access.
+	 * 
+	 * @return
+	 * @see BatchLoaders
+	 */
+	DataLoaderRegistry getDataLoaderRegistry();
+
+	/**
+	 * Return the batch loader with the given key.
+	 * 
+	 * @param key
+	 *            Key of the loader (e.g. {@link BatchLoaders#PARENT_LOADER_KEY})
+	 * @return
+	 */
+	default <K, V> DataLoader<K, V> getDataLoader(String key) {
+		return getDataLoaderRegistry().getDataLoader(key);
+	}
+
 }
@@ -2,10 +2,17 @@ package com.gentics.mesh.graphql.context.impl;
 
 import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.MeshCoreVertex;
+import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.BatchLoaders;
 
 import io.vertx.ext.web.RoutingContext;
 
@@ -14,6 +21,8 @@ import io.vertx.ext.web.RoutingContext;
  */
 public class GraphQLContextImpl extends InternalRoutingActionContextImpl implements GraphQLContext {
 
+	private DataLoaderRegistry dataLoaderRegistry;
+
 	public GraphQLContextImpl(RoutingContext rc) {
 		super(rc);
 	}
@@ -28,4 +37,23 @@ public class GraphQLContextImpl extends InternalRoutingActionContextImpl impleme
 		throw missingPerm(vertex.getTypeInfo().getType(), vertex.getUuid());
 	}
 
+	@Override
+	public <T extends MeshCoreVertex<?, ?>> CompletableFuture<T> requiresPermAsync(T vertex, GraphPermission permission) {
+		DataLoader<MeshVertex, Boolean> loader = getDataLoader(BatchLoaders.permissionLoaderKey(permission));
+		return loader.load(vertex).thenApply(granted -> {
+			if (!granted) {
+				throw missingPerm(vertex.getTypeInfo().getType(), vertex.getUuid());
+			}
+			return vertex;
+		});
+	}
+
+	@Override
+	public DataLoaderRegistry getDataLoaderRegistry() {
+		if (dataLoaderRegistry == null) {
+			dataLoaderRegistry = BatchLoaders.createRegistry(this);
+		}
+		return dataLoaderRegistry;
+	}
+
 }
@@ -0,0 +1,195 @@
+package com.gentics.mesh.graphql.dataloader;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.dataloader.BatchLoader;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.DataLoaderRegistry;
+
+import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.Tag;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+/**
+ * Batch loaders which are used to collect the elements which need to be loaded within a single execution level of a GraphQL query. The collected elements
+ * are resolved at once. This way the roles of the user only need to be loaded once for all elements of a level and elements which are shared by multiple
+ * nodes (e.g. parents, breadcrumb nodes or tags) only need to be loaded and checked once.
+ *
+ * Please note that all loaders complete synchronously on the thread which dispatches them. This is required since the graph transaction is bound to the
+ * thread which handles the query.
+ */
+public final class BatchLoaders {
+
+	/**
+	 * Loader which resolves the parent node of a node. Keys: {@link Node}, Values: {@link Node} or null
+	 */
+	public static final String PARENT_LOADER_KEY = "parent";
+
+	/**
+	 * Loader which resolves the breadcrumb nodes of a node. Keys: {@link Node}, Values: List of {@link Node}
+	 */
+	public static final String BREADCRUMB_LOADER_KEY = "breadcrumb";
+
+	/**
+	 * Loader which resolves the tags of a node which are readable by the user. Keys: {@link Node}, Values: List of {@link Tag}
+	 */
+	public static final String TAG_LOADER_KEY = "tags";
+
+	/**
+	 * Loader which checks the read permission. Keys: {@link MeshVertex}, Values: {@link Boolean}
+	 */
+	public static final String READ_PERM_LOADER_KEY = "readPerm";
+
+	/**
+	 * Loader which checks the read published permission (which is also granted by the read permission). Keys: {@link MeshVertex}, Values: {@link Boolean}
+	 */
+	public static final String READ_PUBLISHED_PERM_LOADER_KEY = "readPublishedPerm";
+
+	private BatchLoaders() {
+	}
+
+	/**
+	 * Create a new registry which contains all loaders for the given context. The loaders cache the loaded values for the lifetime of the registry which
+	 * should thus only be used for a single query.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public static DataLoaderRegistry createRegistry(GraphQLContext gc) {
+		DataLoaderRegistry registry = new DataLoaderRegistry();
+		registry.register(PARENT_LOADER_KEY, newLoader(parentLoader(gc)));
+		registry.register(BREADCRUMB_LOADER_KEY, newLoader(breadcrumbLoader(gc)));
+		registry.register(TAG_LOADER_KEY, newLoader(tagLoader(gc)));
+		registry.register(READ_PERM_LOADER_KEY, newLoader(permissionLoader(gc, READ_PERM)));
+		registry.register(READ_PUBLISHED_PERM_LOADER_KEY, newLoader(permissionLoader(gc, READ_PUBLISHED_PERM)));
+		return registry;
+	}
+
+	/**
+	 * Dispatch all loaders of the registry until no more loads are pending. Each dispatch will resolve all keys which were collected within the current
+	 * execution level. Resolving those keys will continue the execution of the query and may thus queue keys for the next level.
+	 *
+	 * @param registry
+	 * @param result
+	 *            Future which will be completed once the query has been executed
+	 */
+	public static void dispatchUntilDone(DataLoaderRegistry registry, CompletableFuture<?> result) {
+		while (!result.isDone() && dispatchDepth(registry) > 0) {
+			registry.dispatchAll();
+		}
+	}
+
+	/**
+	 * Return the key of the loader which can be used to check the given permission.
+	 *
+	 * @param permission
+	 * @return
+	 */
+	public static String permissionLoaderKey(GraphPermission permission) {
+		switch (permission) {
+		case READ_PERM:
+			return READ_PERM_LOADER_KEY;
+		case READ_PUBLISHED_PERM:
+			return READ_PUBLISHED_PERM_LOADER_KEY;
+		default:
+			throw new IllegalArgumentException("No batch loader for permission {" + permission.name() + "}");
+		}
+	}
+
+	private static int dispatchDepth(DataLoaderRegistry registry) {
+		int depth = 0;
+		for (DataLoader<?, ?> loader : registry.getDataLoaders()) {
+			depth += loader.dispatchDepth();
+		}
+		return depth;
+	}
+
+	/**
+	 * Create a new loader which uses the vertex id as cache key.
+	 *
+	 * @param batchLoader
+	 * @return
+	 */
+	private static <K extends MeshVertex, V> DataLoader<K, V> newLoader(BatchLoader<K, V> batchLoader) {
+		DataLoaderOptions options = DataLoaderOptions.newOptions().setCacheKeyFunction(key -> ((MeshVertex) key).getId());
+		return new DataLoader<>(batchLoader, options);
+	}
+
+	private static BatchLoader<Node, Node> parentLoader(GraphQLContext gc) {
+		return nodes -> {
+			String releaseUuid = gc.getRelease().getUuid();
+			List<Node> parents = new ArrayList<>();
+			for (Node node : nodes) {
+				parents.add(node.getParentNode(releaseUuid));
+			}
+			return CompletableFuture.completedFuture(parents);
+		};
+	}
+
+	private static BatchLoader<Node, List<Node>> breadcrumbLoader(GraphQLContext gc) {
+		return nodes -> {
+			// Siblings share the same ancestors. Each parent thus only needs to be resolved once.
+			Map<Object, Node> parents = new HashMap<>();
+			Map<String, Object> baseNodeIds = new HashMap<>();
+			List<List<Node>> breadcrumbs = new ArrayList<>();
+			for (Node node : nodes) {
+				Project project = node.getProject();
+				String releaseUuid = gc.getRelease(project).getUuid();
+				Object baseNodeId = baseNodeIds.computeIfAbsent(project.getUuid(), uuid -> project.getBaseNode().getId());
+				List<Node> breadcrumb = new ArrayList<>();
+				Node current = parents.computeIfAbsent(node.getId(), id -> node.getParentNode(releaseUuid));
+				// Don't add the base node to the breadcrumb
+				while (current != null && !current.getId().equals(baseNodeId)) {
+					breadcrumb.add(current);
+					Node child = current;
+					current = parents.computeIfAbsent(child.getId(), id -> child.getParentNode(releaseUuid));
+				}
+				breadcrumbs.add(breadcrumb);
+			}
+			return CompletableFuture.completedFuture(breadcrumbs);
+		};
+	}
+
+	private static BatchLoader<Node, List<Tag>> tagLoader(GraphQLContext gc) {
+		return nodes -> {
+			List<List<? extends Tag>> tagsPerNode = new ArrayList<>();
+			Set<Object> tagIds = new HashSet<>();
+			for (Node node : nodes) {
+				List<? extends Tag> tags = node.getTags(gc.getRelease());
+				tagsPerNode.add(tags);
+				for (Tag tag : tags) {
+					tagIds.add(tag.getId());
+				}
+			}
+			// Nodes often share the same tags. Check the permissions of all tags at once.
+			Set<Object> readableTagIds = gc.getUser().hasPermissions(tagIds, READ_PERM);
+			List<List<Tag>> result = tagsPerNode.stream().map(tags -> tags.stream().filter(tag -> readableTagIds.contains(tag.getId())).collect(
+					Collectors.<Tag>toList())).collect(Collectors.toList());
+			return CompletableFuture.completedFuture(result);
+		};
+	}
+
+	private static BatchLoader<MeshVertex, Boolean> permissionLoader(GraphQLContext gc, GraphPermission permission) {
+		return elements -> {
+			Set<Object> ids = elements.stream().map(MeshVertex::getId).collect(Collectors.toSet());
+			Set<Object> granted = gc.getUser().hasPermissions(ids, permission);
+			List<Boolean> result = elements.stream().map(element -> granted.contains(element.getId())).collect(Collectors.toList());
+			return CompletableFuture.completedFuture(result);
+		};
+	}
+
+}
@@ -167,7 +167,7 @@ public class InterfaceTypeProvider extends AbstractTypeProvider {
 					} else {
 						vertex = env.getSource();
 					}
-					return gc.requiresPerm(vertex.getCreator(), READ_PERM);
+					return gc.requiresPermAsync(vertex.getCreator(), READ_PERM);
 				}));
 
 		if (!isNode) {
@@ -2,6 +2,9 @@ package com.gentics.mesh.graphql.type;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.graphql.dataloader.BatchLoaders.BREADCRUMB_LOADER_KEY;
+import static com.gentics.mesh.graphql.dataloader.BatchLoaders.PARENT_LOADER_KEY;
+import static com.gentics.mesh.graphql.dataloader.BatchLoaders.TAG_LOADER_KEY;
 import static com.gentics.mesh.graphql.type.SchemaTypeProvider.SCHEMA_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.TagTypeProvider.TAG_PAGE_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.UserTypeProvider.USER_TYPE_NAME;
@@ -14,6 +17,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Stack;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
@@ -21,12 +25,15 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.dataloader.DataLoader;
+
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Release;
+import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.NodeContent;
@@ -89,14 +96,14 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 		GraphQLContext gc = env.getContext();
-		String uuid = gc.getRelease().getUuid();
-		Node parentNode = content.getNode().getParentNode(uuid);
-		// The project root node can have no parent. Lets check this and exit early.
-		if (parentNode == null) {
-			return null;
-		}
-		gc.requiresPerm(parentNode, READ_PERM, READ_PUBLISHED_PERM);
-		return handleLanguageFallback(gc, parentNode, content);
+		DataLoader<Node, Node> parentLoader = gc.getDataLoader(PARENT_LOADER_KEY);
+		return parentLoader.load(content.getNode()).thenCompose(parentNode -> {
+			// The project root node can have no parent. Lets check this and exit early.
+			if (parentNode == null) {
+				return CompletableFuture.<NodeContent>completedFuture(null);
+			}
+			return gc.requiresPermAsync(parentNode, READ_PUBLISHED_PERM).thenApply(node -> handleLanguageFallback(gc, node, content));
+		});
 	}
 
 	public Object nodeLanguageFetcher(DataFetchingEnvironment env) {
@@ -133,9 +140,10 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 
-		return content.getNode().getBreadcrumbNodes(gc).stream().map(node -> {
+		DataLoader<Node, List<Node>> breadcrumbLoader = gc.getDataLoader(BREADCRUMB_LOADER_KEY);
+		return breadcrumbLoader.load(content.getNode()).thenApply(breadcrumb -> breadcrumb.stream().map(node -> {
 			return handleLanguageFallback(gc, node, content);
-		}).collect(Collectors.toList());
+		}).collect(Collectors.toList()));
 	}
 
 	public Object languagesFetcher(DataFetchingEnvironment env) {
@@ -291,8 +299,9 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			if (content == null) {
 				return null;
 			}
-			Node node = content.getNode();
-			return node.getTags(gc.getUser(), getPagingInfo(env), gc.getRelease());
+			PagingParameters pagingInfo = getPagingInfo(env);
+			DataLoader<Node, List<Tag>> tagLoader = gc.getDataLoader(TAG_LOADER_KEY);
+			return tagLoader.load(content.getNode()).thenApply(tags -> Page.applyPaging(tags, pagingInfo));
 		}));
 
 		// TODO Fix name confusion and check what version of schema should be used to determine this type
@@ -432,7 +441,7 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 		User user = content.getContainer().getEditor();
-		return gc.requiresPerm(user, READ_PERM);
+		return gc.requiresPermAsync(user, READ_PERM);
 	}
 
 	/**
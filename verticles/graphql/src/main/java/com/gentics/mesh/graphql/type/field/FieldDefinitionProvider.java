@@ -1,6 +1,5 @@
 package com.gentics.mesh.graphql.type.field;
 
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.graphql.type.NodeTypeProvider.NODE_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.field.MicronodeFieldTypeProvider.MICRONODE_TYPE_NAME;
@@ -344,10 +343,11 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 							// TODO the language should be loaded using the parent node language. Note that we would need to check for micronodes which are not
 							// language specific!
 							List<String> languageTags = getLanguageArgument(env);
-							// Check permissions for the linked node
-							gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
-							NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
-							return new NodeContent(node, container);
+							// Check permissions for the linked node. The check will be batched with the checks for the other fields of the same level.
+							return gc.requiresPermAsync(node, READ_PUBLISHED_PERM).thenApply(linkedNode -> {
+								NodeGraphFieldContainer container = linkedNode.findVersion(gc, languageTags);
+								return new NodeContent(linkedNode, container);
+							});
 						}
 					}
 					return null;